@@ -0,0 +1,104 @@
+package com.SeatAllotment.SeatAllotment.benchmark;
+
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.SeatAllotmentApplication;
+import com.SeatAllotment.SeatAllotment.service.EmployeeSearchIndex;
+import com.SeatAllotment.SeatAllotment.service.EmployeeService;
+import com.SeatAllotment.SeatAllotment.service.SeatOccupancyIndex;
+import com.SeatAllotment.SeatAllotment.service.SeatService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application against an embedded H2 database and seeds {@code seats} seats, the first
+ * {@code employees} of which are occupied. Everything above the occupied range is left VACANT.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    @Param({"2000"})
+    public int seats;
+
+    @Param({"1000"})
+    public int employees;
+
+    @Param({"caffeine"})
+    public String cacheType;
+
+    ConfigurableApplicationContext context;
+    EmployeeService employeeService;
+    SeatService seatService;
+    ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void start() {
+        if (employees >= seats) {
+            throw new IllegalArgumentException("Benchmarks need vacant seats: employees must be < seats");
+        }
+        context = new SpringApplicationBuilder(SeatAllotmentApplication.class)
+                .profiles("bench")
+                // An argument, not a default property: application.properties would override that
+                .run("--spring.cache.type=" + cacheType);
+        employeeService = context.getBean(EmployeeService.class);
+        seatService = context.getBean(SeatService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /** Seat id of the n-th seat (1-based). */
+    static String seatId(int n) {
+        return String.valueOf(n);
+    }
+
+    /** First seat id that is VACANT after seeding. */
+    String firstVacantSeat() {
+        return seatId(employees + 1);
+    }
+
+    private void seed() {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("DELETE FROM employees");
+        jdbc.update("DELETE FROM seats");
+
+        List<Object[]> seatRows = new ArrayList<>(seats);
+        for (int n = 1; n <= seats; n++) {
+            boolean occupied = n <= employees;
+            seatRows.add(new Object[]{seatId(n), occupied ? "OCCUPIED" : "VACANT", occupied ? (long) n : null,
+                    Seat.DEFAULT_BUILDING, Seat.DEFAULT_FLOOR});
+        }
+        jdbc.batchUpdate("INSERT INTO seats (id, status, employee_id, building, floor) VALUES (?, ?, ?, ?, ?)",
+                seatRows);
+
+        String[] departments = {"Engineering", "Finance", "Operations", "Sales", "Support"};
+        List<Object[]> employeeRows = new ArrayList<>(employees);
+        for (int n = 1; n <= employees; n++) {
+            employeeRows.add(new Object[]{(long) n, "Employee " + n, "Analyst",
+                    departments[n % departments.length], seatId(n)});
+        }
+        jdbc.batchUpdate("INSERT INTO employees (employeeid, name, role, department, seat_id) VALUES (?, ?, ?, ?, ?)",
+                employeeRows);
+
+        // The in-memory indexes were built from the empty tables at startup
+        context.getBean(SeatOccupancyIndex.class).reload();
+        context.getBean(EmployeeSearchIndex.class).rebuild();
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
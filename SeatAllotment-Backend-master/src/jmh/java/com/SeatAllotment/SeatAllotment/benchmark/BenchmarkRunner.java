@@ -0,0 +1,158 @@
+package com.SeatAllotment.SeatAllotment.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs every benchmark in this package and compares the result with the committed baseline.
+ * <p>
+ * Arguments:
+ * <ul>
+ *   <li>{@code --save-baseline} – store this run as the new baseline instead of comparing</li>
+ *   <li>{@code --tolerance=<percent>} – allowed regression per metric, default 10</li>
+ *   <li>{@code --include=<regex>} – only run matching benchmarks</li>
+ * </ul>
+ * Exits with status 1 when a throughput score drops or a p99 sample time grows by more than the tolerance.
+ */
+public final class BenchmarkRunner {
+
+    static final Path RESULT = Path.of("target", "jmh-result.json");
+    static final Path BASELINE = Path.of("src", "jmh", "baseline", "jmh-baseline.json");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        boolean saveBaseline = false;
+        double tolerance = 10.0;
+        String include = BenchmarkRunner.class.getPackageName() + "\\..*Benchmark";
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (arg.equals("--save-baseline")) {
+                saveBaseline = true;
+            } else if (arg.startsWith("--tolerance=")) {
+                tolerance = Double.parseDouble(arg.substring("--tolerance=".length()));
+            } else if (arg.startsWith("--include=")) {
+                include = arg.substring("--include=".length());
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        Files.createDirectories(RESULT.getParent());
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                // A benchmark that cannot start must fail the run rather than save or compare an empty result
+                .shouldFailOnError(true)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT.toString());
+        new Runner(options.build()).run();
+
+        if (saveBaseline) {
+            saveBaseline(RESULT, BASELINE);
+            System.out.println("Saved baseline to " + BASELINE);
+            return;
+        }
+        if (!Files.exists(BASELINE)) {
+            System.out.println("No baseline at " + BASELINE + "; run with --save-baseline to create one.");
+            return;
+        }
+
+        List<String> regressions = compare(RESULT, BASELINE, tolerance);
+        if (regressions.isEmpty()) {
+            System.out.printf("No regressions beyond %.1f%% against %s%n", tolerance, BASELINE);
+            return;
+        }
+        System.out.printf("%d regression(s) beyond %.1f%% against %s:%n", regressions.size(), tolerance, BASELINE);
+        regressions.forEach(line -> System.out.println("  " + line));
+        System.exit(1);
+    }
+
+    /**
+     * Matches runs on benchmark name, mode and parameters. Benchmarks missing from either side are ignored.
+     */
+    static List<String> compare(Path current, Path baseline, double tolerancePercent) throws IOException {
+        Map<String, JsonNode> before = index(baseline);
+        Map<String, JsonNode> after = index(current);
+        double limit = tolerancePercent / 100.0;
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : after.entrySet()) {
+            JsonNode old = before.get(entry.getKey());
+            if (old == null) {
+                continue;
+            }
+            JsonNode now = entry.getValue();
+            String mode = now.path("mode").asText();
+            if ("thrpt".equals(mode)) {
+                double was = old.path("primaryMetric").path("score").asDouble();
+                double is = now.path("primaryMetric").path("score").asDouble();
+                if (was > 0 && is < was * (1 - limit)) {
+                    regressions.add(String.format("%s throughput %.3f -> %.3f %s (%+.1f%%)", entry.getKey(),
+                            was, is, now.path("primaryMetric").path("scoreUnit").asText(), change(was, is)));
+                }
+            } else if ("sample".equals(mode)) {
+                double was = old.path("primaryMetric").path("scorePercentiles").path("99.0").asDouble();
+                double is = now.path("primaryMetric").path("scorePercentiles").path("99.0").asDouble();
+                if (was > 0 && is > was * (1 + limit)) {
+                    regressions.add(String.format("%s p99 %.3f -> %.3f %s (%+.1f%%)", entry.getKey(),
+                            was, is, now.path("primaryMetric").path("scoreUnit").asText(), change(was, is)));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Copies the result without the raw samples of each iteration, which only JMH's own reports read and
+     * which make up nearly all of a sample-time result.
+     */
+    static void saveBaseline(Path result, Path baseline) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode runs = mapper.readTree(result.toFile());
+        for (JsonNode run : runs) {
+            stripRawData(run.path("primaryMetric"));
+            run.path("secondaryMetrics").forEach(BenchmarkRunner::stripRawData);
+        }
+        Files.createDirectories(baseline.getParent());
+        mapper.writerWithDefaultPrettyPrinter().writeValue(baseline.toFile(), runs);
+    }
+
+    private static void stripRawData(JsonNode metric) {
+        if (metric instanceof ObjectNode node) {
+            node.remove(List.of("rawData", "rawDataHistogram"));
+        }
+    }
+
+    private static Map<String, JsonNode> index(Path file) throws IOException {
+        Map<String, JsonNode> runs = new HashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            String key = run.path("benchmark").asText() + " [" + run.path("mode").asText() + "]"
+                    + (run.has("params") ? " " + run.get("params") : "");
+            runs.put(key, run);
+        }
+        return runs;
+    }
+
+    private static double change(double was, double is) {
+        return (is - was) / was * 100.0;
+    }
+}
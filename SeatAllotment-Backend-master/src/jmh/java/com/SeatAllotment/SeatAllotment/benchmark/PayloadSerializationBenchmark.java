@@ -0,0 +1,53 @@
+package com.SeatAllotment.SeatAllotment.benchmark;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of the {@code GET /seats} and {@code GET /employees/list} response bodies with the
+ * application's ObjectMapper. Loading the lists is done once, outside the measurement.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadSerializationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Payloads {
+        List<Seat> seats;
+        List<Employee> employees;
+
+        @Setup(Level.Trial)
+        public void load(BenchmarkContext ctx) {
+            seats = ctx.seatService.getAllSeats();
+            employees = ctx.employeeService.getAllEmployees();
+        }
+    }
+
+    @Benchmark
+    public byte[] seatsJson(BenchmarkContext ctx, Payloads payloads) throws JsonProcessingException {
+        return ctx.objectMapper.writeValueAsBytes(payloads.seats);
+    }
+
+    @Benchmark
+    public byte[] employeesJson(BenchmarkContext ctx, Payloads payloads) throws JsonProcessingException {
+        return ctx.objectMapper.writeValueAsBytes(payloads.employees);
+    }
+}
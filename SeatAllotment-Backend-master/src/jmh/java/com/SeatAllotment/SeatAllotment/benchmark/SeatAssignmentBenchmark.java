@@ -0,0 +1,108 @@
+package com.SeatAllotment.SeatAllotment.benchmark;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write paths of EmployeeService. Each benchmark leaves the seat map as it found it, so every
+ * invocation does the same amount of work.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatAssignmentBenchmark {
+
+    private static final long FIRST_NEW_EMPLOYEE_ID = 1_000_000L;
+
+    @State(Scope.Thread)
+    public static class NewEmployee {
+        long nextId = FIRST_NEW_EMPLOYEE_ID;
+        Employee employee;
+
+        @Setup(Level.Invocation)
+        public void prepare(BenchmarkContext ctx) {
+            employee = new Employee("Benchmark " + nextId, "Analyst", "Engineering", ctx.firstVacantSeat());
+            employee.setId(nextId++);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SeatedEmployee {
+        Long id;
+
+        @Setup(Level.Invocation)
+        public void add(BenchmarkContext ctx, NewEmployee source) {
+            ctx.employeeService.addEmployee(source.employee);
+            id = source.employee.getId();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SeatMove {
+        Employee moving;
+        String seatA;
+        String seatB;
+        boolean onA = true;
+
+        @Setup(Level.Trial)
+        public void prepare(BenchmarkContext ctx) {
+            seatA = ctx.firstVacantSeat();
+            seatB = BenchmarkContext.seatId(ctx.employees + 2);
+            moving = new Employee("Mover", "Analyst", "Engineering", seatA);
+            moving.setId(FIRST_NEW_EMPLOYEE_ID - 1);
+            // Not removed at the end: JMH may close the context first, and the next trial reseeds anyway
+            ctx.employeeService.addEmployee(new Employee(moving));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> addEmployee(BenchmarkContext ctx, NewEmployee newEmployee, Cleanup cleanup) {
+        cleanup.id = newEmployee.employee.getId();
+        return ctx.employeeService.addEmployee(newEmployee.employee).getBody();
+    }
+
+    @Benchmark
+    public Map<String, Object> updateEmployeeSeatMove(BenchmarkContext ctx, SeatMove move) {
+        Employee update = new Employee(move.moving);
+        update.setSeatId(move.onA ? move.seatB : move.seatA);
+        move.onA = !move.onA;
+        return ctx.employeeService.updateEmployee(move.moving.getId(), update).getBody();
+    }
+
+    @Benchmark
+    public Object deleteEmployeeWithSeatReset(BenchmarkContext ctx, SeatedEmployee seated) {
+        return ctx.employeeService.deleteEmployeeWithSeatReset(seated.id).getBody();
+    }
+
+    /**
+     * Frees the seat taken by {@link #addEmployee} outside the measured region.
+     */
+    @State(Scope.Thread)
+    public static class Cleanup {
+        Long id;
+
+        @TearDown(Level.Invocation)
+        public void delete(BenchmarkContext ctx) {
+            if (id != null) {
+                ctx.employeeService.deleteEmployeeWithSeatReset(id);
+                id = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.SeatAllotment.SeatAllotment.benchmark;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatClaimResult;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Eight threads contending for one vacant seat: the conditional UPDATE that {@code claimSeat} uses
+ * against the read-check-save flow it replaced, made safe with {@code SELECT ... FOR UPDATE}. A thread
+ * that wins frees the seat again, so the seat stays contended for the whole run.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class SeatClaimBenchmark {
+
+    private static final AtomicLong CLAIMANT_IDS = new AtomicLong(2_000_000L);
+
+    @State(Scope.Thread)
+    public static class Claimant {
+        long employeeId;
+        String seatId;
+        TransactionTemplate tx;
+        EntityManager entityManager;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkContext ctx) {
+            employeeId = CLAIMANT_IDS.incrementAndGet();
+            seatId = ctx.firstVacantSeat();
+            tx = new TransactionTemplate(ctx.context.getBean(PlatformTransactionManager.class));
+            entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                    ctx.context.getBean(EntityManagerFactory.class));
+        }
+    }
+
+    @Benchmark
+    public SeatClaimResult conditionalClaim(BenchmarkContext ctx, Claimant claimant) {
+        SeatClaimResult result = ctx.seatService.claimSeat(claimant.seatId, claimant.employeeId);
+        if (result == SeatClaimResult.CLAIMED) {
+            ctx.seatService.resetSeatByEmployeeId(claimant.employeeId);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Boolean lockingReadCheckSave(BenchmarkContext ctx, Claimant claimant) {
+        Boolean claimed = claimant.tx.execute(status -> {
+            Seat seat = claimant.entityManager.find(Seat.class, claimant.seatId, LockModeType.PESSIMISTIC_WRITE);
+            if (seat.getStatus() != SeatStatus.VACANT) {
+                return false;
+            }
+            seat.setStatus(SeatStatus.OCCUPIED);
+            seat.setEmployeeId(claimant.employeeId);
+            return true;
+        });
+        if (Boolean.TRUE.equals(claimed)) {
+            ctx.seatService.resetSeatByEmployeeId(claimant.employeeId);
+        }
+        return claimed;
+    }
+}
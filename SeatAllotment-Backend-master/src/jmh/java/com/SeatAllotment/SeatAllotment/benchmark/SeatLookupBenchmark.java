@@ -0,0 +1,38 @@
+package com.SeatAllotment.SeatAllotment.benchmark;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths behind the floor plan and the seat-detail popup.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatLookupBenchmark {
+
+    @Benchmark
+    public List<Seat> getVacantSeats(BenchmarkContext ctx) {
+        return ctx.seatService.getVacantSeats();
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeBySeat(BenchmarkContext ctx) {
+        int seat = ThreadLocalRandom.current().nextInt(1, ctx.employees + 1);
+        return ctx.seatService.getEmployeeBySeat(BenchmarkContext.seatId(seat));
+    }
+}
@@ -0,0 +1,330 @@
+package com.SeatAllotment.SeatAllotment.loadtest;
+
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.SeatAllotmentApplication;
+import com.SeatAllotment.SeatAllotment.loadtest.OperationStats.Outcome;
+import com.SeatAllotment.SeatAllotment.loadtest.Workload.Call;
+import com.SeatAllotment.SeatAllotment.loadtest.Workload.Operation;
+import com.SeatAllotment.SeatAllotment.service.EmployeeSearchIndex;
+import com.SeatAllotment.SeatAllotment.service.SeatBitmap;
+import com.SeatAllotment.SeatAllotment.service.SeatOccupancyIndex;
+import com.SeatAllotment.SeatAllotment.service.SeatStatsIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reproduces a rush of floor-plan readers and seat changes against the real HTTP stack. It starts the
+ * application on an embedded H2 database, seeds it, and sends a mix of requests
+ * ({@link Workload}) at a fixed arrival rate for a fixed time. The arrival model is open-loop: requests
+ * are sent on schedule whether or not earlier ones have returned, the way independent users behave,
+ * and latency is measured from the scheduled time.
+ * <p>
+ * Arguments ({@code --name=value}, defaults in brackets):
+ * <ul>
+ *   <li>{@code --rate} – requests per second [200]; {@code --arrivals=poisson|constant} [poisson]</li>
+ *   <li>{@code --seconds} – measured duration [60], after {@code --warmup} seconds that are not reported [10]</li>
+ *   <li>{@code --seats} [2000], {@code --employees} (seeded, each in their own seat) [1000] and
+ *       {@code --hot-seats} (vacant seats that creates and moves compete for) [20]</li>
+ *   <li>{@code --mix} – operation weights [{@value Workload#DEFAULT_MIX}]</li>
+ *   <li>{@code --max-in-flight} – outstanding requests before new arrivals are dropped and counted [5000]</li>
+ *   <li>{@code --virtual-threads} – serve requests on virtual threads [false]</li>
+ *   <li>{@code --max-error-rate} – percentage of errors that fails the run [1]</li>
+ *   <li>{@code --seed} – random seed for the request sequence [1]</li>
+ * </ul>
+ * Prints throughput, outcome rates and latency percentiles per operation and writes each histogram to
+ * {@code target/load-test/<operation>.hgrm}. Afterwards it checks that every OCCUPIED seat is held by
+ * exactly one employee and that every employee's seat is occupied by them. Exits with status 1 when that
+ * check fails or the error rate is exceeded.
+ */
+public final class LoadTestRunner {
+
+    static final Path REPORT_DIR = Path.of("target", "load-test");
+
+    private static final String OCCUPIED_SEAT_VIOLATIONS = """
+            SELECT s.id, s.employee_id, COUNT(e.employeeid) AS holders
+            FROM seats s LEFT JOIN employees e ON e.seat_id = s.id
+            WHERE s.status = 'OCCUPIED'
+            GROUP BY s.id, s.employee_id
+            HAVING s.employee_id IS NULL OR COUNT(e.employeeid) <> 1
+                OR SUM(CASE WHEN e.employeeid = s.employee_id THEN 1 ELSE 0 END) <> 1""";
+
+    private static final String EMPLOYEE_SEAT_VIOLATIONS = """
+            SELECT e.employeeid, e.seat_id, s.status, s.employee_id
+            FROM employees e LEFT JOIN seats s ON s.id = e.seat_id
+            WHERE e.seat_id IS NOT NULL AND LOWER(e.seat_id) NOT IN ('unassigned', 'work from home')
+              AND (s.id IS NULL OR s.status <> 'OCCUPIED' OR s.employee_id IS NULL OR s.employee_id <> e.employeeid)""";
+
+    private static final int VIOLATIONS_SHOWN = 10;
+
+    record Options(double rate, boolean poisson, int seconds, int warmupSeconds, int seats, int employees,
+                   int hotSeats, Map<Operation, Integer> mix, int maxInFlight, boolean virtualThreads,
+                   double maxErrorRate, long seed) {
+    }
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = parse(args);
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SeatAllotmentApplication.class)
+                .profiles("loadtest")
+                // Arguments, not default properties: application.properties would override those
+                .run("--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                        "--seat-allotment.db-admission.enabled=" + options.virtualThreads())) {
+            seed(context, options);
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            Workload workload = new Workload(URI.create("http://localhost:" + port), context.getBean(ObjectMapper.class),
+                    options.seats(), options.employees(), options.hotSeats(), options.mix());
+
+            Map<Operation, OperationStats> stats = run(workload, options);
+            double errorRate = report(stats, options);
+            boolean consistent = checkConsistency(context.getBean(JdbcTemplate.class));
+            passed = consistent && errorRate <= options.maxErrorRate();
+            if (errorRate > options.maxErrorRate()) {
+                System.out.printf("FAILED: error rate %.2f%% is above %.2f%%%n", errorRate, options.maxErrorRate());
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            // exec:exec passes -Dload-test.args as one argument
+            for (String token : arg.trim().split("\\s+")) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                if (!token.startsWith("--") || !token.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value, got '" + token + "'");
+                }
+                values.put(token.substring(2, token.indexOf('=')), token.substring(token.indexOf('=') + 1));
+            }
+        }
+        Options options = new Options(
+                Double.parseDouble(take(values, "rate", "200")),
+                !"constant".equals(take(values, "arrivals", "poisson")),
+                Integer.parseInt(take(values, "seconds", "60")),
+                Integer.parseInt(take(values, "warmup", "10")),
+                Integer.parseInt(take(values, "seats", "2000")),
+                Integer.parseInt(take(values, "employees", "1000")),
+                Integer.parseInt(take(values, "hot-seats", "20")),
+                Workload.parseMix(take(values, "mix", Workload.DEFAULT_MIX)),
+                Integer.parseInt(take(values, "max-in-flight", "5000")),
+                Boolean.parseBoolean(take(values, "virtual-threads", "false")),
+                Double.parseDouble(take(values, "max-error-rate", "1")),
+                Long.parseLong(take(values, "seed", "1")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown arguments: " + values.keySet());
+        }
+        if (options.rate() <= 0 || options.seconds() <= 0 || options.hotSeats() <= 0) {
+            throw new IllegalArgumentException("rate, seconds and hot-seats must be positive");
+        }
+        if (options.employees() + options.hotSeats() > options.seats()) {
+            throw new IllegalArgumentException("employees + hot-seats must not exceed seats");
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Sends requests on schedule until the run ends, then waits for the stragglers.
+     */
+    static Map<Operation, OperationStats> run(Workload workload, Options options) throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation.key));
+        }
+        SplittableRandom random = new SplittableRandom(options.seed());
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.seconds());
+
+        System.out.printf("Sending %.0f req/s (%s arrivals) for %d s after a %d s warm-up%n", options.rate(),
+                options.poisson() ? "poisson" : "constant", options.seconds(), options.warmupSeconds());
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(senders).version(HttpClient.Version.HTTP_1_1).build()) {
+            long scheduled = start;
+            while (scheduled < end) {
+                long delay = scheduled - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                Call call = workload.next(random);
+                OperationStats operationStats = scheduled >= measureFrom ? stats.get(call.operation()) : null;
+                if (!inFlight.tryAcquire()) {
+                    if (operationStats != null) {
+                        operationStats.drop();
+                    }
+                } else {
+                    long scheduledAt = scheduled;
+                    senders.execute(() -> {
+                        try {
+                            send(http, call, scheduledAt, operationStats);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                scheduled += options.poisson()
+                        ? (long) (-Math.log(1 - random.nextDouble()) * intervalNanos)
+                        : intervalNanos;
+            }
+        }
+        return stats;
+    }
+
+    private static void send(HttpClient http, Call call, long scheduledAt, OperationStats stats) {
+        Outcome outcome;
+        try {
+            if (call.operation().isWrite()) {
+                HttpResponse<String> response = http.send(call.request(), HttpResponse.BodyHandlers.ofString());
+                outcome = Workload.classify(response.statusCode(), response.body());
+            } else {
+                HttpResponse<Void> response = http.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                outcome = Workload.classify(response.statusCode(), null);
+            }
+        } catch (IOException e) {
+            outcome = Outcome.ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = Outcome.ERROR;
+        }
+        if (stats != null) {
+            stats.record(outcome, System.nanoTime() - scheduledAt);
+        }
+    }
+
+    /**
+     * Prints the per-operation table and writes the histograms. Returns the overall error percentage.
+     */
+    static double report(Map<Operation, OperationStats> stats, Options options) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        OperationStats all = new OperationStats("all");
+        List<OperationStats> rows = new ArrayList<>();
+        for (OperationStats operation : stats.values()) {
+            if (operation.completed() + operation.dropped() > 0) {
+                rows.add(operation);
+                all.add(operation);
+            }
+        }
+        rows.add(all);
+
+        System.out.printf("%n%-15s %9s %8s %7s %9s %8s %7s %8s %8s %8s %8s %8s%n", "operation", "requests", "req/s",
+                "ok %", "conflict %", "missing %", "error %", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (OperationStats row : rows) {
+            long completed = row.completed();
+            Histogram latency = row.latency();
+            System.out.printf("%-15s %9d %8.1f %7.2f %9.2f %8.2f %7.2f %8.1f %8.1f %8.1f %8.1f %8.1f%n", row.name(),
+                    completed, completed / (double) options.seconds(),
+                    percent(row.count(Outcome.OK), completed), percent(row.count(Outcome.CONFLICT), completed),
+                    percent(row.count(Outcome.MISSING), completed), percent(row.count(Outcome.ERROR), completed),
+                    millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                    latency.getMaxValue() / 1000.0);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIR.resolve(row.name() + ".hgrm")))) {
+                latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        if (all.dropped() > 0) {
+            System.out.printf("%d arrivals dropped: more than %d requests were in flight%n", all.dropped(),
+                    options.maxInFlight());
+        }
+        System.out.println("Latency histograms (ms) written to " + REPORT_DIR);
+        return percent(all.count(Outcome.ERROR) + all.dropped(), all.completed() + all.dropped());
+    }
+
+    /**
+     * Every OCCUPIED seat must be held by exactly one employee, the one the seat names, and every
+     * employee with a physical seat must be that seat's occupant.
+     */
+    static boolean checkConsistency(JdbcTemplate jdbc) {
+        List<String> violations = new ArrayList<>();
+        jdbc.query(OCCUPIED_SEAT_VIOLATIONS, rs -> {
+            violations.add("seat " + rs.getString(1) + " is OCCUPIED by " + rs.getObject(2)
+                    + " but " + rs.getLong(3) + " employee(s) point at it");
+        });
+        jdbc.query(EMPLOYEE_SEAT_VIOLATIONS, rs -> {
+            violations.add("employee " + rs.getLong(1) + " points at seat " + rs.getString(2) + " which is "
+                    + (rs.getString(3) == null ? "missing" : rs.getString(3) + " by " + rs.getObject(4)));
+        });
+        Long occupied = jdbc.queryForObject("SELECT COUNT(*) FROM seats WHERE status = 'OCCUPIED'", Long.class);
+        if (violations.isEmpty()) {
+            System.out.printf("Consistency check passed: %d occupied seats, each held by exactly one employee%n",
+                    occupied);
+            return true;
+        }
+        System.out.printf("FAILED: %d consistency violations (%d occupied seats)%n", violations.size(), occupied);
+        violations.stream().limit(VIOLATIONS_SHOWN).forEach(violation -> System.out.println("  " + violation));
+        return false;
+    }
+
+    private static void seed(ConfigurableApplicationContext context, Options options) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("DELETE FROM employees");
+        jdbc.update("DELETE FROM seats");
+
+        List<Object[]> seatRows = new ArrayList<>(options.seats());
+        for (int n = 1; n <= options.seats(); n++) {
+            boolean occupied = n <= options.employees();
+            seatRows.add(new Object[]{String.valueOf(n), occupied ? "OCCUPIED" : "VACANT", occupied ? (long) n : null,
+                    Seat.DEFAULT_BUILDING, Seat.DEFAULT_FLOOR});
+        }
+        jdbc.batchUpdate("INSERT INTO seats (id, status, employee_id, building, floor) VALUES (?, ?, ?, ?, ?)",
+                seatRows);
+
+        String[] departments = {"Engineering", "Finance", "Operations", "Sales", "Support"};
+        List<Object[]> employeeRows = new ArrayList<>(options.employees());
+        for (int n = 1; n <= options.employees(); n++) {
+            employeeRows.add(new Object[]{(long) n, "Employee " + n, "Analyst",
+                    departments[n % departments.length], String.valueOf(n)});
+        }
+        jdbc.batchUpdate("INSERT INTO employees (employeeid, name, role, department, seat_id) VALUES (?, ?, ?, ?, ?)",
+                employeeRows);
+
+        // The in-memory views were built from the empty tables at startup
+        context.getBean(SeatOccupancyIndex.class).reload();
+        context.getBean(EmployeeSearchIndex.class).rebuild();
+        context.getBean(SeatStatsIndex.class).reconcile();
+        context.getBean(SeatBitmap.class).reload();
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : 100.0 * part / total;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
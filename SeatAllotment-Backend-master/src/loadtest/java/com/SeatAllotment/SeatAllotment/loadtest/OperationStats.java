@@ -0,0 +1,83 @@
+package com.SeatAllotment.SeatAllotment.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome counts and a latency histogram (microseconds, 3 significant digits) for one operation.
+ * Latency runs from the request's scheduled start, not from when it was actually sent, so time spent
+ * queued behind a slow server is included (no coordinated omission).
+ */
+final class OperationStats {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    enum Outcome {
+        /** 2xx. */
+        OK,
+        /** Lost a race for a seat: 409, or 400 because the seat was already taken. */
+        CONFLICT,
+        /** 404: the employee was deleted (or never created) by another request. */
+        MISSING,
+        /** Any other status, a timeout or a connection failure. */
+        ERROR
+    }
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+    private final LongAdder dropped = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(Outcome outcome, long latencyNanos) {
+        outcomes[outcome.ordinal()].increment();
+        latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+    }
+
+    /** The generator had too many requests in flight and skipped this one. */
+    void drop() {
+        dropped.increment();
+    }
+
+    long count(Outcome outcome) {
+        return outcomes[outcome.ordinal()].sum();
+    }
+
+    long completed() {
+        long total = 0;
+        for (LongAdder count : outcomes) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    /** Adds everything recorded by {@code other} to this instance. */
+    void add(OperationStats other) {
+        latency.add(other.latency);
+        for (Outcome outcome : Outcome.values()) {
+            outcomes[outcome.ordinal()].add(other.count(outcome));
+        }
+        dropped.add(other.dropped());
+    }
+}
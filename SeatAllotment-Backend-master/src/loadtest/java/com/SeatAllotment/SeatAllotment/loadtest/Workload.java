@@ -0,0 +1,188 @@
+package com.SeatAllotment.SeatAllotment.loadtest;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.loadtest.OperationStats.Outcome;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The request mix of a Monday-morning rush. Seats {@code 1..employees} start occupied by the seeded
+ * employees; the next {@code hotSeats} seats start vacant and are the only seats that creates and moves
+ * ask for, so those requests race each other for a small set of desks. A quarter of the moves go to
+ * "Unassigned" instead, which (with deletes) keeps freeing hot seats for the next round of races.
+ */
+final class Workload {
+
+    enum Operation {
+        LIST_SEATS("list-seats"),
+        SEAT_DETAILS("seat-details"),
+        LIST_EMPLOYEES("list-employees"),
+        CREATE("create"),
+        MOVE("move"),
+        DELETE("delete");
+
+        final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        boolean isWrite() {
+            return this == CREATE || this == MOVE || this == DELETE;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                    + List.of(values()).stream().map(operation -> operation.key).toList());
+        }
+    }
+
+    record Call(Operation operation, HttpRequest request) {
+    }
+
+    static final String DEFAULT_MIX = "list-seats:15,seat-details:40,list-employees:5,create:15,move:15,delete:10";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI base;
+    private final ObjectMapper objectMapper;
+    private final int seats;
+    private final int firstHotSeat;
+    private final int hotSeats;
+    private final AtomicLong nextEmployeeId;
+    private final Operation[] wheel;
+
+    Workload(URI base, ObjectMapper objectMapper, int seats, int employees, int hotSeats, Map<Operation, Integer> mix) {
+        this.base = base;
+        this.objectMapper = objectMapper;
+        this.seats = seats;
+        this.firstHotSeat = employees + 1;
+        this.hotSeats = hotSeats;
+        this.nextEmployeeId = new AtomicLong(employees + 1L);
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix has no weight");
+        }
+        this.wheel = slots.toArray(Operation[]::new);
+    }
+
+    /**
+     * Parses {@code op:weight,op:weight,...}; operations left out are not sent.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Expected op:weight, got '" + part + "'");
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + entry[0]);
+            }
+            weights.put(Operation.of(entry[0].trim().toLowerCase(Locale.ROOT)), weight);
+        }
+        return weights;
+    }
+
+    Call next(SplittableRandom random) {
+        Operation operation = wheel[random.nextInt(wheel.length)];
+        return new Call(operation, switch (operation) {
+            case LIST_SEATS -> get("/seats");
+            case SEAT_DETAILS -> get("/seats/" + (1 + random.nextInt(seats)) + "/employee-details");
+            case LIST_EMPLOYEES -> get("/employees/list");
+            case CREATE -> create(random);
+            case MOVE -> move(random);
+            case DELETE -> request("/employees/delete/" + anyEmployee(random)).DELETE().build();
+        });
+    }
+
+    /**
+     * Sorts a response into the outcome buckets; seat races show up as 409 or as a 400 whose body says
+     * the seat is taken. Read bodies are discarded, so {@code body} is only set for writes.
+     */
+    static Outcome classify(int status, String body) {
+        if (status >= 200 && status < 300) {
+            return Outcome.OK;
+        }
+        if (status == 404) {
+            return Outcome.MISSING;
+        }
+        if (status == 409) {
+            return Outcome.CONFLICT;
+        }
+        if (status == 400 && body != null && (body.contains("Seat Unavailable") || body.contains("already occupied"))) {
+            return Outcome.CONFLICT;
+        }
+        return Outcome.ERROR;
+    }
+
+    private HttpRequest create(SplittableRandom random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        long id = nextEmployeeId.getAndIncrement();
+        body.put("employeeid", id);
+        body.put("name", "Load " + id);
+        body.put("department", "Engineering");
+        body.put("role", "Analyst");
+        body.put("seat_id", hotSeat(random));
+        return request("/employees/create").POST(json(body)).build();
+    }
+
+    private HttpRequest move(SplittableRandom random) {
+        long id = anyEmployee(random);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "Employee " + id);
+        body.put("role", "Analyst");
+        body.put("department", "Engineering");
+        body.put("seatId", random.nextInt(4) == 0 ? Employee.UNASSIGNED : hotSeat(random));
+        return request("/employees/update/" + id).PUT(json(body)).build();
+    }
+
+    private String hotSeat(SplittableRandom random) {
+        return String.valueOf(firstHotSeat + random.nextInt(hotSeats));
+    }
+
+    /** Any id handed out so far; some have been deleted, which the server answers with 404. */
+    private long anyEmployee(SplittableRandom random) {
+        return 1 + random.nextLong(nextEmployeeId.get() - 1);
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
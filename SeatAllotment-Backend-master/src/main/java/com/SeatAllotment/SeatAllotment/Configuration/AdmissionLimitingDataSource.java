@@ -0,0 +1,134 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands out at most {@code permits} connections at a time and queues further callers in FIFO order
+ * on a fair semaphore, so thousands of parked virtual threads wait here instead of all polling the
+ * pool. A caller that is not admitted within the timeout gets a {@link SQLTransientConnectionException}.
+ * The permit is returned when the connection is closed.
+ */
+public class AdmissionLimitingDataSource extends DelegatingDataSource {
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutMillis;
+
+    public AdmissionLimitingDataSource(DataSource target, int permits, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return admit(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return admit(() -> super.getConnection(username, password));
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    /** Callers currently waiting for a permit (an estimate, see {@link Semaphore#getQueueLength()}). */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Threads waiting for a connection from {@code dataSource}: queued for an admission permit, or
+     * waiting on the Hikari pool behind it, summed over both pools behind a {@link ReadWriteRoutingDataSource}.
+     * Zero for other data sources.
+     */
+    public static int waitingForConnection(DataSource dataSource) {
+        if (dataSource instanceof LazyConnectionDataSourceProxy lazy) {
+            dataSource = lazy.getTargetDataSource();
+        }
+        if (dataSource instanceof ReadWriteRoutingDataSource routing) {
+            return waitingForConnection(routing.getPrimary()) + waitingForConnection(routing.getReplica());
+        }
+        int waiting = 0;
+        if (dataSource instanceof AdmissionLimitingDataSource limited) {
+            waiting += limited.getWaiting();
+            dataSource = limited.getTargetDataSource();
+        }
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool != null) {
+                waiting += pool.getThreadsAwaitingConnection();
+            }
+        }
+        return waiting;
+    }
+
+    private Connection admit(ConnectionSource source) throws SQLException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+        if (!admitted) {
+            throw new SQLTransientConnectionException(
+                    "No database connection available within " + timeoutMillis + " ms");
+        }
+        try {
+            return releasingOnClose(source.get());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Connection releasingOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(target, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-through caches for seat and employee lookups. The cache provider comes from
+ * {@code spring.cache.type}: {@code caffeine} for the bounded local cache or {@code none} to
+ * turn caching off without touching the code.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Employee by employee id. */
+    public static final String EMPLOYEES = "employees";
+    /** Employee by the seat id stored on the employee row. */
+    public static final String EMPLOYEES_BY_SEAT = "employeesBySeat";
+    /** Seat by seat id. */
+    public static final String SEATS = "seats";
+    /** Seat held by an employee id. */
+    public static final String SEATS_BY_EMPLOYEE = "seatsByEmployee";
+    /** Occupant of a seat, resolved through the seat's employee id. */
+    public static final String SEAT_OCCUPANTS = "seatOccupants";
+}
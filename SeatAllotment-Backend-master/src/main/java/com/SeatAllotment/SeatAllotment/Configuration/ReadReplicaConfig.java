@@ -0,0 +1,109 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * With {@code seat-allotment.replica.enabled=true}, read-only service transactions run on a replica
+ * pool ({@code seat-allotment.replica.datasource.*}, with its own {@code .hikari.*} settings) and
+ * everything else on the primary pool configured by {@code spring.datasource.*}. The application's
+ * {@code DataSource} becomes a {@link LazyConnectionDataSourceProxy} over the
+ * {@link ReadWriteRoutingDataSource}. Replica lag is watched by the {@link ReplicaLagMonitor} unless
+ * {@code seat-allotment.replica.max-lag-ms} is 0.
+ */
+@Configuration
+@ConditionalOnProperty(name = "seat-allotment.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("seat-allotment.replica.datasource.hikari")
+    HikariDataSource replicaDataSource(
+            DataSourceProperties primary,
+            @Value("${seat-allotment.replica.datasource.url}") String url,
+            @Value("${seat-allotment.replica.datasource.username:#{null}}") String username,
+            @Value("${seat-allotment.replica.datasource.password:#{null}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(url)
+                .username(username != null ? username : primary.determineUsername())
+                .password(password != null ? password : primary.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    ReadWriteRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${seat-allotment.replica.packages:com.SeatAllotment.SeatAllotment.service}") List<String> packages) {
+        return new ReadWriteRoutingDataSource(primary, replica, packages);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnExpression("${seat-allotment.replica.max-lag-ms:5000} > 0")
+    ReplicaLagMonitor replicaLagMonitor(ReadWriteRoutingDataSource routingDataSource,
+                                        @Value("${seat-allotment.replica.max-lag-ms:5000}") long maxLagMillis,
+                                        @Value("${seat-allotment.replica.probe-timeout-seconds:2}") int timeoutSeconds) {
+        return new ReplicaLagMonitor(routingDataSource, maxLagMillis, timeoutSeconds);
+    }
+
+    /**
+     * Tracks each request's writes so the reads that follow them in the same request stay on the primary.
+     */
+    @Bean
+    FilterRegistrationBean<OncePerRequestFilter> readYourWritesFilter() {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                            @NonNull FilterChain chain) throws ServletException, IOException {
+                ReadWriteRoutingDataSource.beginRequest();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    ReadWriteRoutingDataSource.endRequest();
+                }
+            }
+        });
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,127 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends the connections of read-only transactions to the replica pool and everything else to the
+ * primary. It must sit behind a {@link LazyConnectionDataSourceProxy}: a transaction asks for its
+ * connection before Spring marks it read-only, and the proxy puts off the choice until the first statement.
+ * <ul>
+ *   <li>Only transactions whose name (the {@code @Transactional} method, or the name given to a
+ *       {@code TransactionTemplate}) starts with one of the {@code replicaPackages} are eligible. Spring
+ *       Data's own read-only transactions around single repository calls, which the in-memory indexes
+ *       load through, stay on the primary.</li>
+ *   <li>Once a request tracked with {@link #beginRequest()} has run a read-write transaction, its later
+ *       reads stay on the primary so it sees its own writes.</li>
+ *   <li>While the replica is marked stale or unreachable ({@link #setReplicaState}) reads fall back to the primary.</li>
+ * </ul>
+ * The class is final because the constructor configures the targets through overridable setters.
+ */
+public final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<boolean[]> REQUEST_WROTE = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final List<String> replicaPackages;
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private volatile boolean replicaUsable = true;
+    private volatile long replicaLagMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, List<String> replicaPackages) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaPackages = replicaPackages.stream().map(p -> p.endsWith(".") ? p : p + ".").toList();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /** Starts tracking writes for the request running on this thread. */
+    public static void beginRequest() {
+        REQUEST_WROTE.set(new boolean[1]);
+    }
+
+    public static void endRequest() {
+        REQUEST_WROTE.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            boolean[] wrote = REQUEST_WROTE.get();
+            if (wrote != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                wrote[0] = true;
+            }
+            return Target.PRIMARY;
+        }
+        if (replicaUsable && !wroteInRequest() && isEligible(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        primaryReads.increment();
+        return Target.PRIMARY;
+    }
+
+    /**
+     * Called by the {@link ReplicaLagMonitor}; {@code lagMillis} is -1 when the replica could not be read.
+     */
+    public void setReplicaState(long lagMillis, boolean usable) {
+        this.replicaLagMillis = lagMillis;
+        this.replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long getReplicaLagMillis() {
+        return replicaLagMillis;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    /** Read-only transactions sent to the primary: not eligible, after a write, or with the replica stale. */
+    public LongAdder getPrimaryReads() {
+        return primaryReads;
+    }
+
+    public LongAdder getReplicaReads() {
+        return replicaReads;
+    }
+
+    private static boolean wroteInRequest() {
+        boolean[] wrote = REQUEST_WROTE.get();
+        return wrote != null && wrote[0];
+    }
+
+    private boolean isEligible(String transactionName) {
+        if (transactionName == null) {
+            return false;
+        }
+        for (String replicaPackage : replicaPackages) {
+            if (transactionName.startsWith(replicaPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
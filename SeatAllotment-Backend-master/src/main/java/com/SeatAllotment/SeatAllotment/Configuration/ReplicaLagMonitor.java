@@ -0,0 +1,75 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+/**
+ * Measures how far the replica is behind. Every {@code seat-allotment.replica.heartbeat-interval-ms}
+ * it stamps the {@code replica_heartbeat} row on the primary with the current time and reads the row
+ * back from the replica; the age of the stamp the replica returns bounds its lag from above (it
+ * includes up to one interval). Reads fall back to the primary while that age is over
+ * {@code max-lag-ms}, the replica cannot be queried, or before the first probe.
+ */
+class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String UPDATE_BEAT = "UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1";
+    private static final String INSERT_BEAT = "INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)";
+    private static final String SELECT_BEAT = "SELECT beat_millis FROM replica_heartbeat WHERE id = 1";
+
+    private final ReadWriteRoutingDataSource routing;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    ReplicaLagMonitor(ReadWriteRoutingDataSource routing, long maxLagMillis, int queryTimeoutSeconds) {
+        this.routing = routing;
+        this.primary = new JdbcTemplate(routing.getPrimary());
+        this.replica = new JdbcTemplate(routing.getReplica());
+        this.primary.setQueryTimeout(queryTimeoutSeconds);
+        this.replica.setQueryTimeout(queryTimeoutSeconds);
+        this.maxLagMillis = maxLagMillis;
+        routing.setReplicaState(-1, false);
+    }
+
+    @Scheduled(fixedDelayString = "${seat-allotment.replica.heartbeat-interval-ms:1000}")
+    public void probe() {
+        beat();
+        long lag;
+        try {
+            List<Long> beats = replica.queryForList(SELECT_BEAT, Long.class);
+            lag = beats.isEmpty() ? -1 : Math.max(0, System.currentTimeMillis() - beats.get(0));
+        } catch (DataAccessException e) {
+            logger.debug("Replica heartbeat read failed", e);
+            lag = -1;
+        }
+        boolean usable = lag >= 0 && lag <= maxLagMillis;
+        if (usable != routing.isReplicaUsable()) {
+            if (usable) {
+                logger.info("Replica is {} ms behind; sending read-only transactions to it", lag);
+            } else {
+                logger.warn("Replica is {}; sending read-only transactions to the primary",
+                        lag < 0 ? "unreachable or has no heartbeat" : lag + " ms behind (limit " + maxLagMillis + " ms)");
+            }
+        }
+        routing.setReplicaState(lag, usable);
+    }
+
+    private void beat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update(UPDATE_BEAT, now) == 0) {
+                primary.update(INSERT_BEAT, now);
+            }
+        } catch (DataAccessException e) {
+            // Another instance inserted the row first, or the primary is down; the next beat retries
+            logger.debug("Replica heartbeat write failed", e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import com.SeatAllotment.SeatAllotment.service.SeatMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Admits requests against a {@link TokenBucket} per client address and endpoint class, so one
+ * runaway script or bulk upload cannot use up the connection pool the floor plan reads from.
+ * <ul>
+ *   <li>Reads (GET, HEAD) and writes (everything else, all of which change seats or employees) have
+ *       separate budgets: {@code seat-allotment.rate-limit.<read|write>.per-second} and
+ *       {@code .capacity} (the burst).</li>
+ *   <li>A request whose token is due within {@code max-wait-ms} waits for it; later than that it is
+ *       refused with 429 and a {@code Retry-After} of when the next token is due.</li>
+ *   <li>Writes are refused with 503 while {@code shed-writes-when-waiting} or more threads are already
+ *       waiting for a database connection (0 turns this off), keeping the pool for reads.</li>
+ * </ul>
+ * Buckets idle for {@code idle-eviction-seconds} are dropped (an idle bucket is full, so nothing is
+ * lost) and at most {@code max-clients} are kept. The client is {@link HttpServletRequest#getRemoteAddr()};
+ * behind a proxy set {@code server.forward-headers-strategy} so that is the caller's address.
+ * Outcomes are counted in {@code http.admission}. The CORS filter from {@link WebSecurityConfig} runs
+ * first, so refused responses still carry CORS headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "seat-allotment.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestAdmissionFilter extends OncePerRequestFilter {
+
+    enum EndpointClass {
+        READ, WRITE
+    }
+
+    private record BucketKey(String client, EndpointClass endpointClass) {
+    }
+
+    private final SeatMetrics seatMetrics;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final double readRate;
+    private final int readCapacity;
+    private final double writeRate;
+    private final int writeCapacity;
+    private final long maxWaitNanos;
+    private final int shedWritesWhenWaiting;
+
+    public RequestAdmissionFilter(SeatMetrics seatMetrics, DataSource dataSource, ObjectMapper objectMapper,
+                                  @Value("${seat-allotment.rate-limit.read.per-second:50}") double readRate,
+                                  @Value("${seat-allotment.rate-limit.read.capacity:100}") int readCapacity,
+                                  @Value("${seat-allotment.rate-limit.write.per-second:10}") double writeRate,
+                                  @Value("${seat-allotment.rate-limit.write.capacity:20}") int writeCapacity,
+                                  @Value("${seat-allotment.rate-limit.max-wait-ms:50}") long maxWaitMillis,
+                                  @Value("${seat-allotment.rate-limit.shed-writes-when-waiting:10}") int shedWritesWhenWaiting,
+                                  @Value("${seat-allotment.rate-limit.idle-eviction-seconds:600}") long idleSeconds,
+                                  @Value("${seat-allotment.rate-limit.max-clients:100000}") long maxClients) {
+        this.seatMetrics = seatMetrics;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.readRate = readRate;
+        this.readCapacity = readCapacity;
+        this.writeRate = writeRate;
+        this.writeCapacity = writeCapacity;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.shedWritesWhenWaiting = shedWritesWhenWaiting;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .maximumSize(maxClients)
+                .build();
+        seatMetrics.registerAdmissionBuckets(buckets.asMap());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod()) || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request.getMethod());
+        String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+
+        if (endpointClass == EndpointClass.WRITE && shedWritesWhenWaiting > 0
+                && AdmissionLimitingDataSource.waitingForConnection(dataSource) >= shedWritesWhenWaiting) {
+            seatMetrics.recordAdmission(tag, "shed");
+            refuse(response, HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    "The service is busy. Please try again shortly.");
+            return;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new BucketKey(request.getRemoteAddr(), endpointClass), key ->
+                endpointClass == EndpointClass.READ
+                        ? new TokenBucket(readRate, readCapacity, now)
+                        : new TokenBucket(writeRate, writeCapacity, now));
+        long wait = bucket.tryAcquire(now, maxWaitNanos);
+        if (wait > maxWaitNanos) {
+            seatMetrics.recordAdmission(tag, "rejected");
+            refuse(response, HttpStatus.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(wait - 1) + 1,
+                    "Too many " + tag + " requests. Please slow down.");
+            return;
+        }
+        if (wait > 0) {
+            seatMetrics.recordAdmission(tag, "queued");
+            LockSupport.parkNanos(wait);
+        } else {
+            seatMetrics.recordAdmission(tag, "admitted");
+        }
+        chain.doFilter(request, response);
+    }
+
+    static EndpointClass classify(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+
+    private void refuse(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        body.put("timestamp", System.currentTimeMillis());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
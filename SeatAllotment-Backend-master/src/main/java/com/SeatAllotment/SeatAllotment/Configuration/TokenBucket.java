@@ -0,0 +1,41 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count it keeps one timestamp: the time at which the
+ * bucket would be full again (the generic cell rate algorithm). Taking a token pushes that time one
+ * refill interval further; the bucket is empty when it lies more than {@code capacity} intervals
+ * ahead of now. A single compare-and-set per request, and no background refill.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(double tokensPerSecond, int capacity, long nowNanos) {
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / tokensPerSecond));
+        this.burstNanos = intervalNanos * Math.max(1, capacity);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available within {@code maxWaitNanos}. Returns how long the caller has
+     * to wait for its token: zero when one was available now, at most {@code maxWaitNanos} when a
+     * token was reserved for later, and more than {@code maxWaitNanos} when nothing was taken.
+     */
+    long tryAcquire(long nowNanos, long maxWaitNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - burstNanos - nowNanos;
+            if (wait > maxWaitNanos) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Virtual-thread mode is switched with {@code spring.threads.virtual.enabled}: Spring Boot then runs
+ * Tomcat request handling, {@code @Async} methods and scheduled tasks on virtual threads.
+ * <p>
+ * With virtual threads the number of concurrent requests is no longer capped by the Tomcat pool, so
+ * {@code seat-allotment.db-admission.enabled} (on by default in virtual-thread mode) puts an
+ * {@link AdmissionLimitingDataSource} in front of the connection pool, sized to its maximum pool size.
+ * With a read replica each pool gets its own limit; the routing and lazy proxies in front of them are
+ * left alone.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private static final int DEFAULT_PERMITS = 10;
+
+    @Bean
+    @ConditionalOnProperty(name = "seat-allotment.db-admission.enabled", havingValue = "true")
+    static BeanPostProcessor admissionLimitingDataSourcePostProcessor(
+            @Value("${seat-allotment.db-admission.permits:0}") int permits,
+            @Value("${seat-allotment.db-admission.timeout-ms:20000}") long timeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource
+                        || bean instanceof AbstractRoutingDataSource) {
+                    return bean;
+                }
+                int size = permits > 0 ? permits : poolSize(dataSource);
+                logger.info("Limiting data source '{}' to {} concurrent connections (wait up to {} ms)",
+                        beanName, size, timeoutMillis);
+                return new AdmissionLimitingDataSource(dataSource, size, timeoutMillis);
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        return dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : DEFAULT_PERMITS;
+    }
+}
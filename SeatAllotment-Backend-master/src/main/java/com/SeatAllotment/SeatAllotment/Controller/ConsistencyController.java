@@ -0,0 +1,35 @@
+package com.SeatAllotment.SeatAllotment.Controller;
+
+import com.SeatAllotment.SeatAllotment.dto.ConsistencyReport;
+import com.SeatAllotment.SeatAllotment.service.SeatConsistencyChecker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Reports from the seat/employee consistency checker, and on-demand passes.
+ */
+@RestController
+@RequestMapping("/admin/consistency")
+public class ConsistencyController {
+
+    @Autowired
+    private SeatConsistencyChecker consistencyChecker;
+
+    @GetMapping
+    public ResponseEntity<ConsistencyReport> getLastReport() {
+        return consistencyChecker.getLastReport()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Runs a pass now. Without {@code full} only rows changed since the last pass are checked; without
+     * {@code repair} nothing is changed.
+     */
+    @PostMapping("/run")
+    public ResponseEntity<ConsistencyReport> runPass(@RequestParam(defaultValue = "false") boolean full,
+                                                     @RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(consistencyChecker.run(full, repair));
+    }
+}
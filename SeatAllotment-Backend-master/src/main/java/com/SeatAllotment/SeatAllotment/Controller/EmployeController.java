@@ -1,12 +1,28 @@
 package com.SeatAllotment.SeatAllotment.Controller;
 
+import com.SeatAllotment.SeatAllotment.Enum.ExportFormat;
+import com.SeatAllotment.SeatAllotment.Enum.SeatAssignment;
 import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport;
+import com.SeatAllotment.SeatAllotment.dto.EmployeePage;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import com.SeatAllotment.SeatAllotment.service.EmployeeImportService;
+import com.SeatAllotment.SeatAllotment.service.EmployeeSearchIndex;
 import com.SeatAllotment.SeatAllotment.service.EmployeeService;
+import com.SeatAllotment.SeatAllotment.service.ExportService;
+import com.SeatAllotment.SeatAllotment.service.IdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,14 +31,82 @@ import java.util.Optional;
 @RequestMapping("/employees")
 public class EmployeController {
 
+    private static final Logger logger = LoggerFactory.getLogger(EmployeController.class);
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     @GetMapping("/list")
     public List<Employee> getAllEmployees() {
         return employeeService.getAllEmployees();
     }
 
+    /**
+     * Keyset-paginated listing. X-Total-Count is only computed for the first page (no {@code after}).
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeePage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) SeatAssignment assignment) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        department = department != null && !department.isBlank() ? department.trim() : null;
+        role = role != null && !role.isBlank() ? role.trim() : null;
+
+        EmployeePage page = employeeService.getEmployeePage(after, limit, department, role, assignment);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (after == null) {
+            response.header("X-Total-Count",
+                    String.valueOf(employeeService.countEmployees(department, role, assignment)));
+        }
+        return response.body(page);
+    }
+
+    /**
+     * Ranked search over name, department, role, id and seat id; every term must match. A term also
+     * matches longer tokens that start with it, but only the {@value EmployeeSearchIndex#MAX_EXPANSIONS}
+     * closest of them, so very short terms can miss employees.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeSummary>> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new ValidationException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        if (!employeeSearchIndex.isLoaded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(employeeSearchIndex.search(query, limit));
+    }
+
+    /**
+     * Streams every employee as a CSV or XLSX download ({@code format=csv|xlsx}).
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "csv") String format) {
+        return exportService.exportEmployees(ExportFormat.parse(format));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id) {
         Optional<Employee> employee = employeeService.getEmployeeById(id);
@@ -37,9 +121,20 @@ public class EmployeController {
         return employee.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * With an {@code Idempotency-Key} header a retried create returns the first response instead of
+     * running again; the same applies to update and delete.
+     */
     @PostMapping("/create")
-    public ResponseEntity<Map<String, Object>> addEmployee(@RequestBody Map<String, Object> requestBody) {
-        System.out.println("🔍 Raw Request Data: " + requestBody);
+    public ResponseEntity<?> addEmployee(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody Map<String, Object> requestBody) {
+        return idempotencyService.execute(idempotencyKey, "POST /employees/create", requestBody,
+                () -> createEmployee(requestBody));
+    }
+
+    private ResponseEntity<Map<String, Object>> createEmployee(Map<String, Object> requestBody) {
+        logger.debug("Create employee request: {}", requestBody);
 
         Employee employee = new Employee();
 
@@ -78,25 +173,41 @@ public class EmployeController {
         String seatId = requestBody.get("seat_id") != null ? requestBody.get("seat_id").toString() : "Unassigned";
         employee.setSeatId(seatId);
 
-        System.out.println("🔍 Processed Employee Object: " + employee.toString());
+        logger.debug("Create employee parsed as {}", employee);
 
         return employeeService.addEmployee(employee);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportReport> bulkImportJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(employeeImportService.importJson(body));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportReport> bulkImportCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(employeeImportService.importCsv(body));
+    }
+
     @PutMapping("/update/{id}")
-    public ResponseEntity<Map<String, Object>> updateEmployee(
+    public ResponseEntity<?> updateEmployee(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable Long id, @RequestBody Employee updatedEmployee) {
-        return employeeService.updateEmployee(id, updatedEmployee);
+        return idempotencyService.execute(idempotencyKey, "PUT /employees/update/" + id, updatedEmployee,
+                () -> employeeService.updateEmployee(id, updatedEmployee));
     }
 
     @DeleteMapping("/delete/{id}")
-    public ResponseEntity<?> deleteEmployee(@PathVariable Long id) {
-        try {
-            return employeeService.deleteEmployeeWithSeatReset(id);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
-                    Map.of("error", "Deletion Failed", "message", "Failed to delete employee: " + e.getMessage()));
-        }
+    public ResponseEntity<?> deleteEmployee(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id) {
+        return idempotencyService.execute(idempotencyKey, "DELETE /employees/delete/" + id, null, () -> {
+            try {
+                return employeeService.deleteEmployeeWithSeatReset(id);
+            } catch (Exception e) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                        Map.of("error", "Deletion Failed", "message", "Failed to delete employee: " + e.getMessage()));
+            }
+        });
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.SeatAllotment.SeatAllotment.Controller;
+
+import com.SeatAllotment.SeatAllotment.dto.AuditPage;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import com.SeatAllotment.SeatAllotment.service.SeatAuditLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Seat history, newest first, optionally limited to [from, to). Entries reach the history shortly after
+ * the change commits, once the audit writer has flushed them.
+ */
+@RestController
+@RequestMapping("/audit")
+public class SeatAuditController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private SeatAuditLog seatAuditLog;
+
+    @GetMapping("/seats/{seatId}")
+    public ResponseEntity<AuditPage> getSeatHistory(
+            @PathVariable String seatId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "50") int limit) {
+        validateLimit(limit);
+        return ResponseEntity.ok(seatAuditLog.historyOfSeat(seatId, before, from, to, limit));
+    }
+
+    @GetMapping("/employees/{employeeId}")
+    public ResponseEntity<AuditPage> getEmployeeHistory(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "50") int limit) {
+        validateLimit(limit);
+        return ResponseEntity.ok(seatAuditLog.historyOfEmployee(employeeId, before, from, to, limit));
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.SeatAllotment.SeatAllotment.Controller;
+
+import com.SeatAllotment.SeatAllotment.Model.SeatBooking;
+import com.SeatAllotment.SeatAllotment.dto.BookingRequest;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.service.SeatBookingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/bookings")
+public class SeatBookingController {
+
+    @Autowired
+    private SeatBookingService bookingService;
+
+    @PostMapping
+    public ResponseEntity<SeatBooking> createBooking(@RequestBody BookingRequest request) {
+        return ResponseEntity.ok(bookingService.book(request));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> cancelBooking(@PathVariable Long id) {
+        bookingService.cancel(id);
+        return ResponseEntity.ok(Map.of("message", "Booking " + id + " cancelled"));
+    }
+
+    /**
+     * Seats that are neither permanently assigned nor booked at any point in [from, to), optionally only
+     * those in a {@code building}, {@code floor} and/or {@code zone}.
+     */
+    @GetMapping("/free-seats")
+    public ResponseEntity<List<String>> getFreeSeats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String building,
+            @RequestParam(required = false) String floor,
+            @RequestParam(required = false) String zone) {
+        return ResponseEntity.ok(bookingService.getFreeSeats(from, to, SeatLocationFilter.of(building, floor, zone)));
+    }
+
+    /**
+     * Who has booked the seat at the given time.
+     */
+    @GetMapping("/seat/{seatId}")
+    public ResponseEntity<SeatBooking> getBookingAt(
+            @PathVariable String seatId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return bookingService.getBookingAt(seatId, at)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
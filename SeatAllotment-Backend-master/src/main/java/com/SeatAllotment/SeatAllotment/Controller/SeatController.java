@@ -1,12 +1,33 @@
 package com.SeatAllotment.SeatAllotment.Controller;
 
+import com.SeatAllotment.SeatAllotment.Enum.ExportFormat;
 import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
 import com.SeatAllotment.SeatAllotment.Model.Seat;
 import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan;
+import com.SeatAllotment.SeatAllotment.dto.AllocationRequest;
+import com.SeatAllotment.SeatAllotment.dto.SeatLayoutEntry;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveRequest;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveResult;
+import com.SeatAllotment.SeatAllotment.dto.SeatPartitionSummary;
+import com.SeatAllotment.SeatAllotment.dto.SeatStats;
+import com.SeatAllotment.SeatAllotment.service.ExportService;
+import com.SeatAllotment.SeatAllotment.service.SeatAllocationService;
+import com.SeatAllotment.SeatAllotment.service.SeatBitmap;
+import com.SeatAllotment.SeatAllotment.service.SeatEventStream;
+import com.SeatAllotment.SeatAllotment.service.SeatMoveService;
 import com.SeatAllotment.SeatAllotment.service.SeatService;
+import com.SeatAllotment.SeatAllotment.service.SeatStatsIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -17,15 +38,157 @@ import java.util.Optional;
 @RequestMapping("/seats")
 public class SeatController {
 
+    private static final String SEAT_MAP_EPOCH = "X-Seat-Map-Epoch";
+    private static final String SEAT_MAP_VERSION = "X-Seat-Map-Version";
+
     @Autowired
     private SeatService seatService;
 
+    @Autowired
+    private SeatEventStream seatEventStream;
+
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    @Autowired
+    private SeatMoveService seatMoveService;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private SeatStatsIndex seatStatsIndex;
+
+    @Autowired
+    private SeatBitmap seatBitmap;
+
+    /**
+     * All seats, or only those in a {@code building}, {@code floor} and/or {@code zone}.
+     */
     @GetMapping
-    public ResponseEntity<List<Seat>> getAllSeats() {
-        List<Seat> seats = seatService.getAllSeats();
+    public ResponseEntity<List<Seat>> getAllSeats(@RequestParam(required = false) String building,
+                                                  @RequestParam(required = false) String floor,
+                                                  @RequestParam(required = false) String zone) {
+        List<Seat> seats = seatService.getAllSeats(SeatLocationFilter.of(building, floor, zone));
         return ResponseEntity.ok(seats);
     }
 
+    /**
+     * Buildings and floors with their zones and seat counts per status.
+     */
+    @GetMapping("/partitions")
+    public ResponseEntity<List<SeatPartitionSummary>> getPartitions() {
+        List<SeatPartitionSummary> partitions = seatService.getPartitions();
+        if (partitions.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(partitions);
+    }
+
+    /**
+     * The floor plan with occupants, optionally narrowed like {@link #getAllSeats}. The entity tag covers
+     * every seat, so a change on another floor also refreshes a single-floor plan.
+     */
+    @GetMapping("/layout")
+    public ResponseEntity<List<SeatLayoutEntry>> getLayout(
+            @RequestParam(required = false) String building,
+            @RequestParam(required = false) String floor,
+            @RequestParam(required = false) String zone,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = seatService.getLayoutETag();
+        if (ifNoneMatch != null && ifNoneMatch.contains(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(seatService.getLayout(SeatLocationFilter.of(building, floor, zone)));
+    }
+
+    /**
+     * Seat statuses packed two bits per seat in ordinal order (see {@link SeatBitmap} for the layout).
+     * With {@code since} only the seats changed after that version are sent, unless a full frame is smaller
+     * or the version is too old.
+     */
+    @GetMapping(value = "/bitmap", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getSeatBitmap(
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (!seatBitmap.isLoaded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        SeatBitmap.Frame frame = since != null ? seatBitmap.since(since) : seatBitmap.full();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(SEAT_MAP_EPOCH, String.valueOf(frame.epoch()))
+                .header(SEAT_MAP_VERSION, String.valueOf(frame.version()))
+                .cacheControl(CacheControl.noCache());
+        if (since == null) {
+            String eTag = "\"bitmap-" + frame.version() + "\"";
+            if (ifNoneMatch != null && ifNoneMatch.contains(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            response.eTag(eTag);
+        }
+        return response.body(frame.bytes());
+    }
+
+    /**
+     * Seat ids by bitmap ordinal. Fetch again whenever the bitmap reports a different epoch.
+     */
+    @GetMapping("/bitmap/seats")
+    public ResponseEntity<List<String>> getSeatBitmapIds() {
+        if (!seatBitmap.isLoaded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        long epoch = seatBitmap.epoch();
+        return ResponseEntity.ok()
+                .header(SEAT_MAP_EPOCH, String.valueOf(epoch))
+                .body(seatBitmap.seatIds());
+    }
+
+    /**
+     * Seat counts per status and id prefix and employee counts per department, served from counters
+     * kept current by seat and employee changes.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<SeatStats> getStats() {
+        if (!seatStatsIndex.isLoaded()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(seatStatsIndex.snapshot());
+    }
+
+    /**
+     * Streams every seat with its occupant as a CSV or XLSX download ({@code format=csv|xlsx}).
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSeats(@RequestParam(defaultValue = "csv") String format) {
+        return exportService.exportSeats(ExportFormat.parse(format));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(value = "since", required = false) Long since) {
+        return seatEventStream.subscribe(lastEventId != null ? lastEventId : since);
+    }
+
+    /**
+     * Seats a group of employees by policy. With {@code dryRun} the plan is returned without being applied.
+     */
+    @PostMapping("/allocate")
+    public ResponseEntity<AllocationPlan> allocateSeats(@RequestBody AllocationRequest request) {
+        return ResponseEntity.ok(seatAllocationService.allocate(request));
+    }
+
+    /**
+     * Moves several employees at once, e.g. swapping two desks or rotating a group, in a single transaction.
+     */
+    @PostMapping("/moves")
+    public ResponseEntity<SeatMoveResult> moveEmployees(@RequestBody SeatMoveRequest request) {
+        return ResponseEntity.ok(seatMoveService.move(request));
+    }
+
     @GetMapping("/{seatId}/employee-details")
     public ResponseEntity<?> getEmployeeBySeat(@PathVariable String seatId) {
         Optional<Seat> seatOptional = seatService.getSeatById(seatId);
@@ -62,8 +225,10 @@ public class SeatController {
     }
 
     @GetMapping("/vacant")
-    public ResponseEntity<List<Seat>> getVacantSeats() {
-        List<Seat> vacantSeats = seatService.getVacantSeats();
+    public ResponseEntity<List<Seat>> getVacantSeats(@RequestParam(required = false) String building,
+                                                     @RequestParam(required = false) String floor,
+                                                     @RequestParam(required = false) String zone) {
+        List<Seat> vacantSeats = seatService.getVacantSeats(SeatLocationFilter.of(building, floor, zone));
         return ResponseEntity.ok(vacantSeats);
     }
 }
\ No newline at end of file
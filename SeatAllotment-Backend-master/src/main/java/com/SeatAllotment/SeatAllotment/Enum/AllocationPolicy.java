@@ -0,0 +1,8 @@
+package com.SeatAllotment.SeatAllotment.Enum;
+
+public enum AllocationPolicy {
+    /** Fill available seats in floor-plan order, employees in id order. */
+    SEAT_ORDER,
+    /** Seat each department in as few contiguous blocks of seats as possible. */
+    DEPARTMENT_CONTIGUOUS
+}
@@ -0,0 +1,14 @@
+package com.SeatAllotment.SeatAllotment.Enum;
+
+public enum ConsistencyIssueType {
+    /** A seat's employee_id names an employee that does not exist. */
+    ORPHAN_SEAT,
+    /** An employee's seat_id names a seat that does not exist. */
+    ORPHAN_EMPLOYEE_SEAT,
+    /** One employee holds more than one seat. */
+    DOUBLE_BOOKING,
+    /** Seat.employeeId and Employee.seatId point at different places. */
+    POINTER_MISMATCH,
+    /** A seat's status disagrees with whether it has an occupant. */
+    STATUS_MISMATCH
+}
@@ -0,0 +1,7 @@
+package com.SeatAllotment.SeatAllotment.Enum;
+
+public enum SeatAssignment {
+    ASSIGNED,
+    UNASSIGNED,
+    WORK_FROM_HOME
+}
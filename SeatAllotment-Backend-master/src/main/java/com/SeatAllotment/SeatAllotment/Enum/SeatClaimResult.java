@@ -0,0 +1,7 @@
+package com.SeatAllotment.SeatAllotment.Enum;
+
+public enum SeatClaimResult {
+    CLAIMED,
+    UNAVAILABLE,
+    NOT_FOUND
+}
@@ -1,11 +1,22 @@
 package com.SeatAllotment.SeatAllotment.Model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "employees", uniqueConstraints = @UniqueConstraint(columnNames = "employeeid"))
+@Table(name = "employees", uniqueConstraints = @UniqueConstraint(columnNames = "employeeid"), indexes = {
+        @Index(name = "idx_department", columnList = "department"),
+        @Index(name = "idx_seat_id", columnList = "seat_id"),
+        @Index(name = "idx_employees_updated", columnList = "updated_at, employeeid")
+})
 public class Employee {
 
+    public static final String UNASSIGNED = "Unassigned";
+    public static final String WORK_FROM_HOME = "Work From Home";
+
     @Id
     @Column(name = "employeeid", nullable = false, unique = true)
     private Long employeeid;
@@ -22,6 +33,11 @@ public class Employee {
     @Column(name = "seat_id", length = 20)
     private String seatId;
 
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     public Employee() {
     }
 
@@ -88,6 +104,20 @@ public class Employee {
         this.seatId = seatId;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * "Unassigned" and "Work From Home" are stored in seat_id but do not refer to a row in the seats table.
+     */
+    public static boolean isPhysicalSeat(String seatId) {
+        return seatId != null
+                && !seatId.isBlank()
+                && !UNASSIGNED.equalsIgnoreCase(seatId)
+                && !WORK_FROM_HOME.equalsIgnoreCase(seatId);
+    }
+
     @Override
     public String toString() {
         return "Employee{" +
@@ -0,0 +1,59 @@
+package com.SeatAllotment.SeatAllotment.Model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stored outcome of a write sent with an {@code Idempotency-Key}, used when
+ * {@code seat-allotment.idempotency.database=true} so retries are recognised across instances and
+ * restarts. The row is inserted when the first request starts; {@code status} and {@code body} stay
+ * null until it finishes. Rows are written and read with JDBC by the idempotency service.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_created", columnList = "created_at")
+})
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    /** SHA-256 of the operation and request body, hex encoded. */
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column
+    private Integer status;
+
+    @Lob
+    @Column
+    private String body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyRecord() {
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.SeatAllotment.SeatAllotment.Model;
+
+import jakarta.persistence.*;
+
+/**
+ * The single row ({@code id = 1}) the replica lag monitor stamps on the primary and reads back from the
+ * read replica when {@code seat-allotment.replica.enabled=true}. Written and read with JDBC.
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+public class ReplicaHeartbeat {
+
+    @Id
+    private Integer id;
+
+    /** Epoch milliseconds of the last beat. */
+    @Column(name = "beat_millis", nullable = false)
+    private long beatMillis;
+
+    public ReplicaHeartbeat() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public long getBeatMillis() {
+        return beatMillis;
+    }
+}
@@ -1,12 +1,30 @@
 package com.SeatAllotment.SeatAllotment.Model;
 
 import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
 
 @Entity
-@Table(name = "seats", uniqueConstraints = @UniqueConstraint(columnNames = "id"))
+@Table(name = "seats", uniqueConstraints = @UniqueConstraint(columnNames = "id"), indexes = {
+        @Index(name = "idx_seats_updated", columnList = "updated_at, id"),
+        @Index(name = "idx_seats_location", columnList = "building, floor, zone")
+})
 public class Seat {
 
+    /**
+     * Orders seat ids the way they appear on the floor plan: "2" before "10", "A2" before "A10".
+     */
+    public static final Comparator<String> ID_ORDER = Seat::compareIds;
+
+    /** Location of seats created without one, and of every seat from before locations existed. */
+    public static final String DEFAULT_BUILDING = "HQ";
+    public static final String DEFAULT_FLOOR = "1";
+
     @Id
     @Column(name = "id", unique = true, nullable = false, length = 20)
     private String id;
@@ -18,6 +36,30 @@ public class Seat {
     @Column(name = "employee_id")
     private Long employeeId;
 
+    /**
+     * Building, floor and (optional) zone: the hierarchy seat reads and allocations can be scoped to.
+     * The column defaults match init.sql, so rows inserted without a location land in the default one.
+     */
+    @Column(nullable = false, length = 50)
+    @ColumnDefault("'" + DEFAULT_BUILDING + "'")
+    private String building = DEFAULT_BUILDING;
+
+    @Column(nullable = false, length = 20)
+    @ColumnDefault("'" + DEFAULT_FLOOR + "'")
+    private String floor = DEFAULT_FLOOR;
+
+    @Column(length = 50)
+    private String zone;
+
+    /**
+     * Set on every write, including the bulk claim and release updates; the consistency checker
+     * uses it to recheck only rows changed since its last pass.
+     */
+    @JsonIgnore
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     public Seat() {
     }
 
@@ -27,6 +69,13 @@ public class Seat {
         this.employeeId = employeeId;
     }
 
+    public Seat(String id, SeatStatus status, Long employeeId, String building, String floor, String zone) {
+        this(id, status, employeeId);
+        this.building = building;
+        this.floor = floor;
+        this.zone = zone;
+    }
+
     public String getId() {
         return id;
     }
@@ -51,12 +100,77 @@ public class Seat {
         this.employeeId = employeeId;
     }
 
+    public String getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(String building) {
+        this.building = building;
+    }
+
+    public String getFloor() {
+        return floor;
+    }
+
+    public void setFloor(String floor) {
+        this.floor = floor;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    private static int compareIds(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(j);
+            if (Character.isDigit(ca) && Character.isDigit(cb)) {
+                int startA = i;
+                int startB = j;
+                while (i < a.length() && Character.isDigit(a.charAt(i))) {
+                    i++;
+                }
+                while (j < b.length() && Character.isDigit(b.charAt(j))) {
+                    j++;
+                }
+                String numA = a.substring(startA, i).replaceFirst("^0+(?=.)", "");
+                String numB = b.substring(startB, j).replaceFirst("^0+(?=.)", "");
+                int cmp = numA.length() != numB.length()
+                        ? Integer.compare(numA.length(), numB.length())
+                        : numA.compareTo(numB);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            } else {
+                int cmp = Character.compare(Character.toUpperCase(ca), Character.toUpperCase(cb));
+                if (cmp != 0) {
+                    return cmp;
+                }
+                i++;
+                j++;
+            }
+        }
+        int cmp = Integer.compare(a.length() - i, b.length() - j);
+        return cmp != 0 ? cmp : a.compareTo(b);
+    }
+
     @Override
     public String toString() {
         return "Seat{" +
                 "id='" + id + '\'' +
                 ", status=" + status +
                 ", employeeId=" + (employeeId != null ? employeeId : "None") +
+                ", location=" + building + "/" + floor + (zone != null ? "/" + zone : "") +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.SeatAllotment.SeatAllotment.Model;
+
+import com.SeatAllotment.SeatAllotment.Enum.AuditAction;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the append-only seat history. A move is recorded as the CLAIMED and RELEASED rows of the
+ * two seats plus a MOVED row on the new seat that names the previous one. Rows are inserted in batches
+ * by the audit writer and never updated.
+ */
+@Entity
+@Table(name = "seat_audit", indexes = {
+        @Index(name = "idx_audit_seat", columnList = "seat_id, id"),
+        @Index(name = "idx_audit_employee", columnList = "employee_id, id")
+})
+public class SeatAuditEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "seat_id", nullable = false, length = 20)
+    private String seatId;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AuditAction action;
+
+    @Column(name = "previous_seat_id", length = 20)
+    private String previousSeatId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public SeatAuditEntry() {
+    }
+
+    public SeatAuditEntry(String seatId, Long employeeId, AuditAction action, String previousSeatId,
+                          LocalDateTime occurredAt) {
+        this.seatId = seatId;
+        this.employeeId = employeeId;
+        this.action = action;
+        this.previousSeatId = previousSeatId;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSeatId() {
+        return seatId;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public AuditAction getAction() {
+        return action;
+    }
+
+    public String getPreviousSeatId() {
+        return previousSeatId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,94 @@
+package com.SeatAllotment.SeatAllotment.Model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A hot-desk booking of a seat for the half-open interval [startTime, endTime). Bookings sit
+ * alongside the permanent assignment held on {@link Seat}: only VACANT seats can be booked.
+ */
+@Entity
+@Table(name = "seat_bookings", indexes = {
+        @Index(name = "idx_booking_seat_start", columnList = "seat_id, start_time"),
+        @Index(name = "idx_booking_employee_start", columnList = "employee_id, start_time")
+})
+public class SeatBooking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "seat_id", nullable = false, length = 20)
+    private String seatId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    public SeatBooking() {
+    }
+
+    public SeatBooking(String seatId, Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+        this.seatId = seatId;
+        this.employeeId = employeeId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSeatId() {
+        return seatId;
+    }
+
+    public void setSeatId(String seatId) {
+        this.seatId = seatId;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatBooking{" +
+                "id=" + id +
+                ", seatId='" + seatId + '\'' +
+                ", employeeId=" + employeeId +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                '}';
+    }
+}
@@ -1,17 +1,74 @@
 package com.SeatAllotment.SeatAllotment.Repository;
 
 import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+    String FILTERS = "(:department IS NULL OR e.department = :department) "
+            + "AND (:role IS NULL OR e.role = :role) "
+            + "AND (:assignment IS NULL "
+            + "  OR (:assignment = 'UNASSIGNED' AND (e.seatId IS NULL OR e.seatId = 'Unassigned')) "
+            + "  OR (:assignment = 'WORK_FROM_HOME' AND e.seatId = 'Work From Home') "
+            + "  OR (:assignment = 'ASSIGNED' AND e.seatId IS NOT NULL "
+            + "      AND e.seatId NOT IN ('Unassigned', 'Work From Home')))";
+
     boolean existsById(Long employeeid);
 
     Optional<Employee> findBySeatId(String seatId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.employeeid = :id")
+    Optional<Employee> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.employeeid IN :ids ORDER BY e.employeeid")
+    List<Employee> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
     boolean existsBySeatId(String seatId);
-}
\ No newline at end of file
+
+    @Query("SELECT e.employeeid, e.seatId FROM Employee e WHERE e.employeeid IN :ids")
+    List<Object[]> findSeatIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e FROM Employee e WHERE e.employeeid > :afterId ORDER BY e.employeeid")
+    List<Employee> findPageAfterId(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Keyset page over employees changed at or after a point, ordered by (updatedAt, employeeid).
+     */
+    @Query("SELECT e FROM Employee e WHERE e.updatedAt > :since OR (e.updatedAt = :since AND e.employeeid > :afterId) "
+            + "ORDER BY e.updatedAt, e.employeeid")
+    List<Employee> findChangedAfter(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+                                    Pageable page);
+
+    /**
+     * Keyset page ordered by employee id: rows strictly after {@code after}, limited by {@code page}'s size.
+     */
+    @Query("SELECT new com.SeatAllotment.SeatAllotment.dto.EmployeeSummary("
+            + "e.employeeid, e.name, e.role, e.department, e.seatId) FROM Employee e "
+            + "WHERE (:after IS NULL OR e.employeeid > :after) AND " + FILTERS
+            + " ORDER BY e.employeeid")
+    List<EmployeeSummary> findPageAfter(@Param("after") Long after,
+                                        @Param("department") String department,
+                                        @Param("role") String role,
+                                        @Param("assignment") String assignment,
+                                        Pageable page);
+
+    @Query("SELECT COUNT(e) FROM Employee e WHERE " + FILTERS)
+    long countFiltered(@Param("department") String department,
+                       @Param("role") String role,
+                       @Param("assignment") String assignment);
+}
@@ -0,0 +1,35 @@
+package com.SeatAllotment.SeatAllotment.Repository;
+
+import com.SeatAllotment.SeatAllotment.Model.SeatAuditEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SeatAuditRepository extends JpaRepository<SeatAuditEntry, Long> {
+    String WINDOW = "(:before IS NULL OR a.id < :before) "
+            + "AND (:from IS NULL OR a.occurredAt >= :from) "
+            + "AND (:to IS NULL OR a.occurredAt < :to)";
+
+    /**
+     * Newest first: entries for the seat with an id below {@code before}, limited by {@code page}'s size.
+     */
+    @Query("SELECT a FROM SeatAuditEntry a WHERE a.seatId = :seatId AND " + WINDOW + " ORDER BY a.id DESC")
+    List<SeatAuditEntry> findBySeat(@Param("seatId") String seatId,
+                                    @Param("before") Long before,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    Pageable page);
+
+    @Query("SELECT a FROM SeatAuditEntry a WHERE a.employeeId = :employeeId AND " + WINDOW + " ORDER BY a.id DESC")
+    List<SeatAuditEntry> findByEmployee(@Param("employeeId") Long employeeId,
+                                        @Param("before") Long before,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        Pageable page);
+}
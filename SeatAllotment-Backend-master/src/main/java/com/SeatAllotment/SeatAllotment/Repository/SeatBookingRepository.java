@@ -0,0 +1,48 @@
+package com.SeatAllotment.SeatAllotment.Repository;
+
+import com.SeatAllotment.SeatAllotment.Model.SeatBooking;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatBookingRepository extends JpaRepository<SeatBooking, Long> {
+
+    List<SeatBooking> findByEndTimeAfter(LocalDateTime time);
+
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM SeatBooking b "
+            + "WHERE b.seatId = :seatId AND b.startTime < :to AND b.endTime > :from")
+    boolean existsOverlappingForSeat(@Param("seatId") String seatId,
+                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM SeatBooking b "
+            + "WHERE b.employeeId = :employeeId AND b.startTime < :to AND b.endTime > :from")
+    boolean existsOverlappingForEmployee(@Param("employeeId") Long employeeId,
+                                         @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT b FROM SeatBooking b WHERE b.seatId = :seatId AND b.startTime <= :at AND b.endTime > :at")
+    Optional<SeatBooking> findAt(@Param("seatId") String seatId, @Param("at") LocalDateTime at);
+
+    @Query("SELECT DISTINCT b.seatId FROM SeatBooking b WHERE b.startTime < :to AND b.endTime > :from")
+    List<String> findBookedSeatIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT DISTINCT b.seatId FROM SeatBooking b WHERE b.endTime > :now")
+    List<String> findSeatIdsBookedAfter(@Param("now") LocalDateTime now);
+
+    /**
+     * Bookings of the seats that end after {@code now}, read with a shared lock so a booking committed
+     * after this transaction's snapshot is still seen.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT b FROM SeatBooking b WHERE b.seatId IN :seatIds AND b.endTime > :now")
+    List<SeatBooking> findUpcomingForSeats(@Param("seatIds") Collection<String> seatIds,
+                                           @Param("now") LocalDateTime now);
+}
@@ -2,10 +2,19 @@ package com.SeatAllotment.SeatAllotment.Repository;
 
 import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
 import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.dto.SeatLayoutEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +26,67 @@ public interface SeatRepository extends JpaRepository<Seat, String> {
     List<Seat> findByStatus(SeatStatus status);
 
     Optional<Seat> findByEmployeeId(Long employeeId);
-}
\ No newline at end of file
+
+    /**
+     * Seats in a location and status; a null argument matches everything.
+     */
+    @Query("SELECT s FROM Seat s WHERE (:status IS NULL OR s.status = :status) "
+            + "AND (:building IS NULL OR s.building = :building) AND (:floor IS NULL OR s.floor = :floor) "
+            + "AND (:zone IS NULL OR s.zone = :zone)")
+    List<Seat> findByLocation(@Param("status") SeatStatus status, @Param("building") String building,
+                              @Param("floor") String floor, @Param("zone") String zone);
+
+    @Query("SELECT new com.SeatAllotment.SeatAllotment.dto.SeatLayoutEntry("
+            + "s.id, s.status, e.employeeid, e.name, e.role, e.department, s.building, s.floor, s.zone) "
+            + "FROM Seat s LEFT JOIN Employee e ON e.employeeid = s.employeeId "
+            + "WHERE (:building IS NULL OR s.building = :building) AND (:floor IS NULL OR s.floor = :floor) "
+            + "AND (:zone IS NULL OR s.zone = :zone)")
+    List<SeatLayoutEntry> findLayout(@Param("building") String building, @Param("floor") String floor,
+                                     @Param("zone") String zone);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s WHERE s.id IN :ids ORDER BY s.id")
+    List<Seat> findAllByIdForUpdate(@Param("ids") Collection<String> ids);
+
+    /**
+     * Keyset page over every seat in id order, for full consistency scans.
+     */
+    @Query("SELECT s FROM Seat s WHERE s.id > :afterId ORDER BY s.id")
+    List<Seat> findPageAfterId(@Param("afterId") String afterId, Pageable page);
+
+    /**
+     * Keyset page over seats changed at or after a point, ordered by (updatedAt, id); start with {@code afterId = ""}.
+     */
+    @Query("SELECT s FROM Seat s WHERE s.updatedAt > :since OR (s.updatedAt = :since AND s.id > :afterId) "
+            + "ORDER BY s.updatedAt, s.id")
+    List<Seat> findChangedAfter(@Param("since") LocalDateTime since, @Param("afterId") String afterId, Pageable page);
+
+    @Query("SELECT s.employeeId FROM Seat s WHERE s.id IN :ids AND s.employeeId IS NOT NULL")
+    List<Long> findEmployeeIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT s.id FROM Seat s WHERE s.employeeId IN :employeeIds")
+    List<String> findIdsByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
+
+    @Query("SELECT s.id FROM Seat s WHERE s.employeeId = :employeeId")
+    List<String> findIdsByEmployeeId(@Param("employeeId") Long employeeId);
+
+    /**
+     * Claims the seat only if it is still VACANT. Returns the number of rows updated (0 or 1).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = com.SeatAllotment.SeatAllotment.Enum.SeatStatus.OCCUPIED, "
+            + "s.employeeId = :employeeId, s.updatedAt = LOCAL DATETIME "
+            + "WHERE s.id = :seatId AND s.status = com.SeatAllotment.SeatAllotment.Enum.SeatStatus.VACANT")
+    int claimIfVacant(@Param("seatId") String seatId, @Param("employeeId") Long employeeId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = com.SeatAllotment.SeatAllotment.Enum.SeatStatus.VACANT, "
+            + "s.employeeId = NULL, s.updatedAt = LOCAL DATETIME WHERE s.employeeId = :employeeId")
+    int releaseByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = com.SeatAllotment.SeatAllotment.Enum.SeatStatus.VACANT, "
+            + "s.employeeId = NULL, s.updatedAt = LOCAL DATETIME "
+            + "WHERE s.employeeId = :employeeId AND s.id <> :keepSeatId")
+    int releaseByEmployeeIdExcept(@Param("employeeId") Long employeeId, @Param("keepSeatId") String keepSeatId);
+}
@@ -2,8 +2,10 @@ package com.SeatAllotment.SeatAllotment;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SeatAllotmentApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(SeatAllotmentApplication.class, args);
@@ -0,0 +1,23 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Enum.AllocationPolicy;
+
+import java.util.List;
+
+/**
+ * Result of a seat allocation. {@code availableSeats} counts the vacant seats plus the seats freed by
+ * the employees being moved; {@code kept} are employees left on the seat they hold.
+ */
+public record AllocationPlan(AllocationPolicy policy, boolean dryRun, int availableSeats,
+                             List<Assignment> assignments, List<Long> kept, List<Unplaced> unplaced) {
+
+    public record Assignment(Long employeeId, String department, String previousSeatId, String seatId) {
+    }
+
+    public record Unplaced(Long employeeId, String reason) {
+    }
+
+    public AllocationPlan committed() {
+        return new AllocationPlan(policy, false, availableSeats, assignments, kept, unplaced);
+    }
+}
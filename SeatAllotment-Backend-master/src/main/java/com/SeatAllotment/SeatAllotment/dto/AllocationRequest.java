@@ -0,0 +1,19 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Enum.AllocationPolicy;
+
+import java.util.List;
+
+/**
+ * @param keepExistingSeats leave employees who already hold a seat where they are; with a location
+ *                          this only applies to seats inside it
+ * @param dryRun            compute and return the plan without changing anything
+ * @param building          with {@code floor} and {@code zone}, limits the seats handed out (all optional)
+ */
+public record AllocationRequest(List<Long> employeeIds, AllocationPolicy policy, boolean keepExistingSeats,
+                                boolean dryRun, String building, String floor, String zone) {
+
+    public SeatLocationFilter location() {
+        return SeatLocationFilter.of(building, floor, zone);
+    }
+}
@@ -0,0 +1,12 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Model.SeatAuditEntry;
+
+import java.util.List;
+
+/**
+ * One page of seat history, newest first. Pass {@code nextBefore} as {@code before} to get older
+ * entries; it is {@code null} on the last page.
+ */
+public record AuditPage(List<SeatAuditEntry> items, Long nextBefore) {
+}
@@ -0,0 +1,9 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Books {@code seatId} for {@code employeeId} from {@code from} (inclusive) to {@code to} (exclusive).
+ */
+public record BookingRequest(String seatId, Long employeeId, LocalDateTime from, LocalDateTime to) {
+}
@@ -0,0 +1,27 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import java.util.List;
+
+public record BulkImportReport(int total, int succeeded, int failed, List<RowResult> rows) {
+
+    public enum RowStatus {
+        CREATED,
+        FAILED
+    }
+
+    public record RowResult(int row, Long employeeId, String seatId, RowStatus status, String message) {
+
+        public static RowResult created(int row, Long employeeId, String seatId) {
+            return new RowResult(row, employeeId, seatId, RowStatus.CREATED, "Employee created");
+        }
+
+        public static RowResult failed(int row, Long employeeId, String seatId, String message) {
+            return new RowResult(row, employeeId, seatId, RowStatus.FAILED, message);
+        }
+    }
+
+    public static BulkImportReport of(List<RowResult> rows) {
+        int succeeded = (int) rows.stream().filter(r -> r.status() == RowStatus.CREATED).count();
+        return new BulkImportReport(rows.size(), succeeded, rows.size() - succeeded, rows);
+    }
+}
@@ -0,0 +1,10 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Enum.ConsistencyIssueType;
+
+/**
+ * @param repaired whether the pass fixed it; report-only passes leave everything as found
+ */
+public record ConsistencyIssue(ConsistencyIssueType type, String seatId, Long employeeId, String detail,
+                               boolean repaired) {
+}
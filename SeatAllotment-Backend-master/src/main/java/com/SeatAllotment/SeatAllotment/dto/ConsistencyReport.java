@@ -0,0 +1,21 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Result of one consistency pass. {@code issues} is capped; {@code issueCount} is the full number.
+ * {@code watermark} is the newest {@code updated_at} seen, and the next incremental pass starts just
+ * before it.
+ */
+public record ConsistencyReport(Instant startedAt,
+                                Instant finishedAt,
+                                boolean fullScan,
+                                boolean repair,
+                                long seatsScanned,
+                                long employeesScanned,
+                                long issueCount,
+                                List<ConsistencyIssue> issues,
+                                LocalDateTime watermark) {
+}
@@ -0,0 +1,10 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated employee listing. Pass {@code nextAfter} as {@code after} to get the
+ * following page; it is {@code null} on the last page.
+ */
+public record EmployeePage(List<EmployeeSummary> items, Long nextAfter) {
+}
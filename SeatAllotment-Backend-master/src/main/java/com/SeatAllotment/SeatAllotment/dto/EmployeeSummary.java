@@ -0,0 +1,7 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+/**
+ * Read-only view of an employee row, selected directly into this record instead of a managed entity.
+ */
+public record EmployeeSummary(Long employeeid, String name, String role, String department, String seatId) {
+}
@@ -0,0 +1,10 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+
+/**
+ * One seat on the floor plan together with its location and its occupant, if any.
+ */
+public record SeatLayoutEntry(String seatId, SeatStatus status, Long employeeId, String employeeName,
+                              String role, String department, String building, String floor, String zone) {
+}
@@ -0,0 +1,38 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+
+/**
+ * Narrows seat reads to part of the estate; a null part matches everything, so {@link #ALL} matches
+ * every seat and {@code (building, floor, null)} one whole {@link SeatPartition}.
+ */
+public record SeatLocationFilter(String building, String floor, String zone) {
+
+    public static final SeatLocationFilter ALL = new SeatLocationFilter(null, null, null);
+
+    /** Blank request parameters count as absent. */
+    public static SeatLocationFilter of(String building, String floor, String zone) {
+        return new SeatLocationFilter(trimToNull(building), trimToNull(floor), trimToNull(zone));
+    }
+
+    public boolean isAll() {
+        return building == null && floor == null && zone == null;
+    }
+
+    public boolean matches(SeatPartition partition) {
+        return (building == null || building.equals(partition.building()))
+                && (floor == null || floor.equals(partition.floor()));
+    }
+
+    public boolean matchesZone(String seatZone) {
+        return zone == null || zone.equals(seatZone);
+    }
+
+    public boolean matches(Seat seat) {
+        return matches(SeatPartition.of(seat)) && matchesZone(seat.getZone());
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,14 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import java.util.List;
+
+/**
+ * A set of moves applied together. Every physical target seat must be vacant or held by another
+ * employee in the same request, so swaps and longer cycles need no intermediate "Unassigned" step.
+ * A target may also be "Unassigned" or "Work From Home".
+ */
+public record SeatMoveRequest(List<Move> moves) {
+
+    public record Move(Long employeeId, String seatId) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import java.util.List;
+
+/**
+ * @param moves        the moves that were applied
+ * @param vacatedSeats seats left empty once every move was applied
+ */
+public record SeatMoveResult(List<SeatMoveRequest.Move> moves, List<String> vacatedSeats) {
+}
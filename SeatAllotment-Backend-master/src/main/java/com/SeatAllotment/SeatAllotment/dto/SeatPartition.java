@@ -0,0 +1,22 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+
+import java.util.Comparator;
+
+/**
+ * One floor of one building, the unit the occupancy index is partitioned and locked by.
+ */
+public record SeatPartition(String building, String floor) {
+
+    /** Buildings, then floors, in {@link Seat#ID_ORDER} so floor "2" comes before floor "10". */
+    public static final Comparator<SeatPartition> ORDER = Comparator
+            .comparing(SeatPartition::building, Seat.ID_ORDER)
+            .thenComparing(SeatPartition::floor, Seat.ID_ORDER);
+
+    public static final SeatPartition DEFAULT = new SeatPartition(Seat.DEFAULT_BUILDING, Seat.DEFAULT_FLOOR);
+
+    public static SeatPartition of(Seat seat) {
+        return new SeatPartition(seat.getBuilding(), seat.getFloor());
+    }
+}
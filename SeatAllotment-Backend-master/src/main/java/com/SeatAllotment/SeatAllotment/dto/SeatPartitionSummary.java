@@ -0,0 +1,13 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One floor for {@code GET /seats/partitions}: its zones and how many of its seats are in each status.
+ */
+public record SeatPartitionSummary(String building, String floor, List<String> zones, int totalSeats,
+                                   Map<SeatStatus, Integer> byStatus) {
+}
@@ -0,0 +1,23 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatAssignment;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Occupancy counts for {@code GET /seats/stats}. {@code byDepartment} counts employees by how they are
+ * seated; {@code byPrefix} counts seats by the leading part of their id (see
+ * {@code SeatStatsIndex#prefixOf}) and {@code byFloor} by building, then floor. {@code lastDrift} is
+ * how far the live counters were off at the last reconciliation with the database.
+ */
+public record SeatStats(long totalSeats,
+                        long totalEmployees,
+                        Map<SeatStatus, Long> byStatus,
+                        Map<String, Map<SeatAssignment, Long>> byDepartment,
+                        Map<String, Map<SeatStatus, Long>> byPrefix,
+                        Map<String, Map<String, Map<SeatStatus, Long>>> byFloor,
+                        Instant reconciledAt,
+                        long lastDrift) {
+}
@@ -0,0 +1,9 @@
+package com.SeatAllotment.SeatAllotment.dto;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+
+/**
+ * A committed seat change as sent on {@code GET /seats/stream}.
+ */
+public record SeatStreamEvent(long sequence, String seatId, SeatStatus status, Long employeeId) {
+}
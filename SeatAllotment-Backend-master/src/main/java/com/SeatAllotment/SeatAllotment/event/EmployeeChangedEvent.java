@@ -0,0 +1,31 @@
+package com.SeatAllotment.SeatAllotment.event;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+
+/**
+ * Published when an employee is created, updated or deleted. {@code employee} is a detached copy
+ * of the saved state, or {@code null} when the employee was deleted; {@code previousSeatId} is the
+ * seat the employee held before the change ({@code null} for new employees).
+ */
+public record EmployeeChangedEvent(Long employeeId, String previousSeatId, Employee employee) {
+
+    public static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(employee.getId(), null, new Employee(employee));
+    }
+
+    public static EmployeeChangedEvent updated(String previousSeatId, Employee employee) {
+        return new EmployeeChangedEvent(employee.getId(), previousSeatId, new Employee(employee));
+    }
+
+    public static EmployeeChangedEvent deleted(Employee employee) {
+        return new EmployeeChangedEvent(employee.getId(), employee.getSeatId(), null);
+    }
+
+    public boolean isDeleted() {
+        return employee == null;
+    }
+
+    public String seatId() {
+        return employee != null ? employee.getSeatId() : null;
+    }
+}
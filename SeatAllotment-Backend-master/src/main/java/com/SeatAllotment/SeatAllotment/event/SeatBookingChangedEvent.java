@@ -0,0 +1,17 @@
+package com.SeatAllotment.SeatAllotment.event;
+
+import com.SeatAllotment.SeatAllotment.Model.SeatBooking;
+
+/**
+ * Published when a booking is created or cancelled.
+ */
+public record SeatBookingChangedEvent(SeatBooking booking, boolean cancelled) {
+
+    public static SeatBookingChangedEvent created(SeatBooking booking) {
+        return new SeatBookingChangedEvent(booking, false);
+    }
+
+    public static SeatBookingChangedEvent cancelled(SeatBooking booking) {
+        return new SeatBookingChangedEvent(booking, true);
+    }
+}
@@ -0,0 +1,19 @@
+package com.SeatAllotment.SeatAllotment.event;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+
+/**
+ * Published whenever a seat's status or occupant changes. {@code previousEmployeeId} is the occupant
+ * before the change, if known. Listeners that keep derived state should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record SeatChangedEvent(String seatId, SeatStatus status, Long employeeId, Long previousEmployeeId) {
+
+    public static SeatChangedEvent occupied(String seatId, Long employeeId) {
+        return new SeatChangedEvent(seatId, SeatStatus.OCCUPIED, employeeId, null);
+    }
+
+    public static SeatChangedEvent vacated(String seatId, Long previousEmployeeId) {
+        return new SeatChangedEvent(seatId, SeatStatus.VACANT, null, previousEmployeeId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Configuration.CacheConfig;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Evicts exactly the cache entries a committed change can affect. An assignment is stored on both
+ * sides ({@code Seat.employeeId} and {@code Employee.seatId}), so each event evicts the entries
+ * keyed by the seat as well as by the old and new occupant. Loads of those keys still in flight are
+ * forgotten too, so later readers start a fresh query instead of joining one that may predate the change.
+ * With a read replica the entries are evicted again once {@code seat-allotment.replica.max-lag-ms} has
+ * passed, dropping anything a lookup reloaded from a replica that had not applied the change yet.
+ */
+@Component
+public class CacheInvalidator {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${seat-allotment.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    @Value("${seat-allotment.replica.max-lag-ms:5000}")
+    private long replicaMaxLagMillis;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatChanged(SeatChangedEvent event) {
+        evict(CacheConfig.SEATS, event.seatId());
+        evict(CacheConfig.SEAT_OCCUPANTS, event.seatId());
+        evict(CacheConfig.EMPLOYEES_BY_SEAT, event.seatId());
+        evict(CacheConfig.SEATS_BY_EMPLOYEE, event.employeeId());
+        evict(CacheConfig.SEATS_BY_EMPLOYEE, event.previousEmployeeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        evict(CacheConfig.EMPLOYEES, event.employeeId());
+        evict(CacheConfig.SEATS_BY_EMPLOYEE, event.employeeId());
+        for (String seatId : new String[]{event.previousSeatId(), event.seatId()}) {
+            evict(CacheConfig.EMPLOYEES_BY_SEAT, seatId);
+            evict(CacheConfig.SEAT_OCCUPANTS, seatId);
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        if (key == null) {
+            return;
+        }
+        singleFlight.forget(cacheName, key);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            if (replicaEnabled && replicaMaxLagMillis > 0) {
+                taskScheduler.schedule(() -> cache.evict(key), Instant.now().plusMillis(replicaMaxLagMillis));
+            }
+        }
+    }
+}
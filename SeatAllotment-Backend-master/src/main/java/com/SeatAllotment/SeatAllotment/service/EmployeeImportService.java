@@ -0,0 +1,452 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport.RowResult;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports many employees in one request. Rows are read from the request body as they arrive and
+ * processed in chunks: each chunk is validated up front, its seats are locked and claimed in one
+ * pass and the new employees are written with JDBC batch inserts in a single transaction. A row whose
+ * seat has hot-desk bookings that have not ended fails like a row whose seat is occupied.
+ * If the body turns out to be malformed part way through, the rows read so far are still imported
+ * and the report ends with a FAILED row where reading stopped.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SeatMetrics seatMetrics;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public EmployeeImportService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BulkImportReport importJson(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("Request body must be a JSON array of employees");
+            }
+            return importRows(new JsonRowIterator(parser));
+        }
+    }
+
+    public BulkImportReport importCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return importRows(new CsvRowIterator(reader));
+        }
+    }
+
+    BulkImportReport importRows(Iterator<Map<String, Object>> rows) {
+        Timer.Sample sample = seatMetrics.start();
+        List<RowResult> results = new ArrayList<>();
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        int rowNumber = 0;
+        RowResult unreadable = null;
+
+        while (true) {
+            Map<String, Object> raw;
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                raw = rows.next();
+            } catch (UncheckedIOException | ValidationException e) {
+                // Earlier chunks have committed, so report them with the row the body broke at instead of failing
+                String reason = e instanceof UncheckedIOException io ? io.getCause().getMessage() : e.getMessage();
+                unreadable = RowResult.failed(rowNumber + 1, null, null,
+                        "Malformed import body, no further rows were read: " + reason);
+                break;
+            }
+            chunk.add(PendingRow.parse(++rowNumber, raw));
+            if (chunk.size() == CHUNK_SIZE) {
+                results.addAll(importChunk(chunk));
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(chunk));
+        }
+        if (unreadable != null) {
+            results.add(unreadable);
+        }
+
+        BulkImportReport report = BulkImportReport.of(results);
+        seatMetrics.recordImport(sample, report);
+        logger.info("Bulk import finished: {} rows, {} created, {} failed",
+                report.total(), report.succeeded(), report.failed());
+        return report;
+    }
+
+    private List<RowResult> importChunk(List<PendingRow> chunk) {
+        try {
+            return transactionTemplate.execute(status -> writeChunk(chunk));
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                PendingRow row = chunk.get(0);
+                return List.of(RowResult.failed(row.rowNumber, row.employeeId(), row.seatId(),
+                        "Failed to save employee: " + e.getMessage()));
+            }
+            // A constraint we did not pre-check rolled back the whole chunk; retry row by row
+            // so one bad row cannot take the rest of the chunk down with it.
+            logger.warn("Bulk import chunk of {} rows failed, retrying rows individually: {}",
+                    chunk.size(), e.getMessage());
+            List<RowResult> results = new ArrayList<>(chunk.size());
+            for (PendingRow row : chunk) {
+                results.addAll(importChunk(List.of(row)));
+            }
+            return results;
+        }
+    }
+
+    private List<RowResult> writeChunk(List<PendingRow> chunk) {
+        Set<Long> employeeIds = new HashSet<>();
+        Set<String> seatIds = new HashSet<>();
+        for (PendingRow row : chunk) {
+            if (row.employee != null) {
+                employeeIds.add(row.employee.getId());
+                if (Employee.isPhysicalSeat(row.employee.getSeatId())) {
+                    seatIds.add(row.employee.getSeatId());
+                }
+            }
+        }
+
+        Set<Long> existingIds = employeeRepository.findAllById(employeeIds).stream()
+                .map(Employee::getId)
+                .collect(Collectors.toSet());
+        // Locked until the chunk commits, so a concurrent create or import waits instead of claiming the same seat
+        Map<String, Seat> seats = seatIds.isEmpty() ? Map.of() : seatRepository.findAllByIdForUpdate(seatIds).stream()
+                .collect(Collectors.toMap(Seat::getId, Function.identity()));
+        Set<String> booked = seatService.seatsWithUpcomingBookings(seats.keySet());
+
+        List<RowResult> results = new ArrayList<>(chunk.size());
+        Set<Long> seenIds = new HashSet<>();
+        for (PendingRow row : chunk) {
+            if (row.error != null) {
+                results.add(RowResult.failed(row.rowNumber, row.employeeId(), row.seatId(), row.error));
+                continue;
+            }
+
+            Employee employee = row.employee;
+            Long id = employee.getId();
+            String seatId = employee.getSeatId();
+
+            if (existingIds.contains(id) || !seenIds.add(id)) {
+                results.add(RowResult.failed(row.rowNumber, id, seatId, "Employee with ID " + id + " already exists"));
+                continue;
+            }
+
+            if (Employee.isPhysicalSeat(seatId)) {
+                Seat seat = seats.get(seatId);
+                if (seat == null) {
+                    results.add(RowResult.failed(row.rowNumber, id, seatId, "Seat " + seatId + " not found"));
+                    continue;
+                }
+                if (seat.getStatus() != SeatStatus.VACANT) {
+                    results.add(RowResult.failed(row.rowNumber, id, seatId,
+                            "Seat " + seatId + " is already occupied! Please select a different seat."));
+                    continue;
+                }
+                if (booked.contains(seatId)) {
+                    results.add(RowResult.failed(row.rowNumber, id, seatId,
+                            "Seat " + seatId + " has hot-desk bookings that have not ended"));
+                    continue;
+                }
+                seat.setStatus(SeatStatus.OCCUPIED);
+                seat.setEmployeeId(id);
+                employee.setSeatId(seat.getId());
+                eventPublisher.publishEvent(SeatChangedEvent.occupied(seat.getId(), id));
+            }
+
+            entityManager.persist(employee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(employee));
+            results.add(RowResult.created(row.rowNumber, id, employee.getSeatId()));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return results;
+    }
+
+    private static final class PendingRow {
+        final int rowNumber;
+        final Map<String, Object> raw;
+        final Employee employee;
+        final String error;
+
+        private PendingRow(int rowNumber, Map<String, Object> raw, Employee employee, String error) {
+            this.rowNumber = rowNumber;
+            this.raw = raw;
+            this.employee = employee;
+            this.error = error;
+        }
+
+        static PendingRow parse(int rowNumber, Map<String, Object> raw) {
+            try {
+                return new PendingRow(rowNumber, raw, toEmployee(raw), null);
+            } catch (ValidationException e) {
+                return new PendingRow(rowNumber, raw, null, e.getMessage());
+            }
+        }
+
+        Long employeeId() {
+            if (employee != null) {
+                return employee.getId();
+            }
+            try {
+                return Long.parseLong(String.valueOf(raw.get("employeeid")).trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        String seatId() {
+            if (employee != null) {
+                return employee.getSeatId();
+            }
+            Object seatId = raw.get("seat_id");
+            return seatId != null ? seatId.toString() : null;
+        }
+    }
+
+    /**
+     * Applies the same rules as {@code POST /employees/create} to one imported row.
+     */
+    static Employee toEmployee(Map<String, Object> row) {
+        Object rawId = row.get("employeeid");
+        if (rawId == null || rawId.toString().isBlank()) {
+            throw new ValidationException("Employee ID is required");
+        }
+
+        Employee employee = new Employee();
+        try {
+            employee.setId(rawId instanceof Number number
+                    ? number.longValue()
+                    : Long.parseLong(rawId.toString().trim()));
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid Employee ID format. It must be a number.");
+        }
+
+        employee.setName(requireText(row, "name", "Employee name is required"));
+        employee.setDepartment(requireText(row, "department", "Employee department is required"));
+        employee.setRole(requireText(row, "role", "Employee role is required"));
+
+        Object seatId = row.get("seat_id");
+        employee.setSeatId(seatId != null && !seatId.toString().isBlank()
+                ? seatId.toString().trim()
+                : Employee.UNASSIGNED);
+        return employee;
+    }
+
+    private static String requireText(Map<String, Object> row, String field, String message) {
+        Object value = row.get(field);
+        if (value == null || value.toString().trim().isEmpty()) {
+            throw new ValidationException(message);
+        }
+        return value.toString().trim();
+    }
+
+    private final class JsonRowIterator implements Iterator<Map<String, Object>> {
+        private final JsonParser parser;
+        private JsonToken next;
+
+        JsonRowIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = parser.nextToken();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            if (next == JsonToken.END_ARRAY || next == null) {
+                return false;
+            }
+            if (next != JsonToken.START_OBJECT) {
+                throw new ValidationException("Each element of the import array must be a JSON object");
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            next = null;
+            try {
+                return objectMapper.readValue(parser, Map.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Reads a CSV body whose first line names the columns (employeeid, name, department, role, seat_id).
+     */
+    private static final class CsvRowIterator implements Iterator<Map<String, Object>> {
+        private final BufferedReader reader;
+        private final List<String> header;
+        private List<String> next;
+
+        CsvRowIterator(BufferedReader reader) {
+            this.reader = reader;
+            List<String> columns = readRecord();
+            if (columns == null) {
+                throw new ValidationException("CSV body must start with a header row");
+            }
+            this.header = columns.stream().map(CsvRowIterator::normalizeColumn).toList();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                List<String> record = readRecord();
+                if (record == null) {
+                    return false;
+                }
+                if (!(record.size() == 1 && record.get(0).isBlank())) {
+                    next = record;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map<String, Object> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < next.size(); i++) {
+                row.put(header.get(i), next.get(i));
+            }
+            next = null;
+            return row;
+        }
+
+        private List<String> readRecord() {
+            try {
+                String line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                List<String> fields = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                while (true) {
+                    for (int i = 0; i < line.length(); i++) {
+                        char c = line.charAt(i);
+                        if (quoted) {
+                            if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                                field.append('"');
+                                i++;
+                            } else if (c == '"') {
+                                quoted = false;
+                            } else {
+                                field.append(c);
+                            }
+                        } else if (c == '"') {
+                            quoted = true;
+                        } else if (c == ',') {
+                            fields.add(field.toString());
+                            field.setLength(0);
+                        } else {
+                            field.append(c);
+                        }
+                    }
+                    if (!quoted) {
+                        break;
+                    }
+                    // Quoted field spans a line break
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new ValidationException("Unterminated quoted field in CSV body");
+                    }
+                    field.append('\n');
+                }
+                fields.add(field.toString());
+                return fields;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String normalizeColumn(String column) {
+            String key = column.replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+            return switch (key) {
+                case "employeeid", "empid", "id" -> "employeeid";
+                case "seatid", "seat", "seatno" -> "seat_id";
+                default -> key;
+            };
+        }
+    }
+}
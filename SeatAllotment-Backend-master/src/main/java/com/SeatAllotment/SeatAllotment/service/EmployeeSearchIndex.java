@@ -0,0 +1,338 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over employee name, department, role, id and seat id.
+ * <p>
+ * Tokens live in a sorted map so a query term matches whole tokens and token prefixes with one range
+ * scan; a trigram map over the same tokens finds spelling-variant candidates, which are accepted
+ * within a small edit distance. Every query term must match, and documents are ranked by the
+ * quality of each match (exact, prefix, fuzzy) weighted by the field it was found in.
+ * <p>
+ * A short term can be the prefix of thousands of tokens, so each term expands to at most
+ * {@value #MAX_EXPANSIONS} of them: the shortest, i.e. closest to what was typed, and among those the
+ * ones shared by the most employees. Employees reachable only through a longer token are not matched
+ * until the term is typed out further.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+    private static final int REBUILD_BATCH = 1000;
+    static final int MAX_EXPANSIONS = 64;
+
+    private static final double EXACT = 3.0;
+    private static final double PREFIX = 2.0;
+    private static final double FUZZY = 1.0;
+
+    private enum Field {
+        ID(3.0), SEAT(2.5), NAME(2.0), ROLE(1.0), DEPARTMENT(1.0);
+
+        final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record Document(EmployeeSummary employee, Map<String, Field> tokens) {
+    }
+
+    private record Expansion(String token, double quality) {
+    }
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final Comparator<String> closestFirst = Comparator.comparingInt(String::length)
+            .thenComparing((String token) -> postings.get(token).size(), Comparator.reverseOrder())
+            .thenComparing(Comparator.naturalOrder());
+
+    private boolean loaded;
+    private final List<EmployeeChangedEvent> pendingWhileLoading = new ArrayList<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<EmployeeSummary> all = new ArrayList<>();
+        Long after = null;
+        List<EmployeeSummary> batch;
+        do {
+            batch = employeeRepository.findPageAfter(after, null, null, null, PageRequest.of(0, REBUILD_BATCH));
+            all.addAll(batch);
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).employeeid();
+            }
+        } while (batch.size() == REBUILD_BATCH);
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            trigrams.clear();
+            all.forEach(this::add);
+            pendingWhileLoading.forEach(this::apply);
+            pendingWhileLoading.clear();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Employee search index built with {} employees and {} tokens", all.size(), postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                apply(event);
+            } else {
+                pendingWhileLoading.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} employees matching every term of {@code query}, best match first.
+     */
+    public List<EmployeeSummary> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                List<Expansion> expansions = expand(term);
+                Map<Long, Double> termScores = new HashMap<>();
+                for (Expansion expansion : expansions) {
+                    for (Long id : postings.get(expansion.token())) {
+                        if (scores != null && !scores.containsKey(id)) {
+                            continue;
+                        }
+                        Field field = documents.get(id).tokens().get(expansion.token());
+                        termScores.merge(id, expansion.quality() * field.weight, Math::max);
+                    }
+                }
+                if (scores != null) {
+                    Map<Long, Double> previous = scores;
+                    termScores.replaceAll((id, score) -> score + previous.get(id));
+                }
+                scores = termScores;
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, ranking);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<EmployeeSummary> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                results.add(documents.get(top.poll().getKey()).employee());
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Expansion> expand(String term) {
+        List<Expansion> expansions = new ArrayList<>();
+        if (postings.containsKey(term)) {
+            expansions.add(new Expansion(term, EXACT));
+        }
+        // Keep the closest prefix tokens, not the first ones in alphabetical order
+        PriorityQueue<String> closest = new PriorityQueue<>(closestFirst.reversed());
+        for (String token : postings.subMap(term, false, term + Character.MAX_VALUE, false).keySet()) {
+            closest.offer(token);
+            if (closest.size() > MAX_EXPANSIONS - expansions.size()) {
+                closest.poll();
+            }
+        }
+        for (String token : closest) {
+            expansions.add(new Expansion(token, PREFIX));
+        }
+        if (expansions.isEmpty() && term.length() >= 3) {
+            int maxDistance = term.length() <= 5 ? 1 : 2;
+            Set<String> candidates = new HashSet<>();
+            for (String gram : trigramsOf(term)) {
+                candidates.addAll(trigrams.getOrDefault(gram, Set.of()));
+            }
+            for (String candidate : candidates) {
+                if (Math.abs(candidate.length() - term.length()) <= maxDistance
+                        && editDistance(term, candidate, maxDistance) <= maxDistance) {
+                    expansions.add(new Expansion(candidate, FUZZY));
+                }
+            }
+        }
+        return expansions;
+    }
+
+    private void apply(EmployeeChangedEvent event) {
+        remove(event.employeeId());
+        if (!event.isDeleted()) {
+            Employee employee = event.employee();
+            add(new EmployeeSummary(employee.getId(), employee.getName(), employee.getRole(),
+                    employee.getDepartment(), employee.getSeatId()));
+        }
+    }
+
+    private void add(EmployeeSummary employee) {
+        Map<String, Field> tokens = new HashMap<>();
+        // Lower-weight fields first so a token found in several fields keeps the strongest one
+        index(tokens, employee.department(), Field.DEPARTMENT);
+        index(tokens, employee.role(), Field.ROLE);
+        index(tokens, employee.name(), Field.NAME);
+        if (Employee.isPhysicalSeat(employee.seatId())) {
+            index(tokens, employee.seatId(), Field.SEAT);
+        }
+        index(tokens, String.valueOf(employee.employeeid()), Field.ID);
+
+        documents.put(employee.employeeid(), new Document(employee, tokens));
+        for (String token : tokens.keySet()) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null) {
+                ids = new HashSet<>();
+                postings.put(token, ids);
+                for (String gram : trigramsOf(token)) {
+                    trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(token);
+                }
+            }
+            ids.add(employee.employeeid());
+        }
+    }
+
+    private void remove(Long employeeId) {
+        Document document = documents.remove(employeeId);
+        if (document == null) {
+            return;
+        }
+        for (String token : document.tokens().keySet()) {
+            Set<Long> ids = postings.get(token);
+            ids.remove(employeeId);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+                for (String gram : trigramsOf(token)) {
+                    Set<String> tokens = trigrams.get(gram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        trigrams.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void index(Map<String, Field> tokens, String text, Field field) {
+        for (String token : tokenize(text)) {
+            tokens.put(token, field);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> trigramsOf(String token) {
+        String padded = "^" + token + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Levenshtein distance, giving up early once every cell in a row exceeds {@code limit}.
+     */
+    static int editDistance(String a, String b, int limit) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
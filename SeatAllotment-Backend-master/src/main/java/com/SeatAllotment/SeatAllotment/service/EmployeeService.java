@@ -1,19 +1,30 @@
 package com.SeatAllotment.SeatAllotment.service;
 
-import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Configuration.CacheConfig;
+import com.SeatAllotment.SeatAllotment.Enum.SeatAssignment;
+import com.SeatAllotment.SeatAllotment.Enum.SeatClaimResult;
 import com.SeatAllotment.SeatAllotment.Model.Employee;
-import com.SeatAllotment.SeatAllotment.Model.Seat;
 import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
-import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.EmployeePage;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
 import com.SeatAllotment.SeatAllotment.exception.EmployeeNotFoundException;
 import com.SeatAllotment.SeatAllotment.exception.SeatNotFoundException;
 import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
 import com.SeatAllotment.SeatAllotment.exception.ValidationException;
-import jakarta.transaction.Transactional;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashMap;
 import java.util.List;
@@ -23,39 +34,87 @@ import java.util.Optional;
 @Service
 public class EmployeeService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
     @Autowired
-    private SeatRepository seatRepository;
+    private SeatService seatService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SeatMetrics seatMetrics;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** Cache loads go to the read replica when one is configured; see {@code SeatService}. */
+    private TransactionTemplate replicaRead;
+
+    @PostConstruct
+    void init() {
+        replicaRead = new TransactionTemplate(transactionManager);
+        replicaRead.setReadOnly(true);
+        replicaRead.setName(EmployeeService.class.getName() + ".replicaRead");
+    }
 
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    /**
+     * Seeks past {@code after} on the primary key instead of using an offset, so every page costs the same.
+     */
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeePage(Long after, int limit, String department, String role,
+                                        SeatAssignment assignment) {
+        List<EmployeeSummary> items = employeeRepository.findPageAfter(after, department, role,
+                assignment != null ? assignment.name() : null, PageRequest.of(0, limit));
+        Long nextAfter = items.size() == limit ? items.get(items.size() - 1).employeeid() : null;
+        return new EmployeePage(items, nextAfter);
+    }
+
+    @Transactional(readOnly = true)
+    public long countEmployees(String department, String role, SeatAssignment assignment) {
+        if (department == null && role == null && assignment == null) {
+            return employeeRepository.count();
+        }
+        return employeeRepository.countFiltered(department, role, assignment != null ? assignment.name() : null);
+    }
+
+    @Cacheable(CacheConfig.EMPLOYEES)
     public Optional<Employee> getEmployeeById(Long id) {
-        Optional<Employee> employee = employeeRepository.findById(id);
-        employee.ifPresent(emp -> System.out.println("Employee Data: " + emp));
-        return employee;
+        return singleFlight.load(CacheConfig.EMPLOYEES, id, () -> {
+            Optional<Employee> employee = replicaRead.execute(status -> employeeRepository.findById(id));
+            employee.ifPresent(emp -> logger.debug("Loaded employee {}", emp));
+            return employee;
+        });
     }
 
+    @Cacheable(CacheConfig.EMPLOYEES_BY_SEAT)
     public Optional<Employee> getEmployeeBySeat(String seatId) {
-        return employeeRepository.findBySeatId(seatId);
+        return singleFlight.load(CacheConfig.EMPLOYEES_BY_SEAT, seatId,
+                () -> replicaRead.execute(status -> employeeRepository.findBySeatId(seatId)));
     }
 
     @Transactional
     public void resetSeatByEmployeeId(Long employeeId) {
-        Optional<Seat> seat = seatRepository.findByEmployeeId(employeeId);
-        if (seat.isPresent()) {
-            Seat updatedSeat = seat.get();
-            updatedSeat.setEmployeeId(null);
-            updatedSeat.setStatus(SeatStatus.VACANT);
-            seatRepository.save(updatedSeat);
-        }
+        seatService.resetSeatByEmployeeId(employeeId);
     }
 
     @Transactional
     public ResponseEntity<Map<String, Object>> updateEmployee(Long id, Employee updatedEmployee) {
+        return seatMetrics.timeEmployeeWrite(SeatMetrics.UPDATE, () -> doUpdateEmployee(id, updatedEmployee));
+    }
+
+    private ResponseEntity<Map<String, Object>> doUpdateEmployee(Long id, Employee updatedEmployee) {
         Map<String, Object> response = new HashMap<>();
 
         Employee existingEmployee = employeeRepository.findById(id)
@@ -69,18 +128,17 @@ public class EmployeeService {
                 resetSeatByEmployeeId(existingEmployee.getEmployeeid());
                 existingEmployee.setSeatId(newSeatId);
             } else {
-                Seat newSeat = seatRepository.findById(newSeatId)
-                        .orElseThrow(() -> new SeatNotFoundException(newSeatId));
-
-                if (newSeat.getStatus() == SeatStatus.OCCUPIED) {
+                // Claim the new seat first so a lost race leaves the current seat untouched
+                SeatClaimResult claim = seatService.claimSeat(newSeatId, id);
+                if (claim == SeatClaimResult.NOT_FOUND) {
+                    throw new SeatNotFoundException(newSeatId);
+                }
+                if (claim == SeatClaimResult.UNAVAILABLE) {
                     response.put("message", "❌ Seat " + newSeatId + " is already occupied!");
                     return ResponseEntity.badRequest().body(response);
                 }
 
-                resetSeatByEmployeeId(existingEmployee.getEmployeeid());
-                newSeat.setStatus(SeatStatus.OCCUPIED);
-                newSeat.setEmployeeId(id);
-                seatRepository.save(newSeat);
+                seatService.releaseOtherSeats(id, newSeatId);
                 existingEmployee.setSeatId(newSeatId);
             }
         }
@@ -90,6 +148,7 @@ public class EmployeeService {
         existingEmployee.setDepartment(updatedEmployee.getDepartment());
 
         Employee savedEmployee = employeeRepository.save(existingEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(currentSeatId, savedEmployee));
         response.put("message", "✅ Employee updated successfully");
         response.put("employee", savedEmployee);
 
@@ -98,6 +157,10 @@ public class EmployeeService {
 
     @Transactional
     public ResponseEntity<Map<String, Object>> deleteEmployeeWithSeatReset(Long id) {
+        return seatMetrics.timeEmployeeWrite(SeatMetrics.DELETE, () -> doDeleteEmployeeWithSeatReset(id));
+    }
+
+    private ResponseEntity<Map<String, Object>> doDeleteEmployeeWithSeatReset(Long id) {
         Map<String, Object> response = new HashMap<>();
 
         try {
@@ -116,6 +179,7 @@ public class EmployeeService {
 
             // Delete the employee (atomic operation)
             employeeRepository.deleteById(id);
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(emp));
 
             response.put("message", "Employee '" + employeeName + "' (ID: " + id + ") deleted successfully.");
             return ResponseEntity.ok(response);
@@ -134,6 +198,10 @@ public class EmployeeService {
 
     @Transactional
     public ResponseEntity<Map<String, Object>> addEmployee(Employee employee) {
+        return seatMetrics.timeEmployeeWrite(SeatMetrics.ADD, () -> doAddEmployee(employee));
+    }
+
+    private ResponseEntity<Map<String, Object>> doAddEmployee(Employee employee) {
         Map<String, Object> response = new HashMap<>();
 
         // Validate Employee ID
@@ -141,7 +209,7 @@ public class EmployeeService {
             throw new ValidationException("Employee ID must be provided");
         }
 
-        System.out.println("🔍 Seat ID Received: " + employee.getSeatId());
+        logger.debug("Adding employee {} to seat {}", employee.getId(), employee.getSeatId());
 
         // ✅ Allow "Work From Home" and "Unassigned" without checking the database
         if ("Work From Home".equalsIgnoreCase(employee.getSeatId())
@@ -150,26 +218,13 @@ public class EmployeeService {
             return saveEmployee(employee, response);
         }
 
-        // Validate manual seat assignment (Only check real seats)
-        Optional<Seat> seatOpt = seatRepository.findById(employee.getSeatId());
-
-        if (seatOpt.isPresent()) {
-            Seat seat = seatOpt.get();
-
-            if (seat.getStatus() != SeatStatus.VACANT) {
-                throw new SeatUnavailableException(
-                        "Seat " + seat.getId() + " is already occupied! Please select a different seat.");
-            }
-
-            // Assign seat and update status
-            seat.setStatus(SeatStatus.OCCUPIED);
-            seat.setEmployeeId(employee.getId());
-            seatRepository.save(seat); // Update seat table
-
-            employee.setSeatId(String.valueOf(seat.getId())); // Ensure seat ID is stored correctly
-            response.put("message", "✅ Employee assigned to seat " + seat.getId());
-        } else {
-            throw new SeatNotFoundException(employee.getSeatId());
+        // Claim the seat atomically (Only real seats reach this point)
+        String seatId = employee.getSeatId();
+        switch (seatService.claimSeat(seatId, employee.getId())) {
+            case NOT_FOUND -> throw new SeatNotFoundException(seatId);
+            case UNAVAILABLE -> throw new SeatUnavailableException(
+                    "Seat " + seatId + " is already occupied! Please select a different seat.");
+            case CLAIMED -> response.put("message", "✅ Employee assigned to seat " + seatId);
         }
 
         return saveEmployee(employee, response);
@@ -177,6 +232,7 @@ public class EmployeeService {
 
     private ResponseEntity<Map<String, Object>> saveEmployee(Employee employee, Map<String, Object> response) {
         Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(savedEmployee));
         response.put("employee", savedEmployee);
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,104 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.ExportFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+/**
+ * Streams the employee and seat tables to CSV or XLSX downloads.
+ * <p>
+ * Rows are read with plain JDBC on a forward-only cursor and written to the response as they are
+ * read; nothing is collected, so heap use stays flat however large the table is. With MySQL a fetch
+ * size of {@link Integer#MIN_VALUE} ({@code seat-allotment.export.fetch-size}) makes the driver
+ * stream rows instead of buffering the whole result.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    static final String EMPLOYEES_SQL =
+            "SELECT employeeid, name, department, role, seat_id FROM employees ORDER BY employeeid";
+    static final Object[] EMPLOYEE_HEADERS = {"Employee ID", "Name", "Department", "Role", "Seat No"};
+
+    static final String SEATS_SQL = "SELECT s.id, s.building, s.floor, s.zone, s.status, s.employee_id, e.name, "
+            + "e.department FROM seats s LEFT JOIN employees e ON e.employeeid = s.employee_id ORDER BY s.id";
+    static final Object[] SEAT_HEADERS = {"Seat", "Building", "Floor", "Zone", "Status", "Employee ID",
+            "Employee Name", "Department"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportService(DataSource dataSource, @Value("${seat-allotment.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportEmployees(ExportFormat format) {
+        return download("employees", "Seating Report", format, EMPLOYEES_SQL, EMPLOYEE_HEADERS);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportSeats(ExportFormat format) {
+        return download("seats", "Seats", format, SEATS_SQL, SEAT_HEADERS);
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(String name, String sheetName, ExportFormat format,
+                                                           String sql, Object[] headers) {
+        String fileName = name + "-" + LocalDate.now() + "." + format.extension();
+        StreamingResponseBody body = out -> {
+            long started = System.nanoTime();
+            long rows = export(jdbcTemplate, sql, headers, writer(format, out, sheetName));
+            logger.info("Exported {} {} rows as {} in {} ms", rows, name, format,
+                    (System.nanoTime() - started) / 1_000_000);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    static TabularWriter writer(ExportFormat format, OutputStream out, String sheetName) throws IOException {
+        return format == ExportFormat.XLSX ? new XlsxTabularWriter(out, sheetName) : new CsvTabularWriter(out);
+    }
+
+    /**
+     * Writes the header row and every row of {@code sql}, one column per header. Returns the number of data rows.
+     */
+    static long export(JdbcTemplate jdbc, String sql, Object[] headers, TabularWriter writer) throws IOException {
+        writer.writeRow(headers);
+        long[] rows = {0};
+        try {
+            jdbc.query(sql, (RowCallbackHandler) resultSet -> {
+                Object[] values = new Object[headers.length];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = resultSet.getObject(i + 1);
+                }
+                try {
+                    writer.writeRow(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; stop reading and let the container handle it
+            throw e.getCause();
+        }
+        writer.finish();
+        return rows[0];
+    }
+}
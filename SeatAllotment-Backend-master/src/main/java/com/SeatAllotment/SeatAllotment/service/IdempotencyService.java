@@ -0,0 +1,276 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.exception.IdempotencyConflictException;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a write at most once per {@code Idempotency-Key}. The first request with a key runs and its
+ * response is stored; repeats with the same operation and body get the stored response back with
+ * {@code Idempotent-Replayed: true} and do not touch the seats or employees tables. A repeat that
+ * arrives while the first is still running waits for it. Reusing a key for a different request is
+ * rejected with 409.
+ * <p>
+ * Responses are kept in a bounded in-memory store for {@code seat-allotment.idempotency.ttl-seconds}.
+ * With {@code seat-allotment.idempotency.database=true} they are also written to
+ * {@code idempotency_keys}, so a retry that lands on another instance or after a restart is recognised
+ * too. Server errors (5xx or an exception) are not stored, and the key can be retried.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 100;
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private static final String CLAIM = "INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at) "
+            + "VALUES (?, ?, ?)";
+    private static final String FIND = "SELECT fingerprint, status, body FROM idempotency_keys WHERE idempotency_key = ?";
+    private static final String COMPLETE = "UPDATE idempotency_keys SET status = ?, body = ? WHERE idempotency_key = ?";
+    private static final String RELEASE = "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status IS NULL";
+    private static final String PURGE = "DELETE FROM idempotency_keys WHERE created_at < ? "
+            + "OR (status IS NULL AND created_at < ?)";
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final SeatMetrics seatMetrics;
+    private final boolean database;
+    private final Duration ttl;
+    private final long waitTimeoutMillis;
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyService(ObjectMapper objectMapper, DataSource dataSource, SeatMetrics seatMetrics,
+                              @Value("${seat-allotment.idempotency.database:false}") boolean database,
+                              @Value("${seat-allotment.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                              @Value("${seat-allotment.idempotency.max-entries:100000}") long maxEntries,
+                              @Value("${seat-allotment.idempotency.wait-timeout-ms:30000}") long waitTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.seatMetrics = seatMetrics;
+        this.database = database;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * A response as it was first sent: the status code and the JSON body.
+     */
+    record StoredResponse(int status, String body) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<StoredResponse> response) {
+    }
+
+    /**
+     * Runs {@code write} unless {@code key} was already used for this {@code operation} and
+     * {@code request}, in which case the first response is returned. Without a key the write simply runs.
+     */
+    public ResponseEntity<?> execute(String key, String operation, Object request,
+                                     Supplier<? extends ResponseEntity<?>> write) {
+        if (key == null) {
+            return write.get();
+        }
+        key = key.trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String fingerprint = fingerprint(operation, request);
+
+        Entry entry = new Entry(fingerprint, new CompletableFuture<>());
+        Entry first = entries.asMap().putIfAbsent(key, entry);
+        if (first != null) {
+            return replay(key, fingerprint, first);
+        }
+
+        boolean claimed = false;
+        try {
+            if (database) {
+                StoredResponse stored = claimOrAwait(key, fingerprint);
+                if (stored != null) {
+                    entry.response().complete(stored);
+                    return replayed(stored);
+                }
+                claimed = true;
+            }
+            ResponseEntity<?> response = write.get();
+            StoredResponse stored = new StoredResponse(response.getStatusCode().value(), toJson(response.getBody()));
+            if (response.getStatusCode().is5xxServerError()) {
+                forget(key, entry, claimed);
+            } else if (claimed) {
+                jdbcTemplate.update(COMPLETE, stored.status(), stored.body(), key);
+            }
+            entry.response().complete(stored);
+            return response;
+        } catch (RuntimeException | Error e) {
+            forget(key, entry, claimed);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes rows past the TTL, and unfinished rows older than the wait timeout (their request died
+     * before storing a response), so those keys can be used again.
+     */
+    @Scheduled(fixedDelayString = "${seat-allotment.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        if (!database) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int purged = jdbcTemplate.update(PURGE, Timestamp.valueOf(now.minus(ttl)),
+                Timestamp.valueOf(now.minus(Duration.ofMillis(waitTimeoutMillis))));
+        if (purged > 0) {
+            logger.debug("Purged {} idempotency keys", purged);
+        }
+    }
+
+    private ResponseEntity<?> replay(String key, String fingerprint, Entry first) {
+        if (!first.fingerprint().equals(fingerprint)) {
+            throw mismatch(key);
+        }
+        try {
+            return replayed(first.response().get(waitTimeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress(key);
+        }
+    }
+
+    /**
+     * Inserts the key's row, or when another instance already has, waits for its response. Returns
+     * null when this request claimed the key and should run.
+     */
+    private StoredResponse claimOrAwait(String key, String fingerprint) {
+        try {
+            jdbcTemplate.update(CLAIM, key, fingerprint, Timestamp.valueOf(LocalDateTime.now()));
+            return null;
+        } catch (DuplicateKeyException e) {
+            // Claimed elsewhere; wait for the response below
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(FIND,
+                    (rs, rowNum) -> new Object[]{rs.getString(1), rs.getObject(2, Integer.class), rs.getString(3)}, key);
+            if (rows.isEmpty()) {
+                // The other request failed and released the key
+                return claimOrAwait(key, fingerprint);
+            }
+            Object[] row = rows.get(0);
+            if (!fingerprint.equals(row[0])) {
+                throw mismatch(key);
+            }
+            if (row[1] != null) {
+                return new StoredResponse((Integer) row[1], (String) row[2]);
+            }
+            if (System.nanoTime() > deadline) {
+                throw inProgress(key);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                throw inProgress(key);
+            }
+        }
+    }
+
+    private void forget(String key, Entry entry, boolean claimed) {
+        entries.asMap().remove(key, entry);
+        if (claimed) {
+            try {
+                jdbcTemplate.update(RELEASE, key);
+            } catch (RuntimeException e) {
+                logger.warn("Could not release idempotency key {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private ResponseEntity<?> replayed(StoredResponse stored) {
+        seatMetrics.recordIdempotentReplay();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(stored.status()).header(REPLAYED_HEADER, "true");
+        if (stored.body() == null) {
+            return response.build();
+        }
+        return response.contentType(MediaType.APPLICATION_JSON).body(stored.body());
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            String body = toJson(request);
+            if (body != null) {
+                digest.update(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static IdempotencyConflictException mismatch(String key) {
+        return new IdempotencyConflictException(HEADER + " " + key + " was already used for a different request");
+    }
+
+    private static IdempotencyConflictException inProgress(String key) {
+        return new IdempotencyConflictException("The request with " + HEADER + " " + key + " is still being processed");
+    }
+}
@@ -0,0 +1,203 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.AllocationPolicy;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan.Assignment;
+import com.SeatAllotment.SeatAllotment.dto.AllocationRequest;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Seats a group of employees in one pass. The plan is computed in memory by {@link SeatAllocator}
+ * from the occupancy index; committing it locks every seat involved, checks that none changed since
+ * the plan was made and writes all seat and employee rows in a single batched transaction.
+ * A request with a building, floor or zone only hands out seats there, and the plan is computed from
+ * that part of the index alone. Seats with hot-desk bookings that have not ended are left out of the
+ * plan, and a booking made between planning and commit fails the commit.
+ */
+@Service
+public class SeatAllocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatAllocationService.class);
+
+    static final int MAX_EMPLOYEES = 50_000;
+    private static final int QUERY_CHUNK = 1000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public SeatAllocationService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public AllocationPlan allocate(AllocationRequest request) {
+        if (request.employeeIds() == null || request.employeeIds().isEmpty()) {
+            throw new ValidationException("employeeIds must not be empty");
+        }
+        if (request.employeeIds().size() > MAX_EMPLOYEES) {
+            throw new ValidationException("At most " + MAX_EMPLOYEES + " employees can be allocated at once");
+        }
+        AllocationPolicy policy = request.policy() != null ? request.policy() : AllocationPolicy.SEAT_ORDER;
+        Set<Long> ids = new LinkedHashSet<>(request.employeeIds());
+        ids.remove(null);
+
+        long started = System.nanoTime();
+        List<Employee> employees = inChunks(ids, employeeRepository::findAllById);
+        Set<Long> found = new LinkedHashSet<>();
+        employees.forEach(employee -> found.add(employee.getId()));
+        List<Long> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+
+        SeatLocationFilter location = request.location();
+        List<Seat> seats = occupancyIndex.isLoaded() ? occupancyIndex.seats(location)
+                : location.isAll() ? seatRepository.findAll()
+                : seatRepository.findByLocation(null, location.building(), location.floor(), location.zone());
+        // Seats with hot-desk bookings that have not ended are not handed out permanently
+        Set<String> booked = seatService.seatsWithUpcomingBookings();
+        if (!booked.isEmpty()) {
+            seats = seats.stream().filter(seat -> !booked.contains(seat.getId())).toList();
+        }
+        AllocationPlan plan = SeatAllocator.plan(seats, employees, missing, policy, request.keepExistingSeats(),
+                request.dryRun());
+        logger.info("Allocation plan for {} employees over {} available seats ({}, {}) computed in {} ms: "
+                        + "{} assigned, {} kept, {} unplaced", ids.size(), plan.availableSeats(), policy, location,
+                (System.nanoTime() - started) / 1_000_000, plan.assignments().size(), plan.kept().size(),
+                plan.unplaced().size());
+
+        if (request.dryRun()) {
+            return plan;
+        }
+        if (!plan.unplaced().isEmpty()) {
+            throw new ValidationException(plan.unplaced().size()
+                    + " employee(s) cannot be placed; run with dryRun=true to see which");
+        }
+        transactionTemplate.executeWithoutResult(status -> commit(plan));
+        return plan.committed();
+    }
+
+    private void commit(AllocationPlan plan) {
+        Map<Long, Assignment> byEmployee = new HashMap<>();
+        Map<String, Long> targetSeats = new HashMap<>();
+        for (Assignment assignment : plan.assignments()) {
+            byEmployee.put(assignment.employeeId(), assignment);
+            targetSeats.put(assignment.seatId(), assignment.employeeId());
+        }
+
+        // Target seats and the seats the employees hold now are locked together in one pass in id order,
+        // so two overlapping allocations always take their row locks in the same order
+        Set<String> seatIds = new TreeSet<>(targetSeats.keySet());
+        seatIds.addAll(inChunks(byEmployee.keySet(), seatRepository::findIdsByEmployeeIdIn));
+        Map<String, Seat> locked = new HashMap<>();
+        for (Seat seat : inChunks(seatIds, seatRepository::findAllByIdForUpdate)) {
+            locked.put(seat.getId(), seat);
+        }
+
+        List<Seat> targets = new ArrayList<>(targetSeats.size());
+        for (String seatId : targetSeats.keySet()) {
+            Seat seat = locked.get(seatId);
+            if (seat == null) {
+                throw new SeatUnavailableException("Some seats in the plan no longer exist; preview the allocation again");
+            }
+            targets.add(seat);
+        }
+        // A seat claimed by one of the employees after we listed their seats would otherwise stay held
+        if (!locked.keySet().containsAll(inChunks(byEmployee.keySet(), seatRepository::findIdsByEmployeeIdIn))) {
+            throw new SeatUnavailableException("Seats of the employees being allocated changed concurrently; "
+                    + "preview the allocation again");
+        }
+        List<Seat> held = locked.values().stream()
+                .filter(seat -> seat.getEmployeeId() != null && byEmployee.containsKey(seat.getEmployeeId()))
+                .toList();
+        for (Seat seat : targets) {
+            boolean free = seat.getStatus() == SeatStatus.VACANT
+                    || (seat.getStatus() == SeatStatus.OCCUPIED && byEmployee.containsKey(seat.getEmployeeId()));
+            if (!free) {
+                throw new SeatUnavailableException("Seat " + seat.getId()
+                        + " was taken after the allocation was planned; preview the allocation again");
+            }
+        }
+        List<String> claimed = targets.stream()
+                .filter(seat -> seat.getStatus() == SeatStatus.VACANT)
+                .map(Seat::getId)
+                .toList();
+        if (!inChunks(claimed, chunk -> List.copyOf(seatService.seatsWithUpcomingBookings(chunk))).isEmpty()) {
+            throw new SeatUnavailableException("Seats in the plan were booked after the allocation was planned; "
+                    + "preview the allocation again");
+        }
+
+        List<SeatChangedEvent> seatEvents = new ArrayList<>();
+        for (Seat seat : held) {
+            if (!seat.getEmployeeId().equals(targetSeats.get(seat.getId()))) {
+                seatEvents.add(SeatChangedEvent.vacated(seat.getId(), seat.getEmployeeId()));
+                seat.setStatus(SeatStatus.VACANT);
+                seat.setEmployeeId(null);
+            }
+        }
+        for (Seat seat : targets) {
+            Long employeeId = targetSeats.get(seat.getId());
+            if (seat.getStatus() != SeatStatus.OCCUPIED || !employeeId.equals(seat.getEmployeeId())) {
+                seatEvents.add(SeatChangedEvent.occupied(seat.getId(), employeeId));
+                seat.setStatus(SeatStatus.OCCUPIED);
+                seat.setEmployeeId(employeeId);
+            }
+        }
+
+        List<EmployeeChangedEvent> employeeEvents = new ArrayList<>();
+        for (Employee employee : inChunks(byEmployee.keySet(), employeeRepository::findAllById)) {
+            String previousSeatId = employee.getSeatId();
+            employee.setSeatId(byEmployee.get(employee.getId()).seatId());
+            employeeEvents.add(EmployeeChangedEvent.updated(previousSeatId, employee));
+        }
+
+        seatEvents.forEach(eventPublisher::publishEvent);
+        employeeEvents.forEach(eventPublisher::publishEvent);
+        logger.info("Committed allocation: {} seat changes, {} employees moved", seatEvents.size(), employeeEvents.size());
+    }
+
+    private static <K, T> List<T> inChunks(Collection<K> keys, Function<List<K>, List<T>> query) {
+        List<K> all = new ArrayList<>(keys);
+        List<T> results = new ArrayList<>(all.size());
+        for (int from = 0; from < all.size(); from += QUERY_CHUNK) {
+            results.addAll(query.apply(all.subList(from, Math.min(all.size(), from + QUERY_CHUNK))));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,184 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.AllocationPolicy;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan.Assignment;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan.Unplaced;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Computes a seat allocation in memory, in O(n log n) over seats and employees.
+ * <p>
+ * Seats are laid out in {@link Seat#ID_ORDER}; a seat is available if it is VACANT or held by one of
+ * the employees being moved. For {@link AllocationPolicy#DEPARTMENT_CONTIGUOUS} the available seats
+ * form runs between unavailable ones. Departments are placed largest first, each in the smallest run
+ * that holds the whole department (best fit); a department that fits in no run is spread over the
+ * largest runs so it is split into as few blocks as possible.
+ */
+final class SeatAllocator {
+
+    static final String NOT_FOUND = "Employee not found";
+    static final String NO_SEAT = "No available seat left";
+
+    private record Run(int start, int length) {
+    }
+
+    private SeatAllocator() {
+    }
+
+    static AllocationPlan plan(List<Seat> seats, List<Employee> employees, List<Long> missingEmployeeIds,
+                               AllocationPolicy policy, boolean keepExistingSeats, boolean dryRun) {
+        List<Seat> ordered = new ArrayList<>(seats);
+        ordered.sort((a, b) -> Seat.ID_ORDER.compare(a.getId(), b.getId()));
+
+        Map<Long, String> heldSeat = new HashMap<>();
+        for (Seat seat : ordered) {
+            if (seat.getStatus() == SeatStatus.OCCUPIED && seat.getEmployeeId() != null) {
+                heldSeat.putIfAbsent(seat.getEmployeeId(), seat.getId());
+            }
+        }
+
+        List<Long> kept = new ArrayList<>();
+        List<Employee> toPlace = new ArrayList<>();
+        Set<Long> moving = new HashSet<>();
+        Set<Long> seen = new HashSet<>();
+        for (Employee employee : employees) {
+            if (!seen.add(employee.getId())) {
+                continue;
+            }
+            if (keepExistingSeats && heldSeat.containsKey(employee.getId())) {
+                kept.add(employee.getId());
+            } else {
+                toPlace.add(employee);
+                moving.add(employee.getId());
+            }
+        }
+        toPlace.sort(Comparator.comparing(Employee::getId));
+
+        List<String> available = new ArrayList<>();
+        List<Run> runs = new ArrayList<>();
+        int runStart = -1;
+        for (Seat seat : ordered) {
+            boolean free = seat.getStatus() == SeatStatus.VACANT
+                    || (seat.getStatus() == SeatStatus.OCCUPIED && moving.contains(seat.getEmployeeId()));
+            if (free) {
+                if (runStart < 0) {
+                    runStart = available.size();
+                }
+                available.add(seat.getId());
+            } else if (runStart >= 0) {
+                runs.add(new Run(runStart, available.size() - runStart));
+                runStart = -1;
+            }
+        }
+        if (runStart >= 0) {
+            runs.add(new Run(runStart, available.size() - runStart));
+        }
+
+        List<Assignment> assignments = new ArrayList<>(toPlace.size());
+        List<Unplaced> unplaced = new ArrayList<>();
+        missingEmployeeIds.forEach(id -> unplaced.add(new Unplaced(id, NOT_FOUND)));
+
+        if (policy == AllocationPolicy.DEPARTMENT_CONTIGUOUS) {
+            RunIndex index = new RunIndex(runs);
+            for (List<Employee> department : byDepartmentLargestFirst(toPlace)) {
+                List<Integer> positions = index.take(department.size());
+                for (int i = 0; i < department.size(); i++) {
+                    Employee employee = department.get(i);
+                    if (i < positions.size()) {
+                        assignments.add(assignment(employee, available.get(positions.get(i))));
+                    } else {
+                        unplaced.add(new Unplaced(employee.getId(), NO_SEAT));
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < toPlace.size(); i++) {
+                Employee employee = toPlace.get(i);
+                if (i < available.size()) {
+                    assignments.add(assignment(employee, available.get(i)));
+                } else {
+                    unplaced.add(new Unplaced(employee.getId(), NO_SEAT));
+                }
+            }
+        }
+        return new AllocationPlan(policy, dryRun, available.size(), assignments, kept, unplaced);
+    }
+
+    private static Assignment assignment(Employee employee, String seatId) {
+        return new Assignment(employee.getId(), employee.getDepartment(), employee.getSeatId(), seatId);
+    }
+
+    private static List<List<Employee>> byDepartmentLargestFirst(List<Employee> employees) {
+        Map<String, List<Employee>> departments = new LinkedHashMap<>();
+        for (Employee employee : employees) {
+            String key = employee.getDepartment() != null ? employee.getDepartment().trim().toLowerCase(Locale.ROOT) : "";
+            departments.computeIfAbsent(key, k -> new ArrayList<>()).add(employee);
+        }
+        List<Map.Entry<String, List<Employee>>> entries = new ArrayList<>(departments.entrySet());
+        Comparator<List<Employee>> bySize = Comparator.comparingInt(List::size);
+        entries.sort(Map.Entry.<String, List<Employee>>comparingByValue(bySize.reversed())
+                .thenComparing(Map.Entry.comparingByKey()));
+        List<List<Employee>> ordered = new ArrayList<>(entries.size());
+        entries.forEach(entry -> ordered.add(entry.getValue()));
+        return ordered;
+    }
+
+    /**
+     * Free runs by length; within a length the run nearest the start of the floor plan comes first.
+     */
+    private static final class RunIndex {
+
+        private final TreeMap<Integer, TreeSet<Run>> byLength = new TreeMap<>();
+
+        RunIndex(List<Run> runs) {
+            runs.forEach(this::add);
+        }
+
+        /** Positions for {@code count} seats, fewer if the runs are exhausted. */
+        List<Integer> take(int count) {
+            List<Integer> positions = new ArrayList<>(count);
+            int remaining = count;
+            while (remaining > 0 && !byLength.isEmpty()) {
+                Map.Entry<Integer, TreeSet<Run>> fit = byLength.ceilingEntry(remaining);
+                Run run = remove(fit != null ? fit : byLength.lastEntry());
+                int taken = Math.min(remaining, run.length());
+                for (int p = run.start(); p < run.start() + taken; p++) {
+                    positions.add(p);
+                }
+                if (run.length() > taken) {
+                    add(new Run(run.start() + taken, run.length() - taken));
+                }
+                remaining -= taken;
+            }
+            return positions;
+        }
+
+        private void add(Run run) {
+            byLength.computeIfAbsent(run.length(), length -> new TreeSet<>(Comparator.comparingInt(Run::start)))
+                    .add(run);
+        }
+
+        private Run remove(Map.Entry<Integer, TreeSet<Run>> entry) {
+            Run run = entry.getValue().pollFirst();
+            if (entry.getValue().isEmpty()) {
+                byLength.remove(entry.getKey());
+            }
+            return run;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.AuditAction;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.SeatAuditEntry;
+import com.SeatAllotment.SeatAllotment.Repository.SeatAuditRepository;
+import com.SeatAllotment.SeatAllotment.dto.AuditPage;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only history of seat claims, releases and moves.
+ * <p>
+ * Committed changes are offered to a bounded buffer and the request thread moves on; it never waits
+ * for audit I/O. A single writer thread drains the buffer and inserts the entries with one JDBC batch
+ * per flush. A batch closes when it reaches {@code seat-allotment.audit.batch-size} or when
+ * {@code seat-allotment.audit.flush-interval-ms} has passed since its first entry. When the buffer is
+ * full, new entries are dropped and counted as {@code seat.audit.dropped} instead of holding up the writer
+ * that produced them.
+ */
+@Component
+public class SeatAuditLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatAuditLog.class);
+
+    private static final String INSERT = "INSERT INTO seat_audit "
+            + "(seat_id, employee_id, action, previous_seat_id, occurred_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int WRITE_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MS = 1000;
+    // Longest the writer waits on an empty buffer before it checks for shutdown
+    private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Autowired
+    private SeatAuditRepository seatAuditRepository;
+
+    private final SeatMetrics seatMetrics;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<SeatAuditEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public SeatAuditLog(DataSource dataSource, SeatMetrics seatMetrics,
+                        @Value("${seat-allotment.audit.buffer-size:65536}") int bufferSize,
+                        @Value("${seat-allotment.audit.batch-size:500}") int batchSize,
+                        @Value("${seat-allotment.audit.flush-interval-ms:200}") long flushIntervalMillis) {
+        this.seatMetrics = seatMetrics;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.writer = Thread.ofPlatform().name("seat-audit-writer").daemon(true).unstarted(this::run);
+    }
+
+    @PostConstruct
+    void start() {
+        seatMetrics.registerAuditBacklog(buffer);
+        writer.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (!buffer.isEmpty()) {
+            logger.warn("Seat audit writer stopped with {} entries unwritten", buffer.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatChanged(SeatChangedEvent event) {
+        if (event.status() == SeatStatus.VACANT) {
+            record(new SeatAuditEntry(event.seatId(), event.previousEmployeeId(), AuditAction.RELEASED, null,
+                    LocalDateTime.now()));
+        } else {
+            record(new SeatAuditEntry(event.seatId(), event.employeeId(), AuditAction.CLAIMED, null,
+                    LocalDateTime.now()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        String from = event.previousSeatId();
+        String to = event.seatId();
+        if (Employee.isPhysicalSeat(from) && Employee.isPhysicalSeat(to) && !from.equalsIgnoreCase(to)) {
+            record(new SeatAuditEntry(to, event.employeeId(), AuditAction.MOVED, from, LocalDateTime.now()));
+        }
+    }
+
+    public AuditPage historyOfSeat(String seatId, Long before, LocalDateTime from, LocalDateTime to, int limit) {
+        return page(seatAuditRepository.findBySeat(seatId, before, from, to, PageRequest.of(0, limit)), limit);
+    }
+
+    public AuditPage historyOfEmployee(Long employeeId, Long before, LocalDateTime from, LocalDateTime to,
+                                       int limit) {
+        return page(seatAuditRepository.findByEmployee(employeeId, before, from, to, PageRequest.of(0, limit)), limit);
+    }
+
+    private static AuditPage page(List<SeatAuditEntry> items, int limit) {
+        Long nextBefore = items.size() == limit ? items.get(items.size() - 1).getId() : null;
+        return new AuditPage(items, nextBefore);
+    }
+
+    private void record(SeatAuditEntry entry) {
+        if (!buffer.offer(entry)) {
+            seatMetrics.recordAuditDropped(1);
+            if (dropped.incrementAndGet() % 1000 == 1) {
+                logger.warn("Seat audit buffer is full; {} entries dropped so far", dropped.get());
+            }
+        }
+    }
+
+    private void run() {
+        List<SeatAuditEntry> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                SeatAuditEntry first = buffer.poll(Math.min(flushIntervalNanos, STOP_CHECK_NANOS),
+                        TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, System.nanoTime() + flushIntervalNanos);
+                write(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<SeatAuditEntry> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            SeatAuditEntry next = buffer.poll(Math.min(remaining, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void write(List<SeatAuditEntry> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (statement, entry) -> {
+                    statement.setString(1, entry.getSeatId());
+                    statement.setObject(2, entry.getEmployeeId());
+                    statement.setString(3, entry.getAction().name());
+                    statement.setString(4, entry.getPreviousSeatId());
+                    statement.setTimestamp(5, Timestamp.valueOf(entry.getOccurredAt()));
+                });
+                return;
+            } catch (DataAccessException e) {
+                if (attempt == WRITE_ATTEMPTS) {
+                    logger.error("Dropping {} seat audit entries after {} failed writes", batch.size(), attempt, e);
+                    seatMetrics.recordAuditDropped(batch.size());
+                    return;
+                }
+                logger.warn("Seat audit write failed, retrying: {}", e.getMessage());
+                Thread.sleep(RETRY_DELAY_MS * attempt);
+            }
+        }
+    }
+}
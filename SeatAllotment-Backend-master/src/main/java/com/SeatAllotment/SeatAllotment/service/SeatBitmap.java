@@ -0,0 +1,269 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Seat statuses packed two bits per seat for {@code GET /seats/bitmap}.
+ * <p>
+ * Seats are numbered by ordinal: {@link Seat#ID_ORDER} at load time, with new seats appended. The
+ * numbering only changes when the map is reloaded, and each reload starts a new epoch. Every committed
+ * {@link SeatChangedEvent} bumps the version and is kept in a history ring, so a client holding
+ * version {@code v} can ask for just the seats that changed since. The full frame is encoded once
+ * after a change and then served as-is until the next change.
+ * <p>
+ * Frame layout (big-endian):
+ * <pre>
+ *  0  4 bytes  magic "SEAT"
+ *  4  1 byte   format (1)
+ *  5  1 byte   kind: 0 = full bitmap, 1 = delta
+ *  6  2 bytes  reserved
+ *  8  8 bytes  epoch: changes when ordinals are reassigned; reload the seat ids
+ * 16  8 bytes  version
+ * 24  4 bytes  seat count; a larger count than before means seats were appended
+ * 28  full:  ceil(count / 4) bytes, seat i in byte i / 4 at bits 2 * (i % 4), least significant first
+ *     delta: 4 bytes entry count n, then n entries of (4 bytes ordinal, 1 byte status)
+ * </pre>
+ * Status values are {@link SeatStatus} ordinals: 0 OCCUPIED, 1 VACANT, 2 RESERVED.
+ */
+@Component
+public class SeatBitmap {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatBitmap.class);
+
+    static final byte[] MAGIC = {'S', 'E', 'A', 'T'};
+    static final byte FORMAT = 1;
+    static final byte FULL = 0;
+    static final byte DELTA = 1;
+    static final int HEADER_SIZE = 28;
+    private static final int DELTA_ENTRY_SIZE = 5;
+
+    private final SeatRepository seatRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private String[] seatIds = new String[0];
+    private byte[] packed = new byte[0];
+    private int size;
+
+    private final long[] historyVersions;
+    private final int[] historyOrdinals;
+    private final byte[] historyStatuses;
+
+    private long version = System.currentTimeMillis();
+    private long epoch = version;
+    private byte[] encoded;
+
+    private boolean loaded;
+    private final List<SeatChangedEvent> pendingWhileLoading = new ArrayList<>();
+
+    public SeatBitmap(SeatRepository seatRepository,
+                      @Value("${seat-allotment.bitmap.history-size:4096}") int historySize) {
+        this.seatRepository = seatRepository;
+        this.historyVersions = new long[historySize];
+        this.historyOrdinals = new int[historySize];
+        this.historyStatuses = new byte[historySize];
+    }
+
+    /**
+     * One frame and the state it describes.
+     */
+    public record Frame(byte[] bytes, long epoch, long version) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Seat> seats = new ArrayList<>(seatRepository.findAll());
+        seats.sort((a, b) -> Seat.ID_ORDER.compare(a.getId(), b.getId()));
+
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            seatIds = new String[Math.max(16, seats.size())];
+            packed = new byte[(seatIds.length + 3) / 4];
+            size = 0;
+            for (Seat seat : seats) {
+                set(ordinalOf(seat.getId()), seat.getStatus());
+            }
+            epoch = ++version;
+            pendingWhileLoading.forEach(this::apply);
+            pendingWhileLoading.clear();
+            encoded = null;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Seat bitmap loaded with {} seats at epoch {}", seats.size(), epoch);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatChanged(SeatChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                apply(event);
+            } else {
+                pendingWhileLoading.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The full bitmap, encoded at most once per version.
+     */
+    public Frame full() {
+        lock.readLock().lock();
+        try {
+            if (encoded != null) {
+                return new Frame(encoded, epoch, version);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (encoded == null) {
+                int bytes = (size + 3) / 4;
+                ByteBuffer buffer = header(FULL, HEADER_SIZE + bytes);
+                buffer.put(packed, 0, bytes);
+                encoded = buffer.array();
+            }
+            return new Frame(encoded, epoch, version);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The seats that changed after {@code since}, or the full bitmap when {@code since} is from an
+     * earlier epoch, older than the history or when the delta would not be smaller.
+     */
+    public Frame since(long since) {
+        Frame delta = delta(since);
+        return delta != null ? delta : full();
+    }
+
+    private Frame delta(long since) {
+        lock.readLock().lock();
+        try {
+            long oldest = version - historyVersions.length;
+            if (since < epoch || since < oldest || since > version) {
+                return null;
+            }
+            Map<Integer, Byte> changes = new LinkedHashMap<>();
+            for (long v = since + 1; v <= version; v++) {
+                int slot = (int) (v % historyVersions.length);
+                changes.remove(historyOrdinals[slot]);
+                changes.put(historyOrdinals[slot], historyStatuses[slot]);
+            }
+            if ((long) changes.size() * DELTA_ENTRY_SIZE + 4 >= (size + 3) / 4) {
+                return null;
+            }
+            ByteBuffer buffer = header(DELTA, HEADER_SIZE + 4 + changes.size() * DELTA_ENTRY_SIZE);
+            buffer.putInt(changes.size());
+            changes.forEach((ordinal, status) -> buffer.putInt(ordinal).put(status));
+            return new Frame(buffer.array(), epoch, version);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Seat ids by ordinal, to pair with the bitmap.
+     */
+    public List<String> seatIds() {
+        lock.readLock().lock();
+        try {
+            return List.of(Arrays.copyOf(seatIds, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long epoch() {
+        lock.readLock().lock();
+        try {
+            return epoch;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static SeatStatus statusAt(byte[] bitmap, int offset, int ordinal) {
+        int bits = (bitmap[offset + ordinal / 4] >> (2 * (ordinal % 4))) & 0b11;
+        return SeatStatus.values()[bits];
+    }
+
+    private void apply(SeatChangedEvent event) {
+        int ordinal = ordinalOf(event.seatId());
+        set(ordinal, event.status());
+        version++;
+        int slot = (int) (version % historyVersions.length);
+        historyVersions[slot] = version;
+        historyOrdinals[slot] = ordinal;
+        historyStatuses[slot] = (byte) event.status().ordinal();
+        encoded = null;
+    }
+
+    private int ordinalOf(String seatId) {
+        Integer ordinal = ordinals.get(seatId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        if (size == seatIds.length) {
+            seatIds = Arrays.copyOf(seatIds, seatIds.length * 2);
+            packed = Arrays.copyOf(packed, (seatIds.length + 3) / 4);
+        }
+        seatIds[size] = seatId;
+        ordinals.put(seatId, size);
+        return size++;
+    }
+
+    private void set(int ordinal, SeatStatus status) {
+        int shift = 2 * (ordinal % 4);
+        packed[ordinal / 4] = (byte) ((packed[ordinal / 4] & ~(0b11 << shift)) | (status.ordinal() << shift));
+    }
+
+    private ByteBuffer header(byte kind, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(MAGIC).put(FORMAT).put(kind).putShort((short) 0);
+        buffer.putLong(epoch).putLong(version).putInt(size);
+        return buffer;
+    }
+}
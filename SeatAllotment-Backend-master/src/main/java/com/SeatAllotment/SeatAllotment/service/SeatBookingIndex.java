@@ -0,0 +1,219 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Model.SeatBooking;
+import com.SeatAllotment.SeatAllotment.Repository.SeatBookingRepository;
+import com.SeatAllotment.SeatAllotment.event.SeatBookingChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bookings per seat and per employee, each a {@link TreeMap} keyed by start time.
+ * <p>
+ * Bookings of one seat never overlap (the service rejects overlaps under a row lock), so the only
+ * booking that can overlap [from, to) is the last one starting before {@code to}: every lookup is a
+ * single O(log n) floor search. Bookings that ended before {@link #horizon()} are not loaded; callers
+ * answer questions about earlier times from the database.
+ */
+@Component
+public class SeatBookingIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatBookingIndex.class);
+
+    @Autowired
+    private SeatBookingRepository bookingRepository;
+
+    private final int historyDays;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, TreeMap<LocalDateTime, SeatBooking>> bySeat = new HashMap<>();
+    private final Map<Long, TreeMap<LocalDateTime, SeatBooking>> byEmployee = new HashMap<>();
+    private LocalDateTime horizon = LocalDateTime.MAX;
+
+    private boolean loaded;
+    private final List<SeatBookingChangedEvent> pendingWhileLoading = new ArrayList<>();
+
+    public SeatBookingIndex(@Value("${seat-allotment.bookings.history-days:30}") int historyDays) {
+        this.historyDays = historyDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LocalDateTime from = LocalDateTime.now().minusDays(historyDays);
+        List<SeatBooking> bookings = bookingRepository.findByEndTimeAfter(from);
+
+        lock.writeLock().lock();
+        try {
+            bySeat.clear();
+            byEmployee.clear();
+            bookings.forEach(this::add);
+            pendingWhileLoading.forEach(this::apply);
+            pendingWhileLoading.clear();
+            horizon = from;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Seat booking index loaded with {} bookings ending after {}", bookings.size(), from);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(SeatBookingChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                apply(event);
+            } else {
+                pendingWhileLoading.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bookings ending before this time are not in the index.
+     */
+    public LocalDateTime horizon() {
+        lock.readLock().lock();
+        try {
+            return horizon;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isSeatFree(String seatId, LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            return overlapping(bySeat.get(seatId), from, to) == null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isEmployeeFree(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            return overlapping(byEmployee.get(employeeId), from, to) == null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The candidate seats with no booking overlapping [from, to), in the order given.
+     */
+    public List<String> freeSeats(Collection<String> candidates, LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            List<String> free = new ArrayList<>(candidates.size());
+            for (String seatId : candidates) {
+                if (overlapping(bySeat.get(seatId), from, to) == null) {
+                    free.add(seatId);
+                }
+            }
+            return free;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<SeatBooking> bookingAt(String seatId, LocalDateTime at) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(overlapping(bySeat.get(seatId), at, at.plusNanos(1)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SeatBooking> bookingsOfEmployee(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            TreeMap<LocalDateTime, SeatBooking> bookings = byEmployee.get(employeeId);
+            if (bookings == null) {
+                return List.of();
+            }
+            List<SeatBooking> result = new ArrayList<>();
+            SeatBooking first = overlapping(bookings, from, from.plusNanos(1));
+            LocalDateTime start = first != null ? first.getStartTime() : from;
+            result.addAll(bookings.subMap(start, true, to, false).values());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static SeatBooking overlapping(TreeMap<LocalDateTime, SeatBooking> bookings,
+                                           LocalDateTime from, LocalDateTime to) {
+        if (bookings == null) {
+            return null;
+        }
+        Map.Entry<LocalDateTime, SeatBooking> last = bookings.lowerEntry(to);
+        return last != null && last.getValue().getEndTime().isAfter(from) ? last.getValue() : null;
+    }
+
+    private void apply(SeatBookingChangedEvent event) {
+        if (event.cancelled()) {
+            remove(event.booking());
+        } else {
+            add(event.booking());
+        }
+    }
+
+    private void add(SeatBooking booking) {
+        bySeat.computeIfAbsent(booking.getSeatId(), id -> new TreeMap<>()).put(booking.getStartTime(), booking);
+        byEmployee.computeIfAbsent(booking.getEmployeeId(), id -> new TreeMap<>()).put(booking.getStartTime(), booking);
+    }
+
+    private void remove(SeatBooking booking) {
+        removeFrom(bySeat, booking.getSeatId(), booking);
+        removeFrom(byEmployee, booking.getEmployeeId(), booking);
+    }
+
+    private static <K> void removeFrom(Map<K, TreeMap<LocalDateTime, SeatBooking>> index, K key, SeatBooking booking) {
+        TreeMap<LocalDateTime, SeatBooking> bookings = index.get(key);
+        if (bookings == null) {
+            return;
+        }
+        SeatBooking current = bookings.get(booking.getStartTime());
+        if (current != null && current.getId().equals(booking.getId())) {
+            bookings.remove(booking.getStartTime());
+            if (bookings.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Model.SeatBooking;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatBookingRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.BookingRequest;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.event.SeatBookingChangedEvent;
+import com.SeatAllotment.SeatAllotment.exception.BookingConflictException;
+import com.SeatAllotment.SeatAllotment.exception.EmployeeNotFoundException;
+import com.SeatAllotment.SeatAllotment.exception.SeatNotFoundException;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Hot-desk bookings. Reads are answered from the {@link SeatBookingIndex}; a booking is written
+ * under a row lock on the seat and the employee, so two overlapping requests for the same seat (or
+ * the same employee) are serialized and the second sees the first when it checks for overlaps.
+ * <p>
+ * Bookings and permanent assignments exclude each other: only a vacant seat can be booked, and
+ * {@link SeatService} refuses to assign a seat whose bookings have not ended with a 409. Both sides
+ * take the seat row lock first, so whichever commits first wins.
+ */
+@Service
+public class SeatBookingService {
+
+    @Autowired
+    private SeatBookingRepository bookingRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatBookingIndex bookingIndex;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public SeatBooking book(BookingRequest request) {
+        if (request.seatId() == null || request.seatId().isBlank() || request.employeeId() == null) {
+            throw new ValidationException("seatId and employeeId must be provided");
+        }
+        validateWindow(request.from(), request.to());
+        if (!request.to().isAfter(LocalDateTime.now())) {
+            throw new ValidationException("Cannot book a time that has already passed");
+        }
+        // Cheap rejection before taking any lock
+        if (bookingIndex.isLoaded() && !bookingIndex.isSeatFree(request.seatId(), request.from(), request.to())) {
+            throw overlap(request);
+        }
+
+        // Seat first, then employee: every booking takes the locks in this order
+        Seat seat = seatRepository.findAllByIdForUpdate(List.of(request.seatId())).stream().findFirst()
+                .orElseThrow(() -> new SeatNotFoundException("Seat " + request.seatId() + " not found"));
+        if (seat.getStatus() != SeatStatus.VACANT) {
+            throw new BookingConflictException("Seat " + seat.getId() + " is " + seat.getStatus()
+                    + " and cannot be booked");
+        }
+        employeeRepository.findByIdForUpdate(request.employeeId())
+                .orElseThrow(() -> new EmployeeNotFoundException(request.employeeId()));
+
+        if (bookingRepository.existsOverlappingForSeat(request.seatId(), request.from(), request.to())) {
+            throw overlap(request);
+        }
+        if (bookingRepository.existsOverlappingForEmployee(request.employeeId(), request.from(), request.to())) {
+            throw new BookingConflictException("Employee " + request.employeeId()
+                    + " already has a booking between " + request.from() + " and " + request.to());
+        }
+
+        SeatBooking booking = bookingRepository.save(
+                new SeatBooking(request.seatId(), request.employeeId(), request.from(), request.to()));
+        eventPublisher.publishEvent(SeatBookingChangedEvent.created(booking));
+        return booking;
+    }
+
+    @Transactional
+    public void cancel(Long bookingId) {
+        SeatBooking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new ValidationException("Booking " + bookingId + " not found"));
+        bookingRepository.delete(booking);
+        eventPublisher.publishEvent(SeatBookingChangedEvent.cancelled(booking));
+    }
+
+    public List<String> getFreeSeats(LocalDateTime from, LocalDateTime to) {
+        return getFreeSeats(from, to, SeatLocationFilter.ALL);
+    }
+
+    /**
+     * VACANT seats in {@code location} with no booking overlapping [from, to), in floor-plan order.
+     */
+    public List<String> getFreeSeats(LocalDateTime from, LocalDateTime to, SeatLocationFilter location) {
+        validateWindow(from, to);
+        List<String> vacant = seatService.getVacantSeats(location).stream()
+                .map(Seat::getId)
+                .sorted(Seat.ID_ORDER)
+                .toList();
+        if (bookingIndex.isLoaded() && !from.isBefore(bookingIndex.horizon())) {
+            return bookingIndex.freeSeats(vacant, from, to);
+        }
+        Set<String> booked = new HashSet<>(bookingRepository.findBookedSeatIds(from, to));
+        return vacant.stream().filter(seatId -> !booked.contains(seatId)).toList();
+    }
+
+    /**
+     * The booking covering {@code at} on the seat, if any.
+     */
+    public Optional<SeatBooking> getBookingAt(String seatId, LocalDateTime at) {
+        if (bookingIndex.isLoaded() && !at.isBefore(bookingIndex.horizon())) {
+            return bookingIndex.bookingAt(seatId, at);
+        }
+        return bookingRepository.findAt(seatId, at);
+    }
+
+    private static void validateWindow(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new ValidationException("from and to must be provided");
+        }
+        if (!to.isAfter(from)) {
+            throw new ValidationException("to must be after from");
+        }
+    }
+
+    private static BookingConflictException overlap(BookingRequest request) {
+        return new BookingConflictException("Seat " + request.seatId() + " is already booked between "
+                + request.from() + " and " + request.to());
+    }
+}
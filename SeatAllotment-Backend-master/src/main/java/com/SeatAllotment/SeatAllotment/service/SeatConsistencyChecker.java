@@ -0,0 +1,444 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Configuration.AdmissionLimitingDataSource;
+import com.SeatAllotment.SeatAllotment.Enum.ConsistencyIssueType;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.ConsistencyIssue;
+import com.SeatAllotment.SeatAllotment.dto.ConsistencyReport;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cross-checks the two copies of every assignment, {@code Seat.employeeId} and {@code Employee.seatId}.
+ * It finds orphans, double bookings and status/occupant mismatches.
+ * <p>
+ * A pass walks both tables in keyset-paged chunks of {@code seat-allotment.consistency.chunk-size}.
+ * For each chunk it loads the employees and seats on the other side of every pointer and inspects them
+ * together. The first pass scans everything. Later passes only read rows whose {@code updated_at} is at
+ * or after the high-water mark of the previous pass, minus {@code seat-allotment.consistency.overlap-ms}
+ * so that transactions that committed late are not missed.
+ * <p>
+ * The seats table wins every disagreement because seat claims are the conditional writes that guard
+ * against double booking. Report-only passes read each chunk in a read-only transaction. Repairing
+ * passes lock the chunk's seats, then its employees (the order used by {@link SeatMoveService}), and
+ * skip the chunk if it changed in the meantime. To stay out of the way of interactive requests, the
+ * checker pauses between chunks and waits while other threads are queued for a database connection.
+ */
+@Service
+public class SeatConsistencyChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatConsistencyChecker.class);
+
+    private static final int MAX_REPORTED_ISSUES = 1000;
+    private static final long MAX_BUSY_WAIT_MS = 30_000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long overlapMillis;
+    private final boolean repairOnSchedule;
+
+    private final ReentrantLock running = new ReentrantLock();
+    private volatile ConsistencyReport lastReport;
+    private LocalDateTime seatWatermark;
+    private LocalDateTime employeeWatermark;
+
+    public SeatConsistencyChecker(PlatformTransactionManager transactionManager,
+                                  @Value("${seat-allotment.consistency.chunk-size:500}") int chunkSize,
+                                  @Value("${seat-allotment.consistency.pause-ms:50}") long pauseMillis,
+                                  @Value("${seat-allotment.consistency.overlap-ms:300000}") long overlapMillis,
+                                  @Value("${seat-allotment.consistency.repair:false}") boolean repairOnSchedule) {
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.overlapMillis = overlapMillis;
+        this.repairOnSchedule = repairOnSchedule;
+    }
+
+    @Scheduled(initialDelayString = "${seat-allotment.consistency.interval-ms:900000}",
+            fixedDelayString = "${seat-allotment.consistency.interval-ms:900000}")
+    public void scheduledPass() {
+        if (running.isLocked()) {
+            return;
+        }
+        try {
+            run(false, repairOnSchedule);
+        } catch (ValidationException e) {
+            logger.debug("Skipped scheduled consistency pass: {}", e.getMessage());
+        }
+    }
+
+    public Optional<ConsistencyReport> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    /**
+     * @param full   rescan every row instead of only those changed since the last pass
+     * @param repair fix what is found instead of only reporting it
+     */
+    public ConsistencyReport run(boolean full, boolean repair) {
+        if (!running.tryLock()) {
+            throw new ValidationException("A consistency pass is already running");
+        }
+        try {
+            ConsistencyReport report = pass(full || seatWatermark == null || employeeWatermark == null, repair);
+            lastReport = report;
+            return report;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private ConsistencyReport pass(boolean fullScan, boolean repair) {
+        Instant startedAt = Instant.now();
+        LocalDateTime passStart = LocalDateTime.now();
+        Pass pass = new Pass(repair);
+
+        LocalDateTime newestSeat = fullScan ? scanAllSeats(pass) : scanChangedSeats(pass, passStart);
+        LocalDateTime newestEmployee = pass.stopped ? null
+                : fullScan ? scanAllEmployees(pass) : scanChangedEmployees(pass, passStart);
+
+        if (!pass.stopped) {
+            seatWatermark = latest(seatWatermark, newestSeat);
+            employeeWatermark = latest(employeeWatermark, newestEmployee);
+        }
+        List<ConsistencyIssue> reported = pass.issues.stream().limit(MAX_REPORTED_ISSUES).toList();
+        ConsistencyReport report = new ConsistencyReport(startedAt, Instant.now(), fullScan, repair,
+                pass.seatsScanned, pass.employeesScanned, pass.issues.size(), reported,
+                latest(seatWatermark, employeeWatermark));
+        if (pass.issues.isEmpty()) {
+            logger.info("Consistency pass ({}) checked {} seats and {} employees: no issues",
+                    fullScan ? "full" : "incremental", pass.seatsScanned, pass.employeesScanned);
+        } else {
+            logger.warn("Consistency pass ({}) checked {} seats and {} employees: {} issues{}",
+                    fullScan ? "full" : "incremental", pass.seatsScanned, pass.employeesScanned,
+                    pass.issues.size(), repair ? " repaired" : "");
+        }
+        return report;
+    }
+
+    private LocalDateTime scanAllSeats(Pass pass) {
+        LocalDateTime newest = null;
+        String afterId = "";
+        List<Seat> page;
+        do {
+            page = seatRepository.findPageAfterId(afterId, PageRequest.of(0, chunkSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            newest = latest(newest, page.stream().map(Seat::getUpdatedAt).filter(Objects::nonNull)
+                    .max(LocalDateTime::compareTo).orElse(null));
+            afterId = page.get(page.size() - 1).getId();
+            pass.seatsScanned += page.size();
+            check(pass, page.stream().map(Seat::getId).toList(), List.of());
+        } while (page.size() == chunkSize && throttle(pass));
+        return newest;
+    }
+
+    private LocalDateTime scanChangedSeats(Pass pass, LocalDateTime passStart) {
+        LocalDateTime since = seatWatermark.minusNanos(TimeUnit.MILLISECONDS.toNanos(overlapMillis));
+        String afterId = "";
+        List<Seat> page;
+        do {
+            page = seatRepository.findChangedAfter(since, afterId, PageRequest.of(0, chunkSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            Seat last = page.get(page.size() - 1);
+            since = last.getUpdatedAt();
+            afterId = last.getId();
+            pass.seatsScanned += page.size();
+            check(pass, page.stream().map(Seat::getId).toList(), List.of());
+            // Rows changed after the pass started, including our own repairs, belong to the next pass
+        } while (page.size() == chunkSize && since.isBefore(passStart) && throttle(pass));
+        return since;
+    }
+
+    private LocalDateTime scanAllEmployees(Pass pass) {
+        LocalDateTime newest = null;
+        Long afterId = Long.MIN_VALUE;
+        List<Employee> page;
+        do {
+            page = employeeRepository.findPageAfterId(afterId, PageRequest.of(0, chunkSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            newest = latest(newest, page.stream().map(Employee::getUpdatedAt).filter(Objects::nonNull)
+                    .max(LocalDateTime::compareTo).orElse(null));
+            afterId = page.get(page.size() - 1).getId();
+            pass.employeesScanned += page.size();
+            check(pass, List.of(), page.stream().map(Employee::getId).toList());
+        } while (page.size() == chunkSize && throttle(pass));
+        return newest;
+    }
+
+    private LocalDateTime scanChangedEmployees(Pass pass, LocalDateTime passStart) {
+        LocalDateTime since = employeeWatermark.minusNanos(TimeUnit.MILLISECONDS.toNanos(overlapMillis));
+        Long afterId = Long.MIN_VALUE;
+        List<Employee> page;
+        do {
+            page = employeeRepository.findChangedAfter(since, afterId, PageRequest.of(0, chunkSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            Employee last = page.get(page.size() - 1);
+            since = last.getUpdatedAt();
+            afterId = last.getId();
+            pass.employeesScanned += page.size();
+            check(pass, List.of(), page.stream().map(Employee::getId).toList());
+        } while (page.size() == chunkSize && since.isBefore(passStart) && throttle(pass));
+        return since;
+    }
+
+    private void check(Pass pass, Collection<String> seedSeatIds, Collection<Long> seedEmployeeIds) {
+        TransactionTemplate transaction = pass.repair ? writeTransaction : readTransaction;
+        List<ConsistencyIssue> found = transaction.execute(status -> inspectChunk(seedSeatIds, seedEmployeeIds, pass.repair));
+        pass.issues.addAll(found);
+    }
+
+    private List<ConsistencyIssue> inspectChunk(Collection<String> seedSeatIds, Collection<Long> seedEmployeeIds,
+                                                boolean repair) {
+        // Discover the other side of every pointer with id-only queries, then load each row once
+        Set<Long> employeeIds = new TreeSet<>(seedEmployeeIds);
+        if (!seedSeatIds.isEmpty()) {
+            employeeIds.addAll(seatRepository.findEmployeeIdsByIdIn(seedSeatIds));
+        }
+        Set<String> checkedSeatIds = new TreeSet<>(seedSeatIds);
+        Map<Long, String> pointers = new HashMap<>();
+        if (!employeeIds.isEmpty()) {
+            checkedSeatIds.addAll(seatRepository.findIdsByEmployeeIdIn(employeeIds));
+            for (Object[] row : employeeRepository.findSeatIdsByIdIn(employeeIds)) {
+                pointers.put((Long) row[0], (String) row[1]);
+            }
+        }
+        Set<String> seatIds = new TreeSet<>(checkedSeatIds);
+        pointers.values().stream().filter(Employee::isPhysicalSeat).forEach(seatIds::add);
+
+        Map<String, Seat> seats = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<Long, Employee> employees = new HashMap<>();
+        if (repair) {
+            seatRepository.findAllByIdForUpdate(seatIds).forEach(seat -> seats.put(seat.getId(), seat));
+            employeeRepository.findAllByIdForUpdate(employeeIds).forEach(employee -> employees.put(employee.getId(), employee));
+            boolean changed = !employeeIds.isEmpty()
+                    && !checkedSeatIds.containsAll(seatRepository.findIdsByEmployeeIdIn(employeeIds));
+            for (Employee employee : employees.values()) {
+                changed |= !Objects.equals(employee.getSeatId(), pointers.get(employee.getId()));
+            }
+            if (changed) {
+                logger.debug("Skipping a consistency chunk that changed while it was being locked");
+                return List.of();
+            }
+        } else {
+            seatRepository.findAllById(seatIds).forEach(seat -> seats.put(seat.getId(), seat));
+            employeeRepository.findAllById(employeeIds).forEach(employee -> employees.put(employee.getId(), employee));
+        }
+
+        List<Object> events = new ArrayList<>();
+        List<ConsistencyIssue> issues = inspect(checkedSeatIds, seats, employeeIds, employees, repair, events);
+        events.forEach(eventPublisher::publishEvent);
+        return issues;
+    }
+
+    /**
+     * Applies the consistency rules to one chunk. {@code seats} must hold every seat in
+     * {@code checkedSeatIds} and every seat an employee points at; {@code employees} every existing
+     * employee in {@code employeeIds}, which must include the holders of the checked seats. With
+     * {@code repair} the entities are fixed in place and the matching change events are added to {@code events}.
+     */
+    static List<ConsistencyIssue> inspect(Collection<String> checkedSeatIds, Map<String, Seat> seats,
+                                          Collection<Long> employeeIds, Map<Long, Employee> employees,
+                                          boolean repair, List<Object> events) {
+        List<ConsistencyIssue> issues = new ArrayList<>();
+
+        List<Seat> checked = checkedSeatIds.stream().map(seats::get).filter(Objects::nonNull)
+                .sorted((a, b) -> Seat.ID_ORDER.compare(a.getId(), b.getId())).toList();
+        for (Seat seat : checked) {
+            Long holder = seat.getEmployeeId();
+            if (holder != null && !employees.containsKey(holder)) {
+                issues.add(new ConsistencyIssue(ConsistencyIssueType.ORPHAN_SEAT, seat.getId(), holder,
+                        "Seat is held by employee " + holder + ", who does not exist", repair));
+                if (repair) {
+                    vacate(seat, events);
+                }
+            } else if (holder == null && seat.getStatus() == SeatStatus.OCCUPIED) {
+                issues.add(new ConsistencyIssue(ConsistencyIssueType.STATUS_MISMATCH, seat.getId(), null,
+                        "Seat is OCCUPIED but has no occupant", repair));
+                if (repair) {
+                    vacate(seat, events);
+                }
+            }
+        }
+
+        for (Long employeeId : new TreeSet<>(employeeIds)) {
+            Employee employee = employees.get(employeeId);
+            if (employee == null) {
+                continue;
+            }
+            String pointer = employee.getSeatId();
+            List<Seat> held = checked.stream().filter(seat -> employeeId.equals(seat.getEmployeeId())).toList();
+            Seat keep = held.stream().filter(seat -> seat.getId().equalsIgnoreCase(pointer)).findFirst().orElse(null);
+
+            if (keep == null && !held.isEmpty()) {
+                keep = held.get(0);
+                issues.add(new ConsistencyIssue(ConsistencyIssueType.POINTER_MISMATCH, keep.getId(), employeeId,
+                        "Employee seat_id is '" + pointer + "' but seat " + keep.getId() + " is held by the employee",
+                        repair));
+                if (repair) {
+                    pointEmployeeAt(employee, keep.getId(), events);
+                }
+            }
+            for (Seat extra : held) {
+                if (extra != keep) {
+                    issues.add(new ConsistencyIssue(ConsistencyIssueType.DOUBLE_BOOKING, extra.getId(), employeeId,
+                            "Employee also holds seat " + keep.getId(), repair));
+                    if (repair) {
+                        vacate(extra, events);
+                    }
+                }
+            }
+            if (keep != null && keep.getStatus() != SeatStatus.OCCUPIED) {
+                issues.add(new ConsistencyIssue(ConsistencyIssueType.STATUS_MISMATCH, keep.getId(), employeeId,
+                        "Seat is " + keep.getStatus() + " but held by employee " + employeeId, repair));
+                if (repair) {
+                    occupy(keep, employeeId, events);
+                }
+            }
+            if (keep == null && Employee.isPhysicalSeat(pointer)) {
+                Seat target = seats.get(pointer);
+                if (target == null) {
+                    issues.add(new ConsistencyIssue(ConsistencyIssueType.ORPHAN_EMPLOYEE_SEAT, pointer, employeeId,
+                            "Employee points at seat " + pointer + ", which does not exist", repair));
+                    if (repair) {
+                        pointEmployeeAt(employee, Employee.UNASSIGNED, events);
+                    }
+                } else if (target.getEmployeeId() == null && target.getStatus() == SeatStatus.VACANT) {
+                    issues.add(new ConsistencyIssue(ConsistencyIssueType.POINTER_MISMATCH, target.getId(), employeeId,
+                            "Employee points at seat " + target.getId() + ", which is vacant", repair));
+                    if (repair) {
+                        occupy(target, employeeId, events);
+                    }
+                } else {
+                    String state = target.getEmployeeId() != null
+                            ? "held by employee " + target.getEmployeeId()
+                            : target.getStatus().toString();
+                    issues.add(new ConsistencyIssue(ConsistencyIssueType.POINTER_MISMATCH, target.getId(), employeeId,
+                            "Employee points at seat " + target.getId() + ", which is " + state, repair));
+                    if (repair) {
+                        pointEmployeeAt(employee, Employee.UNASSIGNED, events);
+                    }
+                }
+            }
+        }
+        return issues;
+    }
+
+    private static void vacate(Seat seat, List<Object> events) {
+        events.add(SeatChangedEvent.vacated(seat.getId(), seat.getEmployeeId()));
+        seat.setStatus(SeatStatus.VACANT);
+        seat.setEmployeeId(null);
+    }
+
+    private static void occupy(Seat seat, Long employeeId, List<Object> events) {
+        seat.setStatus(SeatStatus.OCCUPIED);
+        seat.setEmployeeId(employeeId);
+        events.add(SeatChangedEvent.occupied(seat.getId(), employeeId));
+    }
+
+    private static void pointEmployeeAt(Employee employee, String seatId, List<Object> events) {
+        String previousSeatId = employee.getSeatId();
+        employee.setSeatId(seatId);
+        events.add(EmployeeChangedEvent.updated(previousSeatId, employee));
+    }
+
+    /**
+     * Pauses between chunks, longer while other threads are queued for a connection. Returns
+     * {@code false} if the pass should stop.
+     */
+    private boolean throttle(Pass pass) {
+        try {
+            Thread.sleep(pauseMillis);
+            long waited = 0;
+            while (interactiveTrafficWaiting() && waited < MAX_BUSY_WAIT_MS) {
+                long backoff = Math.max(100, pauseMillis * 10);
+                Thread.sleep(backoff);
+                waited += backoff;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pass.stopped = true;
+            return false;
+        }
+    }
+
+    private boolean interactiveTrafficWaiting() {
+        return AdmissionLimitingDataSource.waitingForConnection(dataSource) > 0;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private static final class Pass {
+
+        final boolean repair;
+        final Set<ConsistencyIssue> issues = new LinkedHashSet<>();
+        long seatsScanned;
+        long employeesScanned;
+        boolean stopped;
+
+        Pass(boolean repair) {
+            this.repair = repair;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.dto.SeatStreamEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed seat changes out to server-sent-event subscribers.
+ * <p>
+ * Writers only append to a history ring and offer to each subscriber's bounded queue, so they never
+ * wait on a client socket. A subscriber whose queue is full is disconnected and has to resume.
+ * Clients resume with the {@code Last-Event-ID} header; if the requested sequence is no longer in
+ * the history they receive a {@code reset} event and should reload the floor plan.
+ */
+@Component
+public class SeatEventStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatEventStream.class);
+
+    private static final String CHANGE_EVENT = "seat";
+    private static final String RESET_EVENT = "reset";
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final SeatStreamEvent[] history;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Subscriber, Boolean> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicLong senderThreads = new AtomicLong();
+    private final ExecutorService senders;
+    /**
+     * Starts at the boot time times 1000, so an id from an earlier run (unless it averaged over 1000 events
+     * a millisecond) is below {@code firstSequence} and gets a reset. Ids stay exact as JavaScript numbers.
+     */
+    private final long firstSequence = System.currentTimeMillis() * 1000;
+    private long sequence = firstSequence;
+
+    public SeatEventStream(@Value("${seat-allotment.stream.buffer-size:256}") int bufferSize,
+                           @Value("${seat-allotment.stream.history-size:4096}") int historySize,
+                           @Value("${seat-allotment.stream.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.history = new SeatStreamEvent[historySize];
+        this.senders = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("seat-stream-", 1).factory())
+                : Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "seat-stream-" + senderThreads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatChanged(SeatChangedEvent change) {
+        lock.lock();
+        try {
+            SeatStreamEvent event = new SeatStreamEvent(++sequence, change.seatId(), change.status(), change.employeeId());
+            history[(int) (event.sequence() % history.length)] = event;
+            for (Subscriber subscriber : subscribers.keySet()) {
+                subscriber.offer(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param lastEventId last sequence the client has seen, or {@code null} for a fresh subscription
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        lock.lock();
+        try {
+            if (lastEventId != null && lastEventId < firstSequence) {
+                subscriber.reset = true;
+            } else if (lastEventId != null && lastEventId < sequence) {
+                List<SeatStreamEvent> missed = missedSince(lastEventId);
+                if (missed == null || missed.size() > bufferSize) {
+                    subscriber.reset = true;
+                } else {
+                    missed.forEach(subscriber.queue::offer);
+                }
+            } else if (lastEventId != null && lastEventId > sequence) {
+                // From a later run, e.g. another instance or a clock that moved back
+                subscriber.reset = true;
+            }
+            subscribers.put(subscriber, Boolean.TRUE);
+        } finally {
+            lock.unlock();
+        }
+        subscriber.scheduleDrain();
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.keySet().forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    private List<SeatStreamEvent> missedSince(long lastEventId) {
+        if (sequence - lastEventId > history.length) {
+            return null;
+        }
+        List<SeatStreamEvent> missed = new ArrayList<>((int) (sequence - lastEventId));
+        for (long seq = lastEventId + 1; seq <= sequence; seq++) {
+            missed.add(history[(int) (seq % history.length)]);
+        }
+        return missed;
+    }
+
+    private final class Subscriber {
+        final long id;
+        final SseEmitter emitter;
+        final BlockingQueue<SeatStreamEvent> queue = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean reset;
+
+        Subscriber(long id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+        }
+
+        void offer(SeatStreamEvent event) {
+            if (!queue.offer(event)) {
+                logger.warn("Dropping seat stream subscriber {}: {} events not yet delivered", id, queue.size());
+                subscribers.remove(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    if (reset) {
+                        reset = false;
+                        emitter.send(SseEmitter.event().name(RESET_EVENT).data("reload"));
+                    }
+                    SeatStreamEvent event;
+                    while ((event = queue.poll()) != null) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(event.sequence()))
+                                .name(CHANGE_EVENT)
+                                .data(event));
+                    }
+                    draining.set(false);
+                } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Seat stream subscriber {} disconnected: {}", id, e.getMessage());
+                subscribers.remove(this);
+                draining.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Configuration.AdmissionLimitingDataSource;
+import com.SeatAllotment.SeatAllotment.Configuration.ReadWriteRoutingDataSource;
+import com.SeatAllotment.SeatAllotment.Enum.SeatClaimResult;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Meters for seat and employee operations, published through the actuator's metrics and Prometheus
+ * endpoints. Connection pool metrics, including the time spent waiting for a connection
+ * ({@code hikaricp.connections.acquire}), are bound by Spring Boot and not repeated here.
+ * <ul>
+ *   <li>{@code seat.claim} – timer tagged with the {@link SeatClaimResult}; the {@code unavailable} and
+ *       {@code not_found} counts are claim conflicts and unknown seats</li>
+ *   <li>{@code seat.release} – timer for freeing an employee's seats</li>
+ *   <li>{@code employee.write} – timer tagged with the operation (add, update, delete) and outcome</li>
+ *   <li>{@code employee.import.rows} – counter of bulk import rows tagged with the row status</li>
+ *   <li>{@code seats} – gauge of seats per status, read from the {@link SeatOccupancyIndex}</li>
+ *   <li>{@code seat.stats.drift} – counter of how far the {@link SeatStatsIndex} counters were off when reconciled</li>
+ *   <li>{@code seat.audit.pending} and {@code seat.audit.dropped} – entries waiting for the {@link SeatAuditLog}
+ *       writer, and entries lost to a full buffer or a failed write</li>
+ *   <li>{@code seat.reads.coalesced} – counter of reads answered by another caller's in-flight load
+ *       ({@link SingleFlight}), tagged with the cache the load fills</li>
+ *   <li>{@code employee.write.replayed} – counter of writes answered from the {@link IdempotencyService} store</li>
+ *   <li>{@code http.admission} – counter of requests by endpoint class (read, write) and outcome: admitted,
+ *       queued (admitted after a short wait), rejected (429) or shed (503); {@code http.admission.clients}
+ *       is the number of token buckets held</li>
+ *   <li>{@code db.admission.waiting} – threads queued by the {@link AdmissionLimitingDataSource}, when enabled</li>
+ *   <li>{@code db.replica.lag} and {@code db.replica.usable} – the replica lag last measured (negative when unknown)
+ *       and whether reads go to it; {@code db.reads.routed} – read-only transactions by target pool. Only
+ *       registered with the {@link ReadWriteRoutingDataSource}</li>
+ * </ul>
+ */
+@Component
+public class SeatMetrics {
+
+    public static final String ADD = "add";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Timer seatRelease;
+    private Timer bulkImport;
+
+    @PostConstruct
+    void register() {
+        for (SeatStatus status : SeatStatus.values()) {
+            Gauge.builder("seats", occupancyIndex, index -> index.isLoaded() ? index.count(status) : Double.NaN)
+                    .description("Seats per status")
+                    .tag("status", tagValue(status))
+                    .register(registry);
+        }
+        if (dataSource instanceof AdmissionLimitingDataSource limited) {
+            Gauge.builder("db.admission.waiting", limited, AdmissionLimitingDataSource::getWaiting)
+                    .description("Threads queued for a database connection permit")
+                    .register(registry);
+        }
+        if (dataSource instanceof LazyConnectionDataSourceProxy lazy
+                && lazy.getTargetDataSource() instanceof ReadWriteRoutingDataSource routing) {
+            registerReadRouting(routing);
+        }
+        seatRelease = Timer.builder("seat.release")
+                .description("Time to free the seats held by an employee")
+                .register(registry);
+        bulkImport = Timer.builder("employee.import")
+                .description("Time to run a bulk employee import")
+                .register(registry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void recordClaim(Timer.Sample sample, SeatClaimResult result) {
+        sample.stop(Timer.builder("seat.claim")
+                .description("Conditional seat claims by result")
+                .tag("result", tagValue(result))
+                .register(registry));
+    }
+
+    public void recordRelease(Timer.Sample sample) {
+        sample.stop(seatRelease);
+    }
+
+    /**
+     * Times an employee write. The outcome tag is {@code success}, {@code rejected} for a non-2xx
+     * response, or the simple name of the exception that escaped.
+     */
+    public <T> ResponseEntity<T> timeEmployeeWrite(String operation, Supplier<ResponseEntity<T>> write) {
+        Timer.Sample sample = start();
+        String outcome = "error";
+        try {
+            ResponseEntity<T> response = write.get();
+            outcome = response.getStatusCode().is2xxSuccessful() ? "success" : "rejected";
+            return response;
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("employee.write")
+                    .description("Employee create, update and delete requests")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    public void recordImport(Timer.Sample sample, BulkImportReport report) {
+        sample.stop(bulkImport);
+        rowCounter(BulkImportReport.RowStatus.CREATED).increment(report.succeeded());
+        rowCounter(BulkImportReport.RowStatus.FAILED).increment(report.failed());
+    }
+
+    private Counter rowCounter(BulkImportReport.RowStatus status) {
+        return Counter.builder("employee.import.rows")
+                .description("Bulk import rows by result")
+                .tag("status", tagValue(status))
+                .register(registry);
+    }
+
+    public void recordStatsDrift(long drift) {
+        Counter.builder("seat.stats.drift")
+                .description("Difference between the live seat stats and the database at reconciliation")
+                .register(registry)
+                .increment(drift);
+    }
+
+    public void registerAuditBacklog(Collection<?> buffer) {
+        Gauge.builder("seat.audit.pending", buffer, Collection::size)
+                .description("Seat audit entries waiting to be written")
+                .register(registry);
+    }
+
+    public void recordAuditDropped(int entries) {
+        Counter.builder("seat.audit.dropped")
+                .description("Seat audit entries lost to a full buffer or a failed write")
+                .register(registry)
+                .increment(entries);
+    }
+
+    public void recordIdempotentReplay() {
+        Counter.builder("employee.write.replayed")
+                .description("Repeated writes answered with the stored response of their Idempotency-Key")
+                .register(registry)
+                .increment();
+    }
+
+    public void recordAdmission(String endpointClass, String outcome) {
+        Counter.builder("http.admission")
+                .description("Requests by rate-limit outcome")
+                .tag("class", endpointClass)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    public void registerAdmissionBuckets(Map<?, ?> buckets) {
+        Gauge.builder("http.admission.clients", buckets, Map::size)
+                .description("Client token buckets currently held by the rate limiter")
+                .register(registry);
+    }
+
+    public void registerCoalescedReads(String name, LongAdder count) {
+        FunctionCounter.builder("seat.reads.coalesced", count, LongAdder::sum)
+                .description("Reads that shared another caller's in-flight load")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private void registerReadRouting(ReadWriteRoutingDataSource routing) {
+        TimeGauge.builder("db.replica.lag", routing, TimeUnit.MILLISECONDS, ReadWriteRoutingDataSource::getReplicaLagMillis)
+                .description("Replica lag measured by the heartbeat, -1 when unknown")
+                .register(registry);
+        Gauge.builder("db.replica.usable", routing, source -> source.isReplicaUsable() ? 1 : 0)
+                .description("1 while read-only transactions may use the replica")
+                .register(registry);
+        FunctionCounter.builder("db.reads.routed", routing.getPrimaryReads(), LongAdder::sum)
+                .description("Read-only transactions by the pool they ran on")
+                .tag("target", "primary")
+                .register(registry);
+        FunctionCounter.builder("db.reads.routed", routing.getReplicaReads(), LongAdder::sum)
+                .description("Read-only transactions by the pool they ran on")
+                .tag("target", "replica")
+                .register(registry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
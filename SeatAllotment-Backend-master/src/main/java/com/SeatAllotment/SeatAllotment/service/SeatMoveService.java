@@ -0,0 +1,190 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveRequest;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveRequest.Move;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveResult;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import com.SeatAllotment.SeatAllotment.exception.EmployeeNotFoundException;
+import com.SeatAllotment.SeatAllotment.exception.SeatNotFoundException;
+import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Applies a batch of seat moves, including swaps and longer cycles, in one transaction.
+ * <p>
+ * Each physical target seat may appear once and must be vacant or held by another employee in the
+ * same request, so the moves form a partial permutation over the seats involved. Every seat involved
+ * is locked with one {@code SELECT ... FOR UPDATE ORDER BY id}, then every employee in employee-id
+ * order. Seats before employees is the same order {@link SeatBookingService} uses, so two requests
+ * over overlapping seats queue behind each other instead of deadlocking. A vacant target seat with
+ * hot-desk bookings that have not ended fails the whole batch with a 409. Changes are made on the
+ * managed entities and flushed as batched updates at commit.
+ */
+@Service
+public class SeatMoveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatMoveService.class);
+
+    static final int MAX_MOVES = 1000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public SeatMoveService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public SeatMoveResult move(SeatMoveRequest request) {
+        Map<Long, String> targets = validate(request);
+        long started = System.nanoTime();
+        SeatMoveResult result = transactionTemplate.execute(status -> apply(targets));
+        logger.info("Applied {} seat moves in {} ms, {} seats vacated", targets.size(),
+                (System.nanoTime() - started) / 1_000_000, result.vacatedSeats().size());
+        return result;
+    }
+
+    /**
+     * Checks the request shape: every employee once, every physical seat at most once as a target.
+     * Returns the target of each employee in request order.
+     */
+    static Map<Long, String> validate(SeatMoveRequest request) {
+        if (request == null || request.moves() == null || request.moves().isEmpty()) {
+            throw new ValidationException("moves must not be empty");
+        }
+        if (request.moves().size() > MAX_MOVES) {
+            throw new ValidationException("At most " + MAX_MOVES + " moves can be applied at once");
+        }
+        Map<Long, String> targets = new LinkedHashMap<>();
+        Set<String> targetSeats = new HashSet<>();
+        for (Move move : request.moves()) {
+            if (move == null || move.employeeId() == null || move.seatId() == null || move.seatId().isBlank()) {
+                throw new ValidationException("Every move needs an employeeId and a seatId");
+            }
+            String seatId = normalize(move.seatId().trim());
+            if (targets.put(move.employeeId(), seatId) != null) {
+                throw new ValidationException("Employee " + move.employeeId() + " appears in more than one move");
+            }
+            if (Employee.isPhysicalSeat(seatId) && !targetSeats.add(seatId)) {
+                throw new ValidationException("Seat " + seatId + " is the target of more than one move");
+            }
+        }
+        return targets;
+    }
+
+    private static String normalize(String seatId) {
+        if (Employee.UNASSIGNED.equalsIgnoreCase(seatId)) {
+            return Employee.UNASSIGNED;
+        }
+        return Employee.WORK_FROM_HOME.equalsIgnoreCase(seatId) ? Employee.WORK_FROM_HOME : seatId;
+    }
+
+    private SeatMoveResult apply(Map<Long, String> targets) {
+        Set<String> seatIds = new TreeSet<>(seatRepository.findIdsByEmployeeIdIn(targets.keySet()));
+        targets.values().stream().filter(Employee::isPhysicalSeat).forEach(seatIds::add);
+
+        Map<String, Seat> seats = new HashMap<>();
+        for (Seat seat : seatRepository.findAllByIdForUpdate(seatIds)) {
+            seats.put(seat.getId(), seat);
+        }
+        Map<Long, Employee> employees = new HashMap<>();
+        for (Employee employee : employeeRepository.findAllByIdForUpdate(targets.keySet())) {
+            employees.put(employee.getId(), employee);
+        }
+
+        for (Long employeeId : targets.keySet()) {
+            if (!employees.containsKey(employeeId)) {
+                throw new EmployeeNotFoundException(employeeId);
+            }
+        }
+        for (String seatId : targets.values()) {
+            if (!Employee.isPhysicalSeat(seatId)) {
+                continue;
+            }
+            Seat seat = seats.get(seatId);
+            if (seat == null) {
+                throw new SeatNotFoundException(seatId);
+            }
+            boolean free = seat.getStatus() == SeatStatus.VACANT
+                    || (seat.getStatus() == SeatStatus.OCCUPIED && targets.containsKey(seat.getEmployeeId()));
+            if (!free) {
+                throw new SeatUnavailableException("Seat " + seatId + " is " + seat.getStatus()
+                        + " and its occupant is not part of this move");
+            }
+        }
+        // A seat claimed by one of the movers after we listed their seats would otherwise stay held
+        if (!seats.keySet().containsAll(seatRepository.findIdsByEmployeeIdIn(targets.keySet()))) {
+            throw new SeatUnavailableException("Seats of the employees being moved changed concurrently; retry the move");
+        }
+        seatService.requireNoUpcomingBookings(targets.values().stream()
+                .filter(seatId -> seats.containsKey(seatId) && seats.get(seatId).getStatus() == SeatStatus.VACANT)
+                .toList());
+
+        List<SeatChangedEvent> seatEvents = new ArrayList<>();
+        Set<String> vacated = new TreeSet<>(Seat.ID_ORDER);
+        for (Seat seat : seats.values()) {
+            Long holder = seat.getEmployeeId();
+            if (holder != null && targets.containsKey(holder) && !seat.getId().equals(targets.get(holder))) {
+                seatEvents.add(SeatChangedEvent.vacated(seat.getId(), holder));
+                seat.setStatus(SeatStatus.VACANT);
+                seat.setEmployeeId(null);
+                vacated.add(seat.getId());
+            }
+        }
+        targets.forEach((employeeId, seatId) -> {
+            Seat seat = seats.get(seatId);
+            if (seat != null && !employeeId.equals(seat.getEmployeeId())) {
+                seatEvents.add(SeatChangedEvent.occupied(seat.getId(), employeeId));
+                seat.setStatus(SeatStatus.OCCUPIED);
+                seat.setEmployeeId(employeeId);
+                vacated.remove(seat.getId());
+            }
+        });
+
+        List<EmployeeChangedEvent> employeeEvents = new ArrayList<>();
+        List<Move> applied = new ArrayList<>();
+        targets.forEach((employeeId, seatId) -> {
+            Employee employee = employees.get(employeeId);
+            String previousSeatId = employee.getSeatId();
+            employee.setSeatId(seatId);
+            employeeEvents.add(EmployeeChangedEvent.updated(previousSeatId, employee));
+            applied.add(new Move(employeeId, employee.getSeatId()));
+        });
+
+        seatEvents.forEach(eventPublisher::publishEvent);
+        employeeEvents.forEach(eventPublisher::publishEvent);
+        return new SeatMoveResult(applied, List.copyOf(vacated));
+    }
+}
@@ -0,0 +1,369 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.dto.SeatPartition;
+import com.SeatAllotment.SeatAllotment.dto.SeatPartitionSummary;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of the seats table used to answer occupancy reads without a database round-trip.
+ * <p>
+ * Seats are held per {@link SeatPartition} (one floor of one building), each partition behind its own
+ * read-write lock: a claim only locks the floor of its seat, so claims on different floors never
+ * contend, and a floor plan read only visits that floor's seats. Within a partition every seat gets a
+ * dense ordinal (in {@link Seat#ID_ORDER} at load time, new seats are appended) so status is a
+ * {@link BitSet} per {@link SeatStatus} and occupants a primitive {@code long[]}. A map from occupant
+ * to seat, updated under the same partition lock, answers {@link #seatOf(long)}.
+ * <p>
+ * The index is loaded once at startup and kept current from committed {@link SeatChangedEvent}s.
+ * Changes made to the table outside this application, including moving a seat to another location,
+ * are only picked up by {@link #reload()}.
+ */
+@Component
+public class SeatOccupancyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatOccupancyIndex.class);
+
+    private static final long NO_EMPLOYEE = Long.MIN_VALUE;
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+    private static final Comparator<Partition> PARTITION_ORDER = Comparator.comparing(p -> p.key, SeatPartition.ORDER);
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    /**
+     * Partitions, the partition of every seat and the seat of every occupant, replaced as a whole by
+     * {@link #reload()}.
+     */
+    private record State(Map<SeatPartition, Partition> partitions, Map<String, Partition> bySeat,
+                         Map<Long, String> byEmployee) {
+
+        State() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void put(String seatId, SeatPartition location, String zone, SeatStatus status, Long employeeId) {
+            Partition partition = bySeat.computeIfAbsent(seatId,
+                    id -> partitions.computeIfAbsent(location, Partition::new));
+            partition.put(seatId, zone, status, employeeId, byEmployee);
+        }
+
+        /** A seat the index has not seen yet is added to the default partition. */
+        void apply(SeatChangedEvent event) {
+            Partition partition = bySeat.computeIfAbsent(event.seatId(),
+                    id -> partitions.computeIfAbsent(SeatPartition.DEFAULT, Partition::new));
+            partition.update(event.seatId(), event.status(), event.employeeId(), byEmployee);
+        }
+
+        List<Partition> ordered() {
+            List<Partition> ordered = new ArrayList<>(partitions.values());
+            ordered.sort(PARTITION_ORDER);
+            return ordered;
+        }
+    }
+
+    private static final class Partition {
+
+        final SeatPartition key;
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<String, Integer> ordinals = new HashMap<>();
+        final BitSet[] byStatus = new BitSet[STATUSES.length];
+        String[] seatIds = new String[16];
+        String[] zones = new String[16];
+        long[] employeeIds = new long[16];
+        int size;
+
+        Partition(SeatPartition key) {
+            this.key = key;
+            for (int s = 0; s < STATUSES.length; s++) {
+                byStatus[s] = new BitSet();
+            }
+        }
+
+        void put(String seatId, String zone, SeatStatus status, Long employeeId, Map<Long, String> byEmployee) {
+            lock.writeLock().lock();
+            try {
+                int ordinal = ordinalOf(seatId);
+                zones[ordinal] = zone;
+                set(ordinal, status, employeeId, byEmployee);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void update(String seatId, SeatStatus status, Long employeeId, Map<Long, String> byEmployee) {
+            lock.writeLock().lock();
+            try {
+                set(ordinalOf(seatId), status, employeeId, byEmployee);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private int ordinalOf(String seatId) {
+            Integer ordinal = ordinals.get(seatId);
+            if (ordinal == null) {
+                ordinal = size++;
+                if (ordinal == seatIds.length) {
+                    int capacity = seatIds.length * 2;
+                    seatIds = Arrays.copyOf(seatIds, capacity);
+                    zones = Arrays.copyOf(zones, capacity);
+                    employeeIds = Arrays.copyOf(employeeIds, capacity);
+                }
+                seatIds[ordinal] = seatId;
+                employeeIds[ordinal] = NO_EMPLOYEE;
+                ordinals.put(seatId, ordinal);
+            }
+            return ordinal;
+        }
+
+        private void set(int ordinal, SeatStatus status, Long employeeId, Map<Long, String> byEmployee) {
+            for (int s = 0; s < STATUSES.length; s++) {
+                byStatus[s].set(ordinal, s == status.ordinal());
+            }
+            long previous = employeeIds[ordinal];
+            employeeIds[ordinal] = employeeId != null ? employeeId : NO_EMPLOYEE;
+            if (previous != NO_EMPLOYEE && previous != employeeIds[ordinal]) {
+                // Only if the previous occupant has not been seen on another seat since
+                byEmployee.remove(previous, seatIds[ordinal]);
+            }
+            if (employeeId != null) {
+                byEmployee.put(employeeId, seatIds[ordinal]);
+            }
+        }
+
+        Seat toSeat(int ordinal) {
+            return new Seat(seatIds[ordinal], statusAt(ordinal),
+                    employeeIds[ordinal] == NO_EMPLOYEE ? null : employeeIds[ordinal],
+                    key.building(), key.floor(), zones[ordinal]);
+        }
+
+        private SeatStatus statusAt(int ordinal) {
+            for (int s = 0; s < STATUSES.length; s++) {
+                if (byStatus[s].get(ordinal)) {
+                    return STATUSES[s];
+                }
+            }
+            return SeatStatus.VACANT;
+        }
+    }
+
+    private final Object loading = new Object();
+    private final List<SeatChangedEvent> pendingWhileLoading = new ArrayList<>();
+    private volatile boolean loaded;
+    private volatile State state = new State();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        synchronized (loading) {
+            // Events committed while we read the table are replayed on top of the snapshot
+            loaded = false;
+        }
+
+        List<Seat> seats = new ArrayList<>(seatRepository.findAll());
+        seats.sort((a, b) -> Seat.ID_ORDER.compare(a.getId(), b.getId()));
+        State fresh = new State();
+        for (Seat seat : seats) {
+            fresh.put(seat.getId(), SeatPartition.of(seat), seat.getZone(), seat.getStatus(), seat.getEmployeeId());
+        }
+
+        synchronized (loading) {
+            pendingWhileLoading.forEach(fresh::apply);
+            pendingWhileLoading.clear();
+            state = fresh;
+            loaded = true;
+        }
+        logger.info("Seat occupancy index loaded with {} seats on {} floors", seats.size(), fresh.partitions().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatChanged(SeatChangedEvent event) {
+        if (!loaded) {
+            synchronized (loading) {
+                if (!loaded) {
+                    pendingWhileLoading.add(event);
+                    return;
+                }
+            }
+        }
+        state.apply(event);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int count(SeatStatus status) {
+        int count = 0;
+        for (Partition partition : state.partitions().values()) {
+            partition.lock.readLock().lock();
+            try {
+                count += partition.byStatus[status.ordinal()].cardinality();
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return state.bySeat().size();
+    }
+
+    public List<String> seatIdsWithStatus(SeatStatus status) {
+        List<String> ids = new ArrayList<>();
+        for (Partition partition : state.ordered()) {
+            partition.lock.readLock().lock();
+            try {
+                BitSet bits = partition.byStatus[status.ordinal()];
+                for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                    ids.add(partition.seatIds[i]);
+                }
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        return ids;
+    }
+
+    public List<Seat> seatsWithStatus(SeatStatus status) {
+        return seatsWithStatus(status, SeatLocationFilter.ALL);
+    }
+
+    /**
+     * Seats in {@code status} within {@code location}, visiting only the partitions it covers.
+     */
+    public List<Seat> seatsWithStatus(SeatStatus status, SeatLocationFilter location) {
+        List<Seat> seats = new ArrayList<>();
+        for (Partition partition : state.ordered()) {
+            if (!location.matches(partition.key)) {
+                continue;
+            }
+            partition.lock.readLock().lock();
+            try {
+                BitSet bits = partition.byStatus[status.ordinal()];
+                for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                    if (location.matchesZone(partition.zones[i])) {
+                        seats.add(partition.toSeat(i));
+                    }
+                }
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * All seats, partition by partition and in ordinal order within each.
+     */
+    public List<Seat> allSeats() {
+        return seats(SeatLocationFilter.ALL);
+    }
+
+    /**
+     * The seats in {@code location}, locking and visiting only the partitions it covers.
+     */
+    public List<Seat> seats(SeatLocationFilter location) {
+        List<Seat> seats = new ArrayList<>();
+        for (Partition partition : state.ordered()) {
+            if (!location.matches(partition.key)) {
+                continue;
+            }
+            partition.lock.readLock().lock();
+            try {
+                for (int i = 0; i < partition.size; i++) {
+                    if (location.matchesZone(partition.zones[i])) {
+                        seats.add(partition.toSeat(i));
+                    }
+                }
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        return seats;
+    }
+
+    public List<SeatPartitionSummary> partitions() {
+        List<SeatPartitionSummary> summaries = new ArrayList<>();
+        for (Partition partition : state.ordered()) {
+            partition.lock.readLock().lock();
+            try {
+                TreeSet<String> zones = new TreeSet<>(Seat.ID_ORDER);
+                for (int i = 0; i < partition.size; i++) {
+                    if (partition.zones[i] != null) {
+                        zones.add(partition.zones[i]);
+                    }
+                }
+                Map<SeatStatus, Integer> byStatus = new EnumMap<>(SeatStatus.class);
+                for (SeatStatus status : STATUSES) {
+                    byStatus.put(status, partition.byStatus[status.ordinal()].cardinality());
+                }
+                summaries.add(new SeatPartitionSummary(partition.key.building(), partition.key.floor(),
+                        List.copyOf(zones), partition.size, byStatus));
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        return summaries;
+    }
+
+    public Optional<Seat> getSeat(String seatId) {
+        Partition partition = state.bySeat().get(seatId);
+        if (partition == null) {
+            return Optional.empty();
+        }
+        partition.lock.readLock().lock();
+        try {
+            Integer ordinal = partition.ordinals.get(seatId);
+            return ordinal != null ? Optional.of(partition.toSeat(ordinal)) : Optional.empty();
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+    }
+
+    public OptionalLong employeeAt(String seatId) {
+        Partition partition = state.bySeat().get(seatId);
+        if (partition == null) {
+            return OptionalLong.empty();
+        }
+        partition.lock.readLock().lock();
+        try {
+            Integer ordinal = partition.ordinals.get(seatId);
+            if (ordinal == null || partition.employeeIds[ordinal] == NO_EMPLOYEE) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(partition.employeeIds[ordinal]);
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+    }
+
+    public Optional<String> seatOf(long employeeId) {
+        return Optional.ofNullable(state.byEmployee().get(employeeId));
+    }
+}
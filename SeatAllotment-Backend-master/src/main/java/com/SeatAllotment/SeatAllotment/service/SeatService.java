@@ -1,15 +1,37 @@
 package com.SeatAllotment.SeatAllotment.service;
 
+import com.SeatAllotment.SeatAllotment.Configuration.CacheConfig;
+import com.SeatAllotment.SeatAllotment.Enum.SeatClaimResult;
 import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
 import com.SeatAllotment.SeatAllotment.Model.Employee;
 import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Model.SeatBooking;
 import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatBookingRepository;
 import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.SeatLayoutEntry;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.dto.SeatPartitionSummary;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import com.SeatAllotment.SeatAllotment.exception.BookingConflictException;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 public class SeatService {
@@ -20,15 +42,142 @@ public class SeatService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private SeatBookingRepository bookingRepository;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SeatStateVersion seatStateVersion;
+
+    @Autowired
+    private SeatMetrics seatMetrics;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Read-only and named after this class, so with a read replica configured the lookups behind the
+     * caches run there. Only the caller that runs a {@link SingleFlight} load opens it; callers joining
+     * that load wait without a transaction.
+     */
+    private TransactionTemplate replicaRead;
+
+    @PostConstruct
+    void init() {
+        replicaRead = new TransactionTemplate(transactionManager);
+        replicaRead.setReadOnly(true);
+        replicaRead.setName(SeatService.class.getName() + ".replicaRead");
+    }
+
     public List<Seat> getAllSeats() {
-        return seatRepository.findAll();
+        return getAllSeats(SeatLocationFilter.ALL);
+    }
+
+    /**
+     * Seats in one building, floor or zone; the index only visits the floors the filter covers.
+     */
+    public List<Seat> getAllSeats(SeatLocationFilter location) {
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.seats(location);
+        }
+        if (location.isAll()) {
+            return seatRepository.findAll();
+        }
+        return seatRepository.findByLocation(null, location.building(), location.floor(), location.zone());
+    }
+
+    /**
+     * Vacant seats in one building, floor or zone (or everywhere), from the per-floor index when it is loaded.
+     */
+    @Transactional(readOnly = true)
+    public List<Seat> getVacantSeats(SeatLocationFilter location) {
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.seatsWithStatus(SeatStatus.VACANT, location);
+        }
+        if (location.isAll()) {
+            return seatRepository.findByStatus(SeatStatus.VACANT);
+        }
+        return seatRepository.findByLocation(SeatStatus.VACANT, location.building(), location.floor(), location.zone());
+    }
+
+    /**
+     * Every building and floor with its zones and seat counts; empty until the occupancy index has loaded.
+     */
+    public List<SeatPartitionSummary> getPartitions() {
+        return occupancyIndex.isLoaded() ? occupancyIndex.partitions() : List.of();
+    }
+
+    /**
+     * Every seat in {@code location} with its occupant, read with one join query and sorted in floor-plan order.
+     */
+    public List<SeatLayoutEntry> getLayout(SeatLocationFilter location) {
+        List<SeatLayoutEntry> layout = new ArrayList<>(
+                seatRepository.findLayout(location.building(), location.floor(), location.zone()));
+        layout.sort((a, b) -> Seat.ID_ORDER.compare(a.seatId(), b.seatId()));
+        return layout;
+    }
+
+    /**
+     * Entity tag for {@link #getLayout}; read it before loading the layout so a change that commits
+     * mid-query produces a newer tag on the next request.
+     */
+    public String getLayoutETag() {
+        return "\"layout-" + seatStateVersion.current() + "\"";
     }
 
+    @Cacheable(CacheConfig.SEATS)
     public Optional<Seat> getSeatById(String id) {
+        return singleFlight.load(CacheConfig.SEATS, id, () -> loadSeat(id));
+    }
+
+    private Optional<Seat> loadSeat(String id) {
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.getSeat(id);
+        }
         return seatRepository.findById(id);
     }
 
+    @Cacheable(CacheConfig.SEATS_BY_EMPLOYEE)
+    public Optional<Seat> getSeatByEmployeeId(Long employeeId) {
+        return singleFlight.load(CacheConfig.SEATS_BY_EMPLOYEE, employeeId, () -> loadSeatOf(employeeId));
+    }
+
+    private Optional<Seat> loadSeatOf(Long employeeId) {
+        if (occupancyIndex.isLoaded()) {
+            return occupancyIndex.seatOf(employeeId).flatMap(occupancyIndex::getSeat);
+        }
+        return seatRepository.findByEmployeeId(employeeId);
+    }
+
+    /**
+     * Concurrent calls for the same seat share one load ({@link SingleFlight}), so a burst of
+     * floor-plan clicks on a cold cache runs the occupant lookup once.
+     */
+    @Cacheable(CacheConfig.SEAT_OCCUPANTS)
     public Optional<Employee> getEmployeeBySeat(String seatId) {
+        return singleFlight.load(CacheConfig.SEAT_OCCUPANTS, seatId, () -> loadEmployeeAt(seatId));
+    }
+
+    private Optional<Employee> loadEmployeeAt(String seatId) {
+        if (occupancyIndex.isLoaded()) {
+            OptionalLong employeeId = occupancyIndex.employeeAt(seatId);
+            if (employeeId.isEmpty()) {
+                return Optional.empty();
+            }
+            // The index follows the primary; an employee the replica has not caught up with yet is read there
+            Long id = employeeId.getAsLong();
+            return replicaRead.execute(status -> employeeRepository.findById(id))
+                    .or(() -> employeeRepository.findById(id));
+        }
+
         Optional<Seat> seatOptional = seatRepository.findById(seatId);
 
         if (seatOptional.isPresent()) {
@@ -41,18 +190,99 @@ public class SeatService {
         return Optional.empty();
     }
 
+    /**
+     * Assigns a VACANT seat to the employee with a single conditional UPDATE, so two concurrent
+     * requests for the same seat cannot both succeed and no row lock is taken before the write.
+     */
+    @Transactional
+    public SeatClaimResult claimSeat(String seatId, Long employeeId) {
+        Timer.Sample sample = seatMetrics.start();
+        SeatClaimResult result;
+        if (seatRepository.claimIfVacant(seatId, employeeId) == 1) {
+            // Checked with the seat row locked by the claim, so no booking can be made in between
+            if (!seatsWithUpcomingBookings(List.of(seatId)).isEmpty()) {
+                seatMetrics.recordClaim(sample, SeatClaimResult.UNAVAILABLE);
+                throw bookedConflict(Set.of(seatId));
+            }
+            eventPublisher.publishEvent(SeatChangedEvent.occupied(seatId, employeeId));
+            result = SeatClaimResult.CLAIMED;
+        } else {
+            result = seatRepository.existsById(seatId) ? SeatClaimResult.UNAVAILABLE : SeatClaimResult.NOT_FOUND;
+        }
+        seatMetrics.recordClaim(sample, result);
+        return result;
+    }
+
+    /**
+     * The seats among {@code seatIds} with a hot-desk booking that has not ended. Such a seat stays
+     * VACANT for its bookings, so it cannot be assigned permanently until they are cancelled. Call this
+     * with the seats locked (or just claimed) in the current transaction: a booking takes the same
+     * seat lock, so none can be added before the assignment commits.
+     */
+    @Transactional
+    public Set<String> seatsWithUpcomingBookings(Collection<String> seatIds) {
+        Set<String> booked = new TreeSet<>(Seat.ID_ORDER);
+        if (!seatIds.isEmpty()) {
+            bookingRepository.findUpcomingForSeats(seatIds, LocalDateTime.now()).stream()
+                    .map(SeatBooking::getSeatId)
+                    .forEach(booked::add);
+        }
+        return booked;
+    }
+
+    /**
+     * Every seat with a hot-desk booking that has not ended, for planners that should not offer them.
+     */
+    public Set<String> seatsWithUpcomingBookings() {
+        Set<String> booked = new TreeSet<>(Seat.ID_ORDER);
+        booked.addAll(bookingRepository.findSeatIdsBookedAfter(LocalDateTime.now()));
+        return booked;
+    }
+
+    /**
+     * Throws a {@link BookingConflictException} if any of the seats has a booking that has not ended.
+     */
+    public void requireNoUpcomingBookings(Collection<String> seatIds) {
+        Set<String> booked = seatsWithUpcomingBookings(seatIds);
+        if (!booked.isEmpty()) {
+            throw bookedConflict(booked);
+        }
+    }
+
+    private static BookingConflictException bookedConflict(Set<String> seatIds) {
+        return new BookingConflictException("Seat " + String.join(", ", seatIds)
+                + " has hot-desk bookings that have not ended; cancel them before assigning it permanently");
+    }
+
+    @Transactional
     public void resetSeatByEmployeeId(Long employeeId) {
-        Optional<Seat> seat = seatRepository.findByEmployeeId(employeeId);
-        if (seat.isPresent()) {
-            Seat updatedSeat = seat.get();
-            updatedSeat.setEmployeeId(null);
-            updatedSeat.setStatus(SeatStatus.VACANT);
-            seatRepository.save(updatedSeat);
+        Timer.Sample sample = seatMetrics.start();
+        List<String> heldSeatIds = seatRepository.findIdsByEmployeeId(employeeId);
+        if (!heldSeatIds.isEmpty()) {
+            seatRepository.releaseByEmployeeId(employeeId);
+            heldSeatIds.forEach(seatId -> eventPublisher.publishEvent(SeatChangedEvent.vacated(seatId, employeeId)));
+        }
+        seatMetrics.recordRelease(sample);
+    }
+
+    /**
+     * Frees every seat held by the employee except {@code keepSeatId}; used after claiming a new seat.
+     */
+    @Transactional
+    public void releaseOtherSeats(Long employeeId, String keepSeatId) {
+        Timer.Sample sample = seatMetrics.start();
+        List<String> released = seatRepository.findIdsByEmployeeId(employeeId).stream()
+                .filter(seatId -> !seatId.equals(keepSeatId))
+                .toList();
+        if (!released.isEmpty()) {
+            seatRepository.releaseByEmployeeIdExcept(employeeId, keepSeatId);
+            released.forEach(seatId -> eventPublisher.publishEvent(SeatChangedEvent.vacated(seatId, employeeId)));
         }
+        seatMetrics.recordRelease(sample);
     }
 
     public List<Seat> getVacantSeats() {
-        return seatRepository.findByStatus(SeatStatus.VACANT); // ✅ Fetch all vacant seats
+        return getVacantSeats(SeatLocationFilter.ALL);
     }
 
 }
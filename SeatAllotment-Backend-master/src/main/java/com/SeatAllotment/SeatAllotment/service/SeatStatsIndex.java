@@ -0,0 +1,393 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatAssignment;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import com.SeatAllotment.SeatAllotment.dto.SeatStats;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Occupancy counters behind {@code GET /seats/stats}: seats per {@link SeatStatus}, seats per id prefix
+ * and status, seats per building, floor and status, and employees per department and {@link SeatAssignment}.
+ * <p>
+ * The counters move by one on every committed {@link SeatChangedEvent} and {@link EmployeeChangedEvent},
+ * so a read never aggregates over the tables. To apply a delta the index keeps the last known status of
+ * each seat and the department and assignment of each employee. Seat events carry no location, so a
+ * seat keeps the floor it was loaded with; a seat first seen through an event counts on the default
+ * floor until the next reconciliation.
+ * <p>
+ * {@link #reconcile()} rebuilds everything from the database on a fixed delay. Events committed while
+ * the tables are read are replayed on the new snapshot (applying an event twice is harmless). The new
+ * counters are then compared with the live ones, any difference is logged and counted as
+ * {@code seat.stats.drift}, and the snapshot replaces the live state.
+ */
+@Component
+public class SeatStatsIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatStatsIndex.class);
+
+    private static final int LOAD_BATCH = 5000;
+    private static final int MAX_LOGGED_DIFFERENCES = 20;
+    private static final String NONE = "(none)";
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+    private static final SeatAssignment[] ASSIGNMENTS = SeatAssignment.values();
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatMetrics seatMetrics;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    private Counts live;
+    private List<Object> pendingWhileLoading;
+    private Instant reconciledAt;
+    private long lastDrift;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${seat-allotment.stats.reconcile-interval-ms:600000}",
+            fixedDelayString = "${seat-allotment.stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (!reconcileLock.tryLock()) {
+            return;
+        }
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingWhileLoading = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Counts fresh;
+            try {
+                fresh = readDatabase();
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingWhileLoading = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            Counts previous;
+            lock.writeLock().lock();
+            try {
+                pendingWhileLoading.forEach(fresh::apply);
+                pendingWhileLoading = null;
+                previous = live;
+                live = fresh;
+                reconciledAt = Instant.now();
+                lastDrift = previous != null ? reportDrift(previous, fresh) : 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (previous == null) {
+                logger.info("Seat stats loaded with {} seats and {} employees",
+                        fresh.seats.size(), fresh.employees.size());
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatChanged(SeatChangedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        record(event);
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return live != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SeatStats snapshot() {
+        lock.readLock().lock();
+        try {
+            Map<SeatStatus, Long> byStatus = toStatusMap(live.byStatus);
+            Map<String, Map<SeatAssignment, Long>> byDepartment = new TreeMap<>();
+            live.byDepartment.forEach((department, counts) -> {
+                Map<SeatAssignment, Long> map = new EnumMap<>(SeatAssignment.class);
+                for (SeatAssignment assignment : ASSIGNMENTS) {
+                    map.put(assignment, counts[assignment.ordinal()]);
+                }
+                byDepartment.put(department, map);
+            });
+            Map<String, Map<SeatStatus, Long>> byPrefix = new TreeMap<>(Seat.ID_ORDER);
+            live.byPrefix.forEach((prefix, counts) -> byPrefix.put(prefix, toStatusMap(counts)));
+            Map<String, Map<String, Map<SeatStatus, Long>>> byFloor = new TreeMap<>();
+            live.byFloor.forEach((floor, counts) -> byFloor
+                    .computeIfAbsent(floor.building(), b -> new TreeMap<>(Seat.ID_ORDER))
+                    .put(floor.floor(), toStatusMap(counts)));
+            return new SeatStats(live.seats.size(), live.employees.size(), byStatus, byDepartment, byPrefix,
+                    byFloor, reconciledAt, lastDrift);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups seats for the stats: the part before the first '-' ("B2-014" is "B2"), otherwise the
+     * leading non-digit characters ("A12" is "A"). Purely numeric ids fall under "(none)".
+     */
+    static String prefixOf(String seatId) {
+        int dash = seatId.indexOf('-');
+        if (dash > 0) {
+            return seatId.substring(0, dash);
+        }
+        int end = 0;
+        while (end < seatId.length() && !Character.isDigit(seatId.charAt(end))) {
+            end++;
+        }
+        return end > 0 ? seatId.substring(0, end) : NONE;
+    }
+
+    static SeatAssignment assignmentOf(String seatId) {
+        if (Employee.isPhysicalSeat(seatId)) {
+            return SeatAssignment.ASSIGNED;
+        }
+        return Employee.WORK_FROM_HOME.equalsIgnoreCase(seatId)
+                ? SeatAssignment.WORK_FROM_HOME
+                : SeatAssignment.UNASSIGNED;
+    }
+
+    private void record(Object event) {
+        lock.writeLock().lock();
+        try {
+            if (live != null) {
+                live.apply(event);
+            }
+            if (pendingWhileLoading != null) {
+                pendingWhileLoading.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Counts readDatabase() {
+        Counts counts = new Counts();
+        for (Seat seat : seatRepository.findAll()) {
+            counts.putSeat(seat.getId(), seat.getStatus(), new Floor(seat.getBuilding(), seat.getFloor()));
+        }
+        Long after = null;
+        List<EmployeeSummary> batch;
+        do {
+            batch = employeeRepository.findPageAfter(after, null, null, null, PageRequest.of(0, LOAD_BATCH));
+            for (EmployeeSummary employee : batch) {
+                counts.putEmployee(employee.employeeid(), employee.department(), employee.seatId());
+            }
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).employeeid();
+            }
+        } while (batch.size() == LOAD_BATCH);
+        return counts;
+    }
+
+    /**
+     * Logs where {@code counted} differs from {@code actual} and returns the summed absolute difference.
+     */
+    private long reportDrift(Counts counted, Counts actual) {
+        List<String> differences = new ArrayList<>();
+        long drift = 0;
+        for (SeatStatus status : STATUSES) {
+            drift += difference("status " + status, counted.byStatus[status.ordinal()],
+                    actual.byStatus[status.ordinal()], differences);
+        }
+        Set<String> prefixes = new HashSet<>(counted.byPrefix.keySet());
+        prefixes.addAll(actual.byPrefix.keySet());
+        for (String prefix : prefixes) {
+            long[] before = counted.byPrefix.getOrDefault(prefix, new long[STATUSES.length]);
+            long[] after = actual.byPrefix.getOrDefault(prefix, new long[STATUSES.length]);
+            for (SeatStatus status : STATUSES) {
+                difference("prefix " + prefix + " " + status, before[status.ordinal()], after[status.ordinal()],
+                        differences);
+            }
+        }
+        Set<Floor> floors = new HashSet<>(counted.byFloor.keySet());
+        floors.addAll(actual.byFloor.keySet());
+        for (Floor floor : floors) {
+            long[] before = counted.byFloor.getOrDefault(floor, new long[STATUSES.length]);
+            long[] after = actual.byFloor.getOrDefault(floor, new long[STATUSES.length]);
+            for (SeatStatus status : STATUSES) {
+                difference("floor " + floor + " " + status, before[status.ordinal()], after[status.ordinal()],
+                        differences);
+            }
+        }
+        Set<String> departments = new HashSet<>(counted.byDepartment.keySet());
+        departments.addAll(actual.byDepartment.keySet());
+        for (String department : departments) {
+            long[] before = counted.byDepartment.getOrDefault(department, new long[ASSIGNMENTS.length]);
+            long[] after = actual.byDepartment.getOrDefault(department, new long[ASSIGNMENTS.length]);
+            for (SeatAssignment assignment : ASSIGNMENTS) {
+                drift += difference("department " + department + " " + assignment, before[assignment.ordinal()],
+                        after[assignment.ordinal()], differences);
+            }
+        }
+
+        // Prefix and floor counts only split the status counts, so they are reported but not added to the total
+        if (!differences.isEmpty()) {
+            logger.warn("Seat stats drifted from the database by {}: {}", drift,
+                    differences.subList(0, Math.min(differences.size(), MAX_LOGGED_DIFFERENCES)));
+        } else {
+            logger.debug("Seat stats match the database");
+        }
+        seatMetrics.recordStatsDrift(drift);
+        return drift;
+    }
+
+    private static long difference(String what, long counted, long actual, List<String> differences) {
+        if (counted != actual) {
+            differences.add(what + ": counted " + counted + ", database " + actual);
+        }
+        return Math.abs(counted - actual);
+    }
+
+    private static Map<SeatStatus, Long> toStatusMap(long[] counts) {
+        Map<SeatStatus, Long> map = new EnumMap<>(SeatStatus.class);
+        for (SeatStatus status : STATUSES) {
+            map.put(status, counts[status.ordinal()]);
+        }
+        return map;
+    }
+
+    private record Member(String department, SeatAssignment assignment) {
+    }
+
+    private record Floor(String building, String floor) {
+
+        static final Floor DEFAULT = new Floor(Seat.DEFAULT_BUILDING, Seat.DEFAULT_FLOOR);
+
+        @Override
+        public String toString() {
+            return building + "/" + floor;
+        }
+    }
+
+    private record SeatState(SeatStatus status, Floor floor) {
+    }
+
+    /**
+     * Per-entity state and the counters derived from it. Every update is idempotent, so replaying an
+     * event that is already part of the state changes nothing.
+     */
+    private static final class Counts {
+
+        final Map<String, SeatState> seats = new HashMap<>();
+        final Map<Long, Member> employees = new HashMap<>();
+        final long[] byStatus = new long[STATUSES.length];
+        final Map<String, long[]> byPrefix = new HashMap<>();
+        final Map<Floor, long[]> byFloor = new HashMap<>();
+        final Map<String, long[]> byDepartment = new HashMap<>();
+
+        void apply(Object event) {
+            if (event instanceof SeatChangedEvent seat) {
+                putSeat(seat.seatId(), seat.status());
+            } else if (event instanceof EmployeeChangedEvent employee) {
+                if (employee.isDeleted()) {
+                    removeEmployee(employee.employeeId());
+                } else {
+                    putEmployee(employee.employeeId(), employee.employee().getDepartment(), employee.seatId());
+                }
+            }
+        }
+
+        void putSeat(String seatId, SeatStatus status) {
+            SeatState known = seats.get(seatId);
+            putSeat(seatId, status, known != null ? known.floor() : Floor.DEFAULT);
+        }
+
+        void putSeat(String seatId, SeatStatus status, Floor floor) {
+            SeatState previous = seats.put(seatId, new SeatState(status, floor));
+            long[] prefix = byPrefix.computeIfAbsent(prefixOf(seatId), p -> new long[STATUSES.length]);
+            if (previous != null) {
+                byStatus[previous.status().ordinal()]--;
+                prefix[previous.status().ordinal()]--;
+                byFloor.get(previous.floor())[previous.status().ordinal()]--;
+            }
+            byStatus[status.ordinal()]++;
+            prefix[status.ordinal()]++;
+            byFloor.computeIfAbsent(floor, f -> new long[STATUSES.length])[status.ordinal()]++;
+        }
+
+        void putEmployee(Long employeeId, String department, String seatId) {
+            Member member = new Member(department != null && !department.isBlank() ? department.trim() : NONE,
+                    assignmentOf(seatId));
+            Member previous = employees.put(employeeId, member);
+            if (previous != null) {
+                count(previous, -1);
+            }
+            count(member, 1);
+        }
+
+        void removeEmployee(Long employeeId) {
+            Member previous = employees.remove(employeeId);
+            if (previous != null) {
+                count(previous, -1);
+            }
+        }
+
+        private void count(Member member, int delta) {
+            long[] counts = byDepartment.computeIfAbsent(member.department(), d -> new long[ASSIGNMENTS.length]);
+            counts[member.assignment().ordinal()] += delta;
+            if (delta < 0 && isEmpty(counts)) {
+                byDepartment.remove(member.department());
+            }
+        }
+
+        private static boolean isEmpty(long[] counts) {
+            for (long count : counts) {
+                if (count != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
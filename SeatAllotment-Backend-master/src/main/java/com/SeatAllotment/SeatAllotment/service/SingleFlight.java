@@ -0,0 +1,114 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight load between concurrent callers asking for the same key, so a burst of
+ * identical reads that all miss the cache runs the query once. Nothing is kept after the load
+ * returns; caching stays with the {@code @Cacheable} layer.
+ * <p>
+ * Loads are named after the cache they fill ({@code CacheConfig}). Coalescing can be turned off for
+ * all of them with {@code seat-allotment.coalescing.enabled=false} or for one with
+ * {@code seat-allotment.coalescing.<name>.enabled=false}. Callers that joined another caller's load
+ * are counted per name in {@code seat.reads.coalesced}.
+ */
+@Component
+public class SingleFlight {
+
+    private static final String PREFIX = "seat-allotment.coalescing.";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private SeatMetrics seatMetrics;
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> enabled = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> coalesced = new ConcurrentHashMap<>();
+
+    private record Key(String name, Object key) {
+    }
+
+    /**
+     * Runs {@code loader}, or waits for the identical load already in flight and returns its result
+     * (or rethrows its exception).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, Object key, Supplier<T> loader) {
+        if (key == null || !isEnabled(name)) {
+            return loader.get();
+        }
+        Key flightKey = new Key(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+        if (leader != null) {
+            counter(name).increment();
+            return (T) await(leader);
+        }
+        try {
+            T value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * Stops new callers from joining a load of {@code key} that is already running; called when a
+     * committed change makes its result stale. Callers already waiting still get that result.
+     */
+    public void forget(String name, Object key) {
+        if (key != null) {
+            inFlight.remove(new Key(name, key));
+        }
+    }
+
+    public boolean isEnabled(String name) {
+        return enabled.computeIfAbsent(name, n -> environment.getProperty(PREFIX + n + ".enabled", Boolean.class,
+                environment.getProperty(PREFIX + "enabled", Boolean.class, true)));
+    }
+
+    /**
+     * Calls for {@code name} that were answered by another caller's load.
+     */
+    public long coalescedCount(String name) {
+        LongAdder count = coalesced.get(name);
+        return count != null ? count.sum() : 0;
+    }
+
+    private LongAdder counter(String name) {
+        return coalesced.computeIfAbsent(name, n -> {
+            LongAdder count = new LongAdder();
+            seatMetrics.registerCoalescedReads(n, count);
+            return count;
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
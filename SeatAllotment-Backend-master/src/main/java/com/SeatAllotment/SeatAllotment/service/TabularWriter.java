@@ -0,0 +1,17 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import java.io.IOException;
+
+/**
+ * Writes a table row by row to an output stream without keeping earlier rows. Values may be
+ * {@code null}, {@link Number}s or anything else, which is written as its string form.
+ */
+public interface TabularWriter {
+
+    void writeRow(Object... values) throws IOException;
+
+    /**
+     * Writes whatever the format needs after the last row and flushes; does not close the stream.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,133 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.service.EmployeeService;
+import com.SeatAllotment.SeatAllotment.service.SeatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two embedded databases: the usual test database as the primary and a second one,
+ * seeded with different rows, as the replica, so every assertion shows which one a read went to.
+ */
+@SpringBootTest(properties = {
+        "seat-allotment.replica.enabled=true",
+        "seat-allotment.replica.datasource.url=jdbc:h2:mem:seat_allotment_replica;MODE=MySQL;DB_CLOSE_DELAY=-1;"
+                + "DATABASE_TO_LOWER=TRUE;INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'",
+        "seat-allotment.replica.max-lag-ms=0"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routing;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        seatRepository.save(new Seat("P1", SeatStatus.VACANT, null));
+        seatRepository.save(new Seat("P2", SeatStatus.VACANT, null));
+        Employee employee = new Employee("Ada", "Engineer", "Platform", null);
+        employee.setId(1L);
+        employeeRepository.save(employee);
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.update("DELETE FROM seats");
+        replica.update("DELETE FROM employees");
+        replica.update("DELETE FROM replica_heartbeat");
+        replica.update("INSERT INTO employees (employeeid, name, role, department) "
+                + "VALUES (1, 'Ada (replica)', 'Engineer', 'Platform')");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void reset() {
+        routing.setReplicaState(0, true);
+        ReadWriteRoutingDataSource.endRequest();
+    }
+
+    @Test
+    void readOnlyServiceReadsUseTheReplica() {
+        assertThat(employeeNames()).containsExactly("Ada (replica)");
+        assertThat(employeeService.getEmployeeById(1L)).get().extracting(Employee::getName).isEqualTo("Ada (replica)");
+
+        // Spring Data's own read-only transactions, which the in-memory indexes load through, stay on the primary
+        assertThat(seatRepository.findAll()).extracting(Seat::getId).containsExactlyInAnyOrder("P1", "P2");
+    }
+
+    @Test
+    void readsAfterAWriteInTheSameRequestUseThePrimary() {
+        ReadWriteRoutingDataSource.beginRequest();
+        assertThat(employeeNames()).containsExactly("Ada (replica)");
+
+        seatService.claimSeat("P1", 1L);
+        assertThat(employeeNames()).containsExactly("Ada");
+
+        ReadWriteRoutingDataSource.endRequest();
+        ReadWriteRoutingDataSource.beginRequest();
+        assertThat(employeeNames()).containsExactly("Ada (replica)");
+    }
+
+    @Test
+    void staleOrSilentReplicaFallsBackToThePrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routing, 1_000, 2);
+
+        // No heartbeat has reached the replica
+        monitor.probe();
+        assertThat(routing.isReplicaUsable()).isFalse();
+        assertThat(employeeNames()).containsExactly("Ada");
+
+        replica.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)", System.currentTimeMillis());
+        monitor.probe();
+        assertThat(routing.isReplicaUsable()).isTrue();
+        assertThat(employeeNames()).containsExactly("Ada (replica)");
+
+        replica.update("UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1", System.currentTimeMillis() - 60_000);
+        monitor.probe();
+        assertThat(routing.isReplicaUsable()).isFalse();
+        assertThat(routing.getReplicaLagMillis()).isGreaterThanOrEqualTo(60_000);
+        assertThat(employeeNames()).containsExactly("Ada");
+    }
+
+    private List<String> employeeNames() {
+        return employeeService.getAllEmployees().stream().map(Employee::getName).toList();
+    }
+}
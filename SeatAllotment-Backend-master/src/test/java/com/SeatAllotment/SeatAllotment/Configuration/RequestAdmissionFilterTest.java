@@ -0,0 +1,137 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import com.SeatAllotment.SeatAllotment.service.SeatMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tiny budgets: two reads per client with a refill every ten seconds, so the third read is refused;
+ * one write with a refill every second and up to 1.5 s of waiting, so the second write queues.
+ */
+@SpringBootTest(properties = {
+        "seat-allotment.rate-limit.read.per-second=0.1",
+        "seat-allotment.rate-limit.read.capacity=2",
+        "seat-allotment.rate-limit.write.per-second=1",
+        "seat-allotment.rate-limit.write.capacity=1",
+        "seat-allotment.rate-limit.max-wait-ms=1500"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestAdmissionFilterTest {
+
+    private static final String ORIGIN = "http://localhost:4200";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private SeatMetrics seatMetrics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void readsAreRefusedOnceTheirBudgetIsSpentWithCorsHeaders() throws Exception {
+        double admitted = admissions("read", "admitted");
+        double rejected = admissions("read", "rejected");
+
+        mockMvc.perform(from("10.0.0.1", get("/seats"))).andExpect(status().isOk());
+        mockMvc.perform(from("10.0.0.1", get("/seats"))).andExpect(status().isOk());
+        MvcResult refused = mockMvc.perform(from("10.0.0.1", get("/seats")).header(HttpHeaders.ORIGIN, ORIGIN))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, ORIGIN))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andReturn();
+        assertThat(Long.parseLong(refused.getResponse().getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 10L);
+        assertThat(refused.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS))
+                .contains(HttpHeaders.RETRY_AFTER);
+
+        // Another client has its own budget, and preflights are never counted
+        mockMvc.perform(from("10.0.0.2", get("/seats"))).andExpect(status().isOk());
+        mockMvc.perform(from("10.0.0.1", options("/seats"))
+                        .header(HttpHeaders.ORIGIN, ORIGIN)
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, ORIGIN));
+
+        assertThat(admissions("read", "admitted") - admitted).isEqualTo(3);
+        assertThat(admissions("read", "rejected") - rejected).isEqualTo(1);
+    }
+
+    @Test
+    void writesHaveTheirOwnBudgetAndQueueForANearToken() throws Exception {
+        mockMvc.perform(from("10.0.1.1", get("/seats"))).andExpect(status().isOk());
+        mockMvc.perform(from("10.0.1.1", get("/seats"))).andExpect(status().isOk());
+        mockMvc.perform(from("10.0.1.1", get("/seats"))).andExpect(status().isTooManyRequests());
+        double admitted = admissions("write", "admitted");
+        double queued = admissions("write", "queued");
+
+        // Spent reads do not touch the write budget; deleting a missing employee is a cheap write
+        mockMvc.perform(from("10.0.1.1", delete("/employees/delete/999999"))).andExpect(status().isNotFound());
+        long start = System.nanoTime();
+        mockMvc.perform(from("10.0.1.1", delete("/employees/delete/999999"))).andExpect(status().isNotFound());
+
+        assertThat(System.nanoTime() - start).isGreaterThan(500_000_000L);
+        assertThat(admissions("write", "admitted") - admitted).isEqualTo(1);
+        assertThat(admissions("write", "queued") - queued).isEqualTo(1);
+    }
+
+    @Test
+    void writesAreShedWhileRequestsWaitForAConnection() throws Exception {
+        AdmissionLimitingDataSource busy = mock(AdmissionLimitingDataSource.class);
+        when(busy.getWaiting()).thenReturn(3);
+        RequestAdmissionFilter filter = new RequestAdmissionFilter(seatMetrics, busy, objectMapper,
+                100, 100, 100, 100, 0, 2, 600, 100);
+        double shed = admissions("write", "shed");
+
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/employees/1"), write, new MockFilterChain());
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/employees/1"), read, new MockFilterChain());
+
+        assertThat(write.getStatus()).isEqualTo(503);
+        assertThat(write.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(read.getStatus()).isEqualTo(200);
+        assertThat(admissions("write", "shed") - shed).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequestBuilder from(String client, MockHttpServletRequestBuilder request) {
+        RequestPostProcessor address = r -> {
+            r.setRemoteAddr(client);
+            return r;
+        };
+        return request.with(address);
+    }
+
+    private double admissions(String endpointClass, String outcome) {
+        Counter counter = registry.find("http.admission").tags("class", endpointClass, "outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.SeatAllotment.SeatAllotment.Configuration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long T0 = 1_000 * SECOND;
+
+    @Test
+    void burstUpToCapacityThenRefillAtRate() {
+        TokenBucket bucket = new TokenBucket(10, 5, T0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(T0, 0)).isZero();
+        }
+        long wait = bucket.tryAcquire(T0, 0);
+        assertThat(wait).isEqualTo(SECOND / 10);
+
+        // A rejected attempt takes nothing, so the token is due at the same time
+        assertThat(bucket.tryAcquire(T0, 0)).isEqualTo(wait);
+        assertThat(bucket.tryAcquire(T0 + SECOND / 10, 0)).isZero();
+        assertThat(bucket.tryAcquire(T0 + SECOND / 10, 0)).isPositive();
+
+        // Idle for longer than a full refill: capacity again, never more
+        long later = T0 + 10 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(later, 0)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later, 0)).isPositive();
+    }
+
+    @Test
+    void tokensDueWithinTheWaitAreReserved() {
+        TokenBucket bucket = new TokenBucket(10, 1, T0);
+        assertThat(bucket.tryAcquire(T0, 0)).isZero();
+
+        assertThat(bucket.tryAcquire(T0, SECOND / 5)).isEqualTo(SECOND / 10);
+        assertThat(bucket.tryAcquire(T0, SECOND / 5)).isEqualTo(2 * SECOND / 10);
+        assertThat(bucket.tryAcquire(T0, SECOND / 5)).isEqualTo(3 * SECOND / 10);
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanTheCapacity() throws Exception {
+        int threads = 16;
+        int capacity = 100;
+        TokenBucket bucket = new TokenBucket(0.001, capacity, T0);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < 50; i++) {
+                        if (bucket.tryAcquire(T0, 0) == 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+            int admitted = 0;
+            for (Future<Integer> result : results) {
+                admitted += result.get();
+            }
+            assertThat(admitted).isEqualTo(capacity);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.SeatAllotment.SeatAllotment.Controller;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.EmployeePage;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Twelve employees over two departments and three roles, seated, working from home or unassigned by id.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeePageTest {
+
+    private static final int EMPLOYEES = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            String seatId = id % 3 == 0 ? "Work From Home" : id % 3 == 1 ? "P-" + id : "Unassigned";
+            Employee employee = new Employee("Employee " + id, id % 2 == 0 ? "Engineer" : "Analyst",
+                    id <= 6 ? "Platform" : "Data", seatId);
+            employee.setId(id);
+            employeeRepository.save(employee);
+        }
+    }
+
+    @Test
+    void pagesContinueFromTheCursorUntilTheLastOne() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        Long after = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/employees/page").param("limit", "5");
+            if (after != null) {
+                request.param("after", after.toString());
+            }
+            MockHttpServletResponse response = mockMvc.perform(request).andExpect(status().isOk())
+                    .andReturn().getResponse();
+            EmployeePage page = objectMapper.readValue(response.getContentAsString(), EmployeePage.class);
+            // Counting is only paid for on the first page
+            assertThat(response.getHeader("X-Total-Count")).isEqualTo(after == null ? String.valueOf(EMPLOYEES) : null);
+            page.items().forEach(item -> seen.add(item.employeeid()));
+            after = page.nextAfter();
+            pages++;
+        } while (after != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(EMPLOYEES).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void filtersCombineAndTheCountMatchesThem() throws Exception {
+        // Platform (1-6) engineers (even ids) with a physical seat (id % 3 == 1): only 4
+        MockHttpServletResponse response = mockMvc.perform(get("/employees/page")
+                        .param("department", " Platform ")
+                        .param("role", "Engineer")
+                        .param("assignment", "ASSIGNED"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        EmployeePage page = objectMapper.readValue(response.getContentAsString(), EmployeePage.class);
+        assertThat(page.items()).extracting(EmployeeSummary::employeeid).containsExactly(4L);
+        assertThat(page.items().get(0).seatId()).isEqualTo("P-4");
+        assertThat(page.nextAfter()).isNull();
+        assertThat(response.getHeader("X-Total-Count")).isEqualTo("1");
+
+        assertThat(ids(employeeRepository.findPageAfter(null, "Data", null, "WORK_FROM_HOME", PageRequest.of(0, 10))))
+                .containsExactly(9L, 12L);
+        assertThat(ids(employeeRepository.findPageAfter(null, null, "Analyst", "UNASSIGNED", PageRequest.of(0, 10))))
+                .containsExactly(5L, 11L);
+        assertThat(ids(employeeRepository.findPageAfter(5L, null, "Analyst", "UNASSIGNED", PageRequest.of(0, 10))))
+                .containsExactly(11L);
+        assertThat(employeeRepository.countFiltered("Data", null, "ASSIGNED")).isEqualTo(2);
+    }
+
+    @Test
+    void aLimitOutsideTheAllowedRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/employees/page").param("limit", "0")).andExpect(status().isBadRequest());
+    }
+
+    private static List<Long> ids(List<EmployeeSummary> page) {
+        return page.stream().map(EmployeeSummary::employeeid).toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.SeatAllotment.SeatAllotment.Controller;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.SeatLayoutEntry;
+import com.SeatAllotment.SeatAllotment.service.SeatOccupancyIndex;
+import com.SeatAllotment.SeatAllotment.service.SeatService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SeatLayoutTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        seatRepository.save(new Seat("L-10", SeatStatus.VACANT, null, "HQ", "2", "B"));
+        seatRepository.save(new Seat("L-2", SeatStatus.OCCUPIED, 7L, "HQ", "2", "A"));
+        seatRepository.save(new Seat("L-1", SeatStatus.RESERVED, null, "HQ", "1", null));
+        Employee grace = new Employee("Grace", "Architect", "Platform", "L-2");
+        grace.setId(7L);
+        employeeRepository.save(grace);
+        occupancyIndex.reload();
+    }
+
+    @Test
+    void theLayoutJoinsEachSeatWithItsOccupant() {
+        assertThat(seatRepository.findLayout(null, null, null)).hasSize(3)
+                .contains(new SeatLayoutEntry("L-2", SeatStatus.OCCUPIED, 7L, "Grace", "Architect", "Platform",
+                        "HQ", "2", "A"))
+                .contains(new SeatLayoutEntry("L-10", SeatStatus.VACANT, null, null, null, null, "HQ", "2", "B"));
+        assertThat(seatRepository.findLayout("HQ", "2", null)).extracting(SeatLayoutEntry::seatId)
+                .containsExactlyInAnyOrder("L-2", "L-10");
+        assertThat(seatRepository.findLayout(null, null, "A")).extracting(SeatLayoutEntry::seatId)
+                .containsExactly("L-2");
+        assertThat(seatRepository.findLayout("North", null, null)).isEmpty();
+    }
+
+    @Test
+    void unchangedSeatsAnswerWithNotModifiedUntilASeatChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/seats/layout").param("floor", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].seatId").value(contains("L-2", "L-10")))
+                .andExpect(jsonPath("$[0].employeeName").value("Grace"))
+                .andExpect(jsonPath("$[1].employeeName").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isEqualTo(seatService.getLayoutETag());
+
+        mockMvc.perform(get("/seats/layout").param("floor", "2").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        // The tag covers every seat, so a change on another floor refreshes this one too
+        seatService.claimSeat("L-10", 7L);
+        String changed = mockMvc.perform(get("/seats/layout").param("floor", "1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].seatId").value(contains("L-1")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(eTag);
+    }
+}
@@ -0,0 +1,163 @@
+package com.SeatAllotment.SeatAllotment;
+
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the platform-thread and virtual-thread modes under many concurrent read clients hitting
+ * {@code GET /seats/layout}, which needs a database connection per request. Too slow for every build:
+ * run it with {@code mvn test -Dtest=VirtualThreadLoadComparisonTest -Dload-comparison=true}
+ * ({@code -Dload-comparison.clients} and {@code -Dload-comparison.seconds} to change the load).
+ */
+@EnabledIfSystemProperty(named = "load-comparison", matches = "true")
+class VirtualThreadLoadComparisonTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadComparisonTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("load-comparison.clients", 1000);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load-comparison.seconds", 20));
+    private static final Duration WARM_UP = DURATION.dividedBy(5);
+    private static final int SEATS = 200;
+    private static final int POOL_SIZE = 20;
+
+    record Result(String mode, long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+    }
+
+    @Test
+    void compareThreadModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        logger.info("{} clients for {} s against a pool of {} connections:", CLIENTS, DURATION.toSeconds(), POOL_SIZE);
+        for (Result result : List.of(platform, virtual)) {
+            logger.info("  {}: {} req/s, p50 {} ms, p99 {} ms, {} requests, {} errors", result.mode(),
+                    String.format("%.0f", result.throughput()), String.format("%.1f", result.p50Millis()),
+                    String.format("%.1f", result.p99Millis()), result.requests(), result.errors());
+        }
+
+        assertThat(platform.requests()).isPositive();
+        assertThat(virtual.requests()).isPositive();
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual threads" : "platform threads";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SeatAllotmentApplication.class)
+                .profiles("test")
+                // Arguments, not default properties: application.properties would override those
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--seat-allotment.db-admission.enabled=" + virtualThreads,
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.cache.type=none",
+                        "--seat-allotment.rate-limit.enabled=false",
+                        "--logging.level.com.SeatAllotment.SeatAllotment=WARN",
+                        "--logging.level.org.springframework.web=WARN")) {
+            seed(context.getBean(JdbcTemplate.class));
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            return load(mode, URI.create("http://localhost:" + port + "/seats/layout"));
+        }
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("DELETE FROM employees");
+        jdbc.update("DELETE FROM seats");
+        List<Object[]> seats = new ArrayList<>(SEATS);
+        List<Object[]> employees = new ArrayList<>(SEATS / 2);
+        for (int n = 1; n <= SEATS; n++) {
+            boolean occupied = n % 2 == 0;
+            seats.add(new Object[]{String.valueOf(n), occupied ? "OCCUPIED" : "VACANT", occupied ? (long) n : null,
+                    Seat.DEFAULT_BUILDING, Seat.DEFAULT_FLOOR});
+            if (occupied) {
+                employees.add(new Object[]{(long) n, "Employee " + n, "Analyst", "Engineering", String.valueOf(n)});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO seats (id, status, employee_id, building, floor) VALUES (?, ?, ?, ?, ?)",
+                seats);
+        jdbc.batchUpdate("INSERT INTO employees (employeeid, name, role, department, seat_id) VALUES (?, ?, ?, ?, ?)",
+                employees);
+    }
+
+    private Result load(String mode, URI uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] window = new long[2];
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            List<Future<long[]>> latencies = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                latencies.add(clients.submit(() -> {
+                    start.await();
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    long measureFrom = window[0];
+                    long end = window[1];
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            long elapsed = System.nanoTime() - now;
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            } else if (now >= measureFrom) {
+                                if (count == samples.length) {
+                                    samples = Arrays.copyOf(samples, count * 2);
+                                }
+                                samples[count++] = elapsed;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return Arrays.copyOf(samples, count);
+                }));
+            }
+            long begin = System.nanoTime();
+            window[0] = begin + WARM_UP.toNanos();
+            window[1] = begin + DURATION.toNanos();
+            start.countDown();
+
+            List<long[]> perClient = new ArrayList<>(CLIENTS);
+            for (Future<long[]> future : latencies) {
+                perClient.add(future.get());
+            }
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            double seconds = (DURATION.toNanos() - WARM_UP.toNanos()) / 1e9;
+            return new Result(mode, all.length, errors.get(), all.length / seconds,
+                    percentileMillis(all, 0.50), percentileMillis(all, 0.99));
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
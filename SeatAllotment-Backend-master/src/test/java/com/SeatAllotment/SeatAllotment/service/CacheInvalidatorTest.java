@@ -0,0 +1,119 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Configuration.CacheConfig;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every cached lookup touched by a move is warmed first; the entries must outlive the transaction that
+ * changes them and disappear only once it commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheInvalidatorTest {
+
+    private static final Long ADA = 1L;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        seatRepository.save(new Seat("C1", SeatStatus.OCCUPIED, ADA));
+        seatRepository.save(new Seat("C2", SeatStatus.VACANT, null));
+        Employee ada = new Employee("Ada", "Engineer", "Platform", "C1");
+        ada.setId(ADA);
+        employeeRepository.save(ada);
+        occupancyIndex.reload();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void aMoveEvictsBothSidesOfTheAssignmentOnlyAfterItCommits() {
+        warm();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            employeeService.updateEmployee(ADA, new Employee("Ada", "Engineer", "Platform", "C2"));
+            // Readers outside the transaction still see the committed state
+            assertThat(cached(CacheConfig.SEATS, "C2")).isNotNull();
+            assertThat(cached(CacheConfig.SEATS_BY_EMPLOYEE, ADA)).isNotNull();
+            assertThat(cached(CacheConfig.EMPLOYEES, ADA)).isNotNull();
+        });
+
+        Map<String, Object> evicted = Map.of(
+                CacheConfig.SEATS, "C2",
+                CacheConfig.SEATS_BY_EMPLOYEE, ADA,
+                CacheConfig.SEAT_OCCUPANTS, "C1",
+                CacheConfig.EMPLOYEES, ADA,
+                CacheConfig.EMPLOYEES_BY_SEAT, "C1");
+        evicted.forEach((cache, key) -> assertThat(cached(cache, key)).as(cache + " " + key).isNull());
+
+        assertThat(seatService.getSeatByEmployeeId(ADA)).get().extracting(Seat::getId).isEqualTo("C2");
+        assertThat(seatService.getEmployeeBySeat("C1")).isEmpty();
+        assertThat(employeeService.getEmployeeById(ADA)).get().extracting(Employee::getSeatId).isEqualTo("C2");
+    }
+
+    @Test
+    void aRolledBackClaimLeavesTheCacheAlone() {
+        warm();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            seatService.claimSeat("C2", ADA);
+            status.setRollbackOnly();
+        });
+
+        assertThat(cached(CacheConfig.SEATS, "C2")).isNotNull();
+        assertThat(seatService.getSeatById("C2")).get().extracting(Seat::getStatus).isEqualTo(SeatStatus.VACANT);
+        assertThat(cached(CacheConfig.SEATS_BY_EMPLOYEE, ADA)).isNotNull();
+    }
+
+    private void warm() {
+        seatService.getSeatById("C2");
+        seatService.getSeatByEmployeeId(ADA);
+        seatService.getEmployeeBySeat("C1");
+        employeeService.getEmployeeById(ADA);
+        employeeService.getEmployeeBySeat("C1");
+        assertThat(cached(CacheConfig.SEAT_OCCUPANTS, "C1")).isNotNull();
+        assertThat(cached(CacheConfig.EMPLOYEES_BY_SEAT, "C1")).isNotNull();
+    }
+
+    private Cache.ValueWrapper cached(String cacheName, Object key) {
+        return cacheManager.getCache(cacheName).get(key);
+    }
+}
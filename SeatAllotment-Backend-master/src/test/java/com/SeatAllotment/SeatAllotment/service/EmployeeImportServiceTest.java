@@ -0,0 +1,170 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport.RowStatus;
+import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeImportServiceTest {
+
+    private static final int ROUNDS = 30;
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        seatRepository.save(new Seat("I1", SeatStatus.OCCUPIED, 1L));
+        seatRepository.save(new Seat("I2", SeatStatus.VACANT, null));
+        Employee holder = new Employee("Holder", "Engineer", "Platform", "I1");
+        holder.setId(1L);
+        employeeRepository.save(holder);
+    }
+
+    @Test
+    void conflictingRowsFailWithoutTakingTheRestOfTheChunkDown() {
+        BulkImportReport report = importService.importRows(List.of(
+                row(10, "I1"),
+                row(11, "I2"),
+                row(12, "I2"),
+                row(11, ""),
+                row(13, "I9"),
+                row(14, "")).iterator());
+
+        assertThat(report.rows()).extracting(r -> r.status())
+                .containsExactly(RowStatus.FAILED, RowStatus.CREATED, RowStatus.FAILED, RowStatus.FAILED,
+                        RowStatus.FAILED, RowStatus.CREATED);
+        assertThat(report.rows().get(0).message()).contains("already occupied");
+        assertThat(report.rows().get(2).message()).contains("already occupied");
+        assertThat(report.rows().get(3).message()).contains("already exists");
+        assertThat(report.rows().get(4).message()).contains("not found");
+
+        Seat claimed = seatRepository.findById("I2").orElseThrow();
+        assertThat(claimed.getStatus()).isEqualTo(SeatStatus.OCCUPIED);
+        assertThat(claimed.getEmployeeId()).isEqualTo(11L);
+        assertThat(seatRepository.findById("I1").orElseThrow().getEmployeeId()).isEqualTo(1L);
+        assertThat(employeeRepository.findById(14L).orElseThrow().getSeatId()).isEqualTo(Employee.UNASSIGNED);
+    }
+
+    @Test
+    void aBodyThatBreaksAfterACommittedChunkReportsWhereItStopped() throws Exception {
+        int rows = EmployeeImportService.CHUNK_SIZE + 2;
+        String body = "[" + employees(100, rows) + ", {\"employeeid\": 9000, \"name\": ";
+
+        BulkImportReport report = importService.importJson(json(body));
+
+        assertThat(report.total()).isEqualTo(rows + 1);
+        assertThat(report.succeeded()).isEqualTo(rows);
+        BulkImportReport.RowResult last = report.rows().get(rows);
+        assertThat(last.row()).isEqualTo(rows + 1);
+        assertThat(last.status()).isEqualTo(RowStatus.FAILED);
+        assertThat(last.message()).startsWith("Malformed import body");
+        // Both the committed chunk and the rows read after it were imported
+        assertThat(employeeRepository.count()).isEqualTo(1 + rows);
+    }
+
+    @Test
+    void anElementThatIsNotAnObjectStopsTheImport() throws Exception {
+        String body = "[" + employees(200, 2) + ", 42, " + employees(300, 1) + "]";
+
+        BulkImportReport report = importService.importJson(json(body));
+
+        assertThat(report.rows()).extracting(r -> r.status())
+                .containsExactly(RowStatus.CREATED, RowStatus.CREATED, RowStatus.FAILED);
+        assertThat(report.rows().get(2).message()).contains("must be a JSON object");
+        assertThat(employeeRepository.existsById(200L)).isTrue();
+        assertThat(employeeRepository.existsById(300L)).isFalse();
+    }
+
+    @Test
+    void importAndCreateRacingForOneSeatNeverDoubleBook() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String seatId = "R" + round;
+                seatRepository.save(new Seat(seatId, SeatStatus.VACANT, null));
+                long imported = 1000L + round;
+                long created = 2000L + round;
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Boolean> viaImport = pool.submit(() -> {
+                    start.await();
+                    return importService.importRows(List.of(row(imported, seatId)).iterator()).succeeded() == 1;
+                });
+                Future<Boolean> viaCreate = pool.submit(() -> {
+                    start.await();
+                    Employee employee = new Employee("Created " + created, "Engineer", "Platform", seatId);
+                    employee.setId(created);
+                    try {
+                        employeeService.addEmployee(employee);
+                        return true;
+                    } catch (SeatUnavailableException e) {
+                        return false;
+                    }
+                });
+                start.countDown();
+                boolean importWon = viaImport.get(30, TimeUnit.SECONDS);
+                boolean createWon = viaCreate.get(30, TimeUnit.SECONDS);
+
+                assertThat(importWon ^ createWon).as("exactly one claim of " + seatId).isTrue();
+                assertThat(seatRepository.findById(seatId).orElseThrow().getEmployeeId())
+                        .isEqualTo(importWon ? imported : created);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** {@code count} unseated employees numbered from {@code firstId}, as comma-separated JSON objects. */
+    private static String employees(long firstId, int count) {
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"employeeid\": ").append(firstId + i)
+                    .append(", \"name\": \"Employee\", \"department\": \"Platform\", \"role\": \"Engineer\"}");
+        }
+        return json.toString();
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> row(long employeeId, String seatId) {
+        return Map.of("employeeid", employeeId, "name", "Employee " + employeeId, "department", "Platform",
+                "role", "Engineer", "seat_id", seatId);
+    }
+}
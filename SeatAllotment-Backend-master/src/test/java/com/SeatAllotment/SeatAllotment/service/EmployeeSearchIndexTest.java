@@ -0,0 +1,138 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeSearchIndexTest {
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeSearchIndex index;
+
+    @BeforeEach
+    void build() {
+        employeeRepository = mock(EmployeeRepository.class);
+        index = new EmployeeSearchIndex();
+        ReflectionTestUtils.setField(index, "employeeRepository", employeeRepository);
+        load(List.of(
+                new EmployeeSummary(1L, "Ann Lee", "Engineer", "Platform", "B2-014"),
+                new EmployeeSummary(2L, "Annabel Stone", "Analyst", "Data", Employee.WORK_FROM_HOME),
+                new EmployeeSummary(3L, "Jonathan Price", "Engineer", "Data", "A-7"),
+                new EmployeeSummary(14L, "Priya Nair", "Manager", "Platform", Employee.UNASSIGNED)));
+    }
+
+    @Test
+    void tokenizeSplitsOnAnythingButLettersAndDigits() {
+        assertThat(EmployeeSearchIndex.tokenize("Anne-Marie O'Neil, B2-014"))
+                .containsExactly("anne", "marie", "o", "neil", "b2", "014");
+        assertThat(EmployeeSearchIndex.tokenize("  ÉLODIE  ")).containsExactly("élodie");
+        assertThat(EmployeeSearchIndex.tokenize(" -- ")).isEmpty();
+        assertThat(EmployeeSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void editDistanceStopsOnceTheLimitIsPassed() {
+        assertThat(EmployeeSearchIndex.editDistance("jonathan", "jonathan", 2)).isZero();
+        assertThat(EmployeeSearchIndex.editDistance("jonathon", "jonathan", 2)).isEqualTo(1);
+        assertThat(EmployeeSearchIndex.editDistance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(EmployeeSearchIndex.editDistance("kitten", "sitting", 1)).isEqualTo(2);
+    }
+
+    @Test
+    void exactMatchesRankAbovePrefixMatches() {
+        assertThat(index.search("ann", 10)).extracting(EmployeeSummary::employeeid).containsExactly(1L, 2L);
+        assertThat(index.search("annab", 10)).extracting(EmployeeSummary::employeeid).containsExactly(2L);
+        assertThat(index.search("ann", 1)).extracting(EmployeeSummary::employeeid).containsExactly(1L);
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        assertThat(index.search("data ann", 10)).extracting(EmployeeSummary::employeeid).containsExactly(2L);
+        assertThat(index.search("ann manager", 10)).isEmpty();
+        // Priya's id is 14; Ann's seat token "014" does not start with it
+        assertThat(index.search("14", 10)).extracting(EmployeeSummary::employeeid).containsExactly(14L);
+        assertThat(index.search("b2 014", 10)).extracting(EmployeeSummary::employeeid).containsExactly(1L);
+        assertThat(index.search("Work From Home", 10)).isEmpty();
+    }
+
+    @Test
+    void misspelledTermsMatchThroughTrigrams() {
+        assertThat(index.search("jonathon", 10)).extracting(EmployeeSummary::employeeid).containsExactly(3L);
+        assertThat(index.search("pryce", 10)).extracting(EmployeeSummary::employeeid).containsExactly(3L);
+        assertThat(index.search("platfrom", 10)).extracting(EmployeeSummary::employeeid)
+                .containsExactlyInAnyOrder(1L, 14L);
+        // Short terms are never matched fuzzily
+        assertThat(index.search("an", 10)).extracting(EmployeeSummary::employeeid).containsExactly(1L, 2L);
+        assertThat(index.search("xy", 10)).isEmpty();
+    }
+
+    @Test
+    void shortPrefixesKeepTheClosestTokensWhenThereAreTooMany() {
+        List<EmployeeSummary> employees = new ArrayList<>();
+        employees.add(new EmployeeSummary(1L, "Sam Lee", "Engineer", "Platform", Employee.UNASSIGNED));
+        // More tokens than the cap, all sorting before "sam"
+        for (int i = 0; i < EmployeeSearchIndex.MAX_EXPANSIONS + 10; i++) {
+            employees.add(new EmployeeSummary(100L + i, String.format("Saab%03d", i), "Driver", "Fleet",
+                    Employee.UNASSIGNED));
+        }
+        load(employees);
+
+        assertThat(index.search("sa lee", 10)).extracting(EmployeeSummary::employeeid).containsExactly(1L);
+        assertThat(index.search("sa", 1)).extracting(EmployeeSummary::employeeid).containsExactly(1L);
+    }
+
+    @Test
+    void committedChangesUpdateTheIndex() {
+        Employee ann = new Employee("Ann Marsh", "Engineer", "Security", "C-1");
+        ann.setId(1L);
+        index.onEmployeeChanged(EmployeeChangedEvent.updated("B2-014", ann));
+        Employee ravi = new Employee("Ravi Shah", "Engineer", "Data", Employee.UNASSIGNED);
+        ravi.setId(20L);
+        index.onEmployeeChanged(EmployeeChangedEvent.created(ravi));
+        Employee jonathan = new Employee("Jonathan Price", "Engineer", "Data", "A-7");
+        jonathan.setId(3L);
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(jonathan));
+
+        assertThat(index.search("lee", 10)).isEmpty();
+        assertThat(index.search("b2", 10)).isEmpty();
+        assertThat(index.search("marsh security", 10)).extracting(EmployeeSummary::employeeid).containsExactly(1L);
+        assertThat(index.search("c 1", 10)).extracting(EmployeeSummary::employeeid).containsExactly(1L);
+        assertThat(index.search("ravi", 10)).extracting(EmployeeSummary::seatId).containsExactly(Employee.UNASSIGNED);
+        assertThat(index.search("jonathan", 10)).isEmpty();
+        assertThat(index.search("jonathon", 10)).isEmpty();
+    }
+
+    @Test
+    void changesCommittedDuringARebuildAreReplayed() {
+        Employee ravi = new Employee("Ravi Shah", "Engineer", "Data", Employee.UNASSIGNED);
+        ravi.setId(20L);
+        when(employeeRepository.findPageAfter(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            assertThat(index.isLoaded()).isFalse();
+            index.onEmployeeChanged(EmployeeChangedEvent.created(ravi));
+            return List.of(new EmployeeSummary(1L, "Ann Lee", "Engineer", "Platform", "B2-014"));
+        });
+
+        index.rebuild();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.search("ravi", 10)).extracting(EmployeeSummary::employeeid).containsExactly(20L);
+        assertThat(index.search("ann", 10)).extracting(EmployeeSummary::employeeid).containsExactly(1L);
+    }
+
+    private void load(List<EmployeeSummary> employees) {
+        when(employeeRepository.findPageAfter(any(), any(), any(), any(), any())).thenReturn(employees);
+        index.rebuild();
+    }
+}
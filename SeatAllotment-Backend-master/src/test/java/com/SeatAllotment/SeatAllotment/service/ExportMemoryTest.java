@@ -0,0 +1,156 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports a few hundred thousand employees and seats in a child JVM capped at {@value #HEAP}, so an
+ * export that buffers rows fails with OutOfMemoryError instead of passing quietly.
+ */
+class ExportMemoryTest {
+
+    private static final String HEAP = "-Xmx64m";
+    private static final int ROWS = Integer.getInteger("export-test.rows", 300_000);
+
+    @Test
+    void exportsLargeTablesWithinSmallHeap(@TempDir Path dir) throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, HEAP, "-cp", System.getProperty("java.class.path"),
+                Child.class.getName(), dir.resolve("export").toString(), String.valueOf(ROWS))
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(process.waitFor(5, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(process.exitValue()).as(output).isZero();
+        for (String table : List.of("employees", "seats")) {
+            for (ExportFormat format : ExportFormat.values()) {
+                assertThat(output).contains(table + " " + format + " rows=" + ROWS + " ");
+            }
+        }
+    }
+
+    /** Loads the tables with plain JDBC batches and exports each one in both formats to a byte counter. */
+    public static class Child {
+
+        public static void main(String[] args) throws Exception {
+            String url = "jdbc:h2:file:" + new File(args[0]).getAbsolutePath() + ";MODE=MySQL;CACHE_SIZE=4096";
+            int rows = Integer.parseInt(args[1]);
+            load(url, rows);
+
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.setFetchSize(1000);
+
+            for (ExportFormat format : ExportFormat.values()) {
+                report("employees", format, jdbc, ExportService.EMPLOYEES_SQL, ExportService.EMPLOYEE_HEADERS);
+                report("seats", format, jdbc, ExportService.SEATS_SQL, ExportService.SEAT_HEADERS);
+            }
+            System.exit(0);
+        }
+
+        private static void report(String table, ExportFormat format, JdbcTemplate jdbc, String sql,
+                                   Object[] headers) throws IOException {
+            CountingOutputStream out = new CountingOutputStream();
+            long exported = ExportService.export(jdbc, sql, headers, ExportService.writer(format, out, table));
+            if (format == ExportFormat.CSV && out.lines != exported + 1) {
+                throw new IllegalStateException(table + " CSV has " + out.lines + " lines for " + exported + " rows");
+            }
+            System.out.println(table + " " + format + " rows=" + exported + " bytes=" + out.bytes);
+        }
+
+        private static void load(String url, int rows) throws SQLException {
+            try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE TABLE employees (employeeid BIGINT PRIMARY KEY, name VARCHAR(255), "
+                            + "department VARCHAR(255), role VARCHAR(255), seat_id VARCHAR(255))");
+                    statement.execute("CREATE TABLE seats (id VARCHAR(255) PRIMARY KEY, status VARCHAR(20), "
+                            + "employee_id BIGINT, building VARCHAR(64), floor VARCHAR(32), zone VARCHAR(32))");
+                }
+                connection.setAutoCommit(false);
+                try (PreparedStatement employee = connection.prepareStatement(
+                        "INSERT INTO employees VALUES (?, ?, ?, ?, ?)");
+                     PreparedStatement seat = connection.prepareStatement(
+                             "INSERT INTO seats VALUES (?, ?, ?, ?, ?, ?)")) {
+                    for (int i = 1; i <= rows; i++) {
+                        boolean seated = i % 4 != 0;
+                        employee.setLong(1, i);
+                        employee.setString(2, "Employee, \"" + i + "\"");
+                        employee.setString(3, "Department " + (i % 40));
+                        employee.setString(4, i % 7 == 0 ? "=Manager" : "Engineer");
+                        employee.setString(5, seated ? String.valueOf(i) : "Unassigned");
+                        employee.addBatch();
+
+                        seat.setString(1, String.valueOf(i));
+                        seat.setString(2, seated ? "OCCUPIED" : "VACANT");
+                        if (seated) {
+                            seat.setLong(3, i);
+                        } else {
+                            seat.setNull(3, Types.BIGINT);
+                        }
+                        seat.setString(4, "HQ");
+                        seat.setString(5, String.valueOf(i % 12 + 1));
+                        if (i % 3 == 0) {
+                            seat.setNull(6, Types.VARCHAR);
+                        } else {
+                            seat.setString(6, "Zone " + (char) ('A' + i % 5));
+                        }
+                        seat.addBatch();
+
+                        if (i % 5000 == 0) {
+                            employee.executeBatch();
+                            seat.executeBatch();
+                            connection.commit();
+                        }
+                    }
+                    employee.executeBatch();
+                    seat.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
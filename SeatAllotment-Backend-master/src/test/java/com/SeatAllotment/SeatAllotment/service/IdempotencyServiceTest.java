@@ -0,0 +1,125 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.exception.IdempotencyConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "seat-allotment.idempotency.database=true")
+@ActiveProfiles("test")
+class IdempotencyServiceTest {
+
+    private static final int CALLERS = 16;
+    private static final String OPERATION = "POST /employees/create";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SeatMetrics seatMetrics;
+
+    private final AtomicInteger writes = new AtomicInteger();
+
+    @Test
+    void concurrentDuplicatesWaitForTheFirstWrite() throws Exception {
+        String key = UUID.randomUUID().toString();
+        Map<String, Object> body = Map.of("employeeid", 1, "name", "Ada");
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<?>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return idempotencyService.execute(key, OPERATION, body, this::slowWrite);
+                }));
+            }
+            start.countDown();
+            int replayed = 0;
+            for (Future<ResponseEntity<?>> result : results) {
+                ResponseEntity<?> response = result.get();
+                assertThat(response.getStatusCode().value()).isEqualTo(201);
+                if (response.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)) {
+                    replayed++;
+                }
+            }
+            assertThat(replayed).isEqualTo(CALLERS - 1);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void anotherInstanceReplaysTheStoredResponse() {
+        String key = UUID.randomUUID().toString();
+        idempotencyService.execute(key, OPERATION, Map.of("name", "Ada"), this::slowWrite);
+
+        IdempotencyService otherInstance = new IdempotencyService(objectMapper, dataSource, seatMetrics,
+                true, 60, 100, 1000);
+        ResponseEntity<?> response = otherInstance.execute(key, OPERATION, Map.of("name", "Ada"), this::slowWrite);
+
+        assertThat(writes).hasValue(1);
+        assertThat(response.getStatusCode().value()).isEqualTo(201);
+        assertThat(response.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getBody()).isEqualTo("{\"write\":1}");
+    }
+
+    @Test
+    void keyReusedForADifferentRequestIsRejected() {
+        String key = UUID.randomUUID().toString();
+        idempotencyService.execute(key, OPERATION, Map.of("name", "Ada"), this::slowWrite);
+
+        assertThatThrownBy(() -> idempotencyService.execute(key, OPERATION, Map.of("name", "Grace"), this::slowWrite))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThatThrownBy(() -> idempotencyService.execute(key, "DELETE /employees/delete/1", null, this::slowWrite))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void failedWritesAreNotStored() {
+        String key = UUID.randomUUID().toString();
+        assertThatThrownBy(() -> idempotencyService.execute(key, OPERATION, null, () -> {
+            throw new IllegalStateException("database went away");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<?> retry = idempotencyService.execute(key, OPERATION, null, this::slowWrite);
+
+        assertThat(retry.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+        assertThat(writes).hasValue(1);
+    }
+
+    private ResponseEntity<Map<String, Object>> slowWrite() {
+        int write = writes.incrementAndGet();
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return ResponseEntity.status(201).body(Map.of("write", write));
+    }
+}
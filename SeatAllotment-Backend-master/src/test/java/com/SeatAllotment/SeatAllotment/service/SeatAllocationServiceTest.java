@@ -0,0 +1,110 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.AllocationPolicy;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.AllocationRequest;
+import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatAllocationServiceTest {
+
+    private static final int SEATS = 12;
+    private static final int EMPLOYEES = 6;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private SeatAllocationService allocationService;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        for (int i = 1; i <= SEATS; i++) {
+            seatRepository.save(new Seat("AL" + i, SeatStatus.VACANT, null));
+        }
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            Employee employee = new Employee("Employee " + id, "Engineer", id % 2 == 0 ? "Platform" : "Data",
+                    Employee.UNASSIGNED);
+            employee.setId(id);
+            employeeRepository.save(employee);
+        }
+        occupancyIndex.reload();
+    }
+
+    @Test
+    void overlappingAllocationsNeverDeadlockOrDoubleBook() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Alternate policies so both groups keep moving seats the other one holds
+                AllocationPolicy policy = round % 2 == 0 ? AllocationPolicy.SEAT_ORDER
+                        : AllocationPolicy.DEPARTMENT_CONTIGUOUS;
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> results = new ArrayList<>();
+                for (List<Long> group : List.of(List.of(1L, 2L, 3L, 4L), List.of(3L, 4L, 5L, 6L))) {
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        try {
+                            allocationService.allocate(new AllocationRequest(group, policy, false, false,
+                                    null, null, null));
+                        } catch (SeatUnavailableException e) {
+                            // The other allocation committed first; its plan is stale, which is fine
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> result : results) {
+                    result.get(30, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Map<Long, String> seatOf = new HashMap<>();
+        for (Seat seat : seatRepository.findAll()) {
+            if (seat.getStatus() == SeatStatus.OCCUPIED) {
+                assertThat(seatOf.put(seat.getEmployeeId(), seat.getId())).as("second seat of " + seat.getEmployeeId())
+                        .isNull();
+            }
+        }
+        for (Employee employee : employeeRepository.findAll()) {
+            if (seatOf.containsKey(employee.getId())) {
+                assertThat(employee.getSeatId()).isEqualTo(seatOf.get(employee.getId()));
+            }
+        }
+        assertThat(seatOf).containsOnlyKeys(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.AllocationPolicy;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan;
+import com.SeatAllotment.SeatAllotment.dto.AllocationPlan.Assignment;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SeatAllocatorTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatAllocatorTest.class);
+
+    @Test
+    void departmentsAreSeatedInBestFittingBlocks() {
+        // Seats 1-20, seat 9 held by someone outside the request: free runs are 1-8 and 10-20
+        List<Seat> seats = vacantSeats(20);
+        seats.set(8, new Seat("9", SeatStatus.OCCUPIED, 999L));
+
+        List<Employee> employees = new ArrayList<>();
+        employees.addAll(department("Sales", 100, 3));
+        employees.addAll(department("Engineering", 200, 10));
+        employees.addAll(department("Finance", 300, 6));
+
+        AllocationPlan plan = SeatAllocator.plan(seats, employees, List.of(),
+                AllocationPolicy.DEPARTMENT_CONTIGUOUS, false, true);
+
+        assertThat(plan.unplaced()).isEmpty();
+        Map<String, List<Integer>> seatsByDepartment = plan.assignments().stream().collect(Collectors.groupingBy(
+                Assignment::department, Collectors.mapping(a -> Integer.parseInt(a.seatId()), Collectors.toList())));
+        assertThat(seatsByDepartment.get("Engineering")).containsExactly(10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+        assertThat(seatsByDepartment.get("Finance")).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(seatsByDepartment.get("Sales")).containsExactly(7, 8, 20);
+    }
+
+    @Test
+    void keepsExistingSeatsAndReusesSeatsOfMovedEmployees() {
+        List<Seat> seats = vacantSeats(4);
+        seats.set(0, new Seat("1", SeatStatus.OCCUPIED, 1L));
+        seats.set(1, new Seat("2", SeatStatus.OCCUPIED, 2L));
+        seats.set(2, new Seat("3", SeatStatus.RESERVED, null));
+        List<Employee> employees = List.of(employee(1L, "Sales", "1"), employee(2L, "Sales", "2"),
+                employee(3L, "Sales", "Unassigned"));
+
+        AllocationPlan keep = SeatAllocator.plan(seats, employees, List.of(4L), AllocationPolicy.SEAT_ORDER, true, true);
+        assertThat(keep.kept()).containsExactly(1L, 2L);
+        assertThat(keep.assignments()).extracting(Assignment::employeeId, Assignment::seatId)
+                .containsExactly(tuple(3L, "4"));
+        assertThat(keep.unplaced()).extracting(AllocationPlan.Unplaced::employeeId).containsExactly(4L);
+
+        AllocationPlan move = SeatAllocator.plan(seats, employees, List.of(), AllocationPolicy.SEAT_ORDER, false, true);
+        assertThat(move.availableSeats()).isEqualTo(3);
+        assertThat(move.assignments()).extracting(Assignment::seatId).containsExactly("1", "2", "4");
+    }
+
+    @Test
+    void plansTensOfThousandsOfSeats() {
+        int seatCount = 50_000;
+        List<Seat> seats = vacantSeats(seatCount);
+        for (int i = 0; i < seatCount; i += 97) {
+            seats.set(i, new Seat(String.valueOf(i + 1), SeatStatus.RESERVED, null));
+        }
+        List<Employee> employees = new ArrayList<>();
+        for (int d = 0; d < 250; d++) {
+            employees.addAll(department("Department " + d, d * 1000L, 40 + d % 120));
+        }
+
+        long started = System.nanoTime();
+        AllocationPlan plan = SeatAllocator.plan(seats, employees, List.of(),
+                AllocationPolicy.DEPARTMENT_CONTIGUOUS, false, true);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Planned {} employees over {} seats in {} ms", employees.size(), seatCount, elapsedMillis);
+
+        assertThat(plan.unplaced()).isEmpty();
+        assertThat(plan.assignments()).hasSize(employees.size());
+        Set<String> used = new HashSet<>();
+        plan.assignments().forEach(a -> assertThat(used.add(a.seatId())).isTrue());
+    }
+
+    private static List<Seat> vacantSeats(int count) {
+        List<Seat> seats = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            seats.add(new Seat(String.valueOf(i), SeatStatus.VACANT, null));
+        }
+        return seats;
+    }
+
+    private static List<Employee> department(String name, long firstId, int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(employee(firstId + i, name, "Unassigned"));
+        }
+        return employees;
+    }
+
+    private static Employee employee(long id, String department, String seatId) {
+        Employee employee = new Employee("Employee " + id, "Analyst", department, seatId);
+        employee.setId(id);
+        return employee;
+    }
+}
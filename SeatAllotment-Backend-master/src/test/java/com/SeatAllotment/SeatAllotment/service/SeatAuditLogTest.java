@@ -0,0 +1,154 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.AuditAction;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Model.SeatAuditEntry;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatAuditRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.AuditPage;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatAuditLogTest {
+
+    private static final long EMPLOYEE = 9001L;
+    private static final long FLUSH_WAIT_MS = 10_000;
+
+    @Autowired
+    private SeatAuditLog auditLog;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SeatAuditRepository seatAuditRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        seatRepository.save(new Seat("AU1", SeatStatus.VACANT, null));
+        seatRepository.save(new Seat("AU2", SeatStatus.VACANT, null));
+    }
+
+    @Test
+    void committedClaimMoveAndReleaseArePagedNewestFirst() throws Exception {
+        LocalDateTime started = LocalDateTime.now().minusSeconds(1);
+        Employee employee = new Employee("Audited", "Engineer", "Platform", "AU1");
+        employee.setId(EMPLOYEE);
+        employeeService.addEmployee(employee);
+        employeeService.updateEmployee(EMPLOYEE, new Employee("Audited", "Engineer", "Platform", "AU2"));
+        employeeService.resetSeatByEmployeeId(EMPLOYEE);
+
+        // Claim AU1; claim AU2, release AU1 and move AU1 -> AU2; release AU2
+        awaitSize(() -> auditLog.historyOfEmployee(EMPLOYEE, null, null, null, 10).items(), 5);
+
+        AuditPage first = auditLog.historyOfSeat("AU2", null, null, null, 2);
+        assertThat(first.items()).extracting(SeatAuditEntry::getAction)
+                .containsExactly(AuditAction.RELEASED, AuditAction.MOVED);
+        assertThat(first.items().get(1).getPreviousSeatId()).isEqualTo("AU1");
+        assertThat(first.nextBefore()).isEqualTo(first.items().get(1).getId());
+
+        AuditPage second = auditLog.historyOfSeat("AU2", first.nextBefore(), null, null, 2);
+        assertThat(second.items()).extracting(SeatAuditEntry::getAction).containsExactly(AuditAction.CLAIMED);
+        assertThat(second.nextBefore()).isNull();
+
+        AuditPage history = auditLog.historyOfEmployee(EMPLOYEE, null, started, null, 10);
+        assertThat(history.items()).hasSize(5).allSatisfy(e -> assertThat(e.getEmployeeId()).isEqualTo(EMPLOYEE));
+        assertThat(history.items().get(4).getAction()).isEqualTo(AuditAction.CLAIMED);
+        assertThat(history.items().get(4).getSeatId()).isEqualTo("AU1");
+        assertThat(auditLog.historyOfEmployee(EMPLOYEE, null, null, started, 10).items()).isEmpty();
+    }
+
+    @Test
+    void keysetQueryTreatsNullBoundsAsOpen() throws Exception {
+        SeatAuditLog writer = new SeatAuditLog(dataSource, mock(SeatMetrics.class), 16, 16, 50);
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.onSeatChanged(SeatChangedEvent.occupied("KS1", (long) i));
+        }
+        writer.shutdown();
+
+        List<SeatAuditEntry> all = seatAuditRepository.findBySeat("KS1", null, null, null, PageRequest.of(0, 10));
+        assertThat(all).extracting(SeatAuditEntry::getEmployeeId).containsExactly(2L, 1L, 0L);
+        assertThat(seatAuditRepository.findBySeat("KS1", all.get(0).getId(), null, null, PageRequest.of(0, 10)))
+                .extracting(SeatAuditEntry::getEmployeeId).containsExactly(1L, 0L);
+        LocalDateTime later = LocalDateTime.now().plusHours(1);
+        assertThat(seatAuditRepository.findBySeat("KS1", null, later, null, PageRequest.of(0, 10))).isEmpty();
+        assertThat(seatAuditRepository.findBySeat("KS1", null, null, later, PageRequest.of(0, 10))).hasSize(3);
+    }
+
+    @Test
+    void fullBatchesAreWrittenWithoutWaitingForTheFlushInterval() throws Exception {
+        // A one-minute flush interval, so only the batch size can close a batch during the test
+        SeatAuditLog writer = new SeatAuditLog(dataSource, mock(SeatMetrics.class), 16, 3, 60_000);
+        for (int i = 0; i < 7; i++) {
+            writer.onSeatChanged(SeatChangedEvent.occupied("BT1", (long) i));
+        }
+        writer.start();
+
+        awaitSize(() -> seatAuditRepository.findBySeat("BT1", null, null, null, PageRequest.of(0, 10)), 6);
+        Thread.sleep(300);
+        assertThat(seatAuditRepository.findBySeat("BT1", null, null, null, PageRequest.of(0, 10))).hasSize(6);
+
+        writer.shutdown();
+        assertThat(seatAuditRepository.findBySeat("BT1", null, null, null, PageRequest.of(0, 10))).hasSize(7);
+    }
+
+    @Test
+    void fullBufferDropsNewEntriesAndShutdownDrainsTheRest() throws Exception {
+        SeatMetrics metrics = mock(SeatMetrics.class);
+        SeatAuditLog writer = new SeatAuditLog(dataSource, metrics, 4, 100, 60_000);
+        // The writer is not started yet, so nothing leaves the buffer
+        for (int i = 0; i < 6; i++) {
+            writer.onSeatChanged(SeatChangedEvent.vacated("DR1", (long) i));
+        }
+        verify(metrics, times(2)).recordAuditDropped(1);
+
+        long stopping = System.nanoTime();
+        writer.start();
+        writer.shutdown();
+
+        assertThat(System.nanoTime() - stopping).isLessThan(5_000_000_000L);
+        assertThat(seatAuditRepository.findBySeat("DR1", null, null, null, PageRequest.of(0, 10)))
+                .extracting(SeatAuditEntry::getEmployeeId)
+                .containsExactly(3L, 2L, 1L, 0L);
+    }
+
+    private static <T> void awaitSize(Supplier<List<T>> read, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + FLUSH_WAIT_MS;
+        while (read.get().size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(read.get()).hasSize(size);
+    }
+}
@@ -0,0 +1,105 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatBitmapTest {
+
+    private static final int SEATS = 101;
+
+    private SeatBitmap bitmap;
+
+    @BeforeEach
+    void load() {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = SEATS; i >= 1; i--) {
+            SeatStatus status = i % 3 == 0 ? SeatStatus.OCCUPIED : i % 3 == 1 ? SeatStatus.VACANT : SeatStatus.RESERVED;
+            seats.add(new Seat("A-" + i, status, status == SeatStatus.OCCUPIED ? (long) i : null));
+        }
+        SeatRepository repository = mock(SeatRepository.class);
+        when(repository.findAll()).thenReturn(seats);
+        bitmap = new SeatBitmap(repository, 8);
+        bitmap.reload();
+    }
+
+    @Test
+    void fullFrameHoldsEverySeatInIdOrder() {
+        SeatBitmap.Frame frame = bitmap.full();
+        ByteBuffer header = ByteBuffer.wrap(frame.bytes());
+
+        assertThat(header.get(4)).isEqualTo(SeatBitmap.FORMAT);
+        assertThat(header.get(5)).isEqualTo(SeatBitmap.FULL);
+        assertThat(header.getLong(8)).isEqualTo(frame.epoch());
+        assertThat(header.getLong(16)).isEqualTo(frame.version());
+        assertThat(header.getInt(24)).isEqualTo(SEATS);
+        assertThat(frame.bytes()).hasSize(SeatBitmap.HEADER_SIZE + (SEATS + 3) / 4);
+
+        List<String> ids = bitmap.seatIds();
+        assertThat(ids).hasSize(SEATS).startsWith("A-1", "A-2").endsWith("A-101");
+        assertThat(SeatBitmap.statusAt(frame.bytes(), SeatBitmap.HEADER_SIZE, 0)).isEqualTo(SeatStatus.VACANT);
+        assertThat(SeatBitmap.statusAt(frame.bytes(), SeatBitmap.HEADER_SIZE, 1)).isEqualTo(SeatStatus.RESERVED);
+        assertThat(SeatBitmap.statusAt(frame.bytes(), SeatBitmap.HEADER_SIZE, 2)).isEqualTo(SeatStatus.OCCUPIED);
+        assertThat(SeatBitmap.statusAt(frame.bytes(), SeatBitmap.HEADER_SIZE, 100)).isEqualTo(SeatStatus.RESERVED);
+
+        assertThat(bitmap.full().bytes()).isSameAs(frame.bytes());
+    }
+
+    @Test
+    void deltaCarriesOnlyTheLatestStatusOfChangedSeats() {
+        long version = bitmap.full().version();
+        bitmap.onSeatChanged(SeatChangedEvent.occupied("A-1", 7L));
+        bitmap.onSeatChanged(SeatChangedEvent.vacated("A-3", 3L));
+        bitmap.onSeatChanged(SeatChangedEvent.vacated("A-1", 7L));
+
+        SeatBitmap.Frame delta = bitmap.since(version);
+        ByteBuffer buffer = ByteBuffer.wrap(delta.bytes());
+
+        assertThat(delta.version()).isEqualTo(version + 3);
+        assertThat(buffer.get(5)).isEqualTo(SeatBitmap.DELTA);
+        buffer.position(SeatBitmap.HEADER_SIZE);
+        assertThat(buffer.getInt()).isEqualTo(2);
+        assertThat(buffer.getInt()).isEqualTo(2);
+        assertThat(buffer.get()).isEqualTo((byte) SeatStatus.VACANT.ordinal());
+        assertThat(buffer.getInt()).isEqualTo(0);
+        assertThat(buffer.get()).isEqualTo((byte) SeatStatus.VACANT.ordinal());
+
+        SeatBitmap.Frame full = bitmap.full();
+        assertThat(SeatBitmap.statusAt(full.bytes(), SeatBitmap.HEADER_SIZE, 2)).isEqualTo(SeatStatus.VACANT);
+    }
+
+    @Test
+    void versionsOutsideTheHistoryGetAFullFrame() {
+        long version = bitmap.full().version();
+        for (int i = 1; i <= 9; i++) {
+            bitmap.onSeatChanged(SeatChangedEvent.vacated("A-" + (i % 2 + 1), null));
+        }
+
+        assertThat(bitmap.since(version).bytes()[5]).isEqualTo(SeatBitmap.FULL);
+        assertThat(bitmap.since(version + 1).bytes()[5]).isEqualTo(SeatBitmap.DELTA);
+        assertThat(bitmap.since(bitmap.epoch() - 1).bytes()[5]).isEqualTo(SeatBitmap.FULL);
+    }
+
+    @Test
+    void newSeatsAreAppendedWithoutChangingTheEpoch() {
+        long epoch = bitmap.epoch();
+        bitmap.onSeatChanged(SeatChangedEvent.occupied("Z-1", 1L));
+
+        SeatBitmap.Frame frame = bitmap.full();
+        assertThat(frame.epoch()).isEqualTo(epoch);
+        assertThat(ByteBuffer.wrap(frame.bytes()).getInt(24)).isEqualTo(SEATS + 1);
+        assertThat(bitmap.seatIds()).endsWith("Z-1");
+        assertThat(SeatBitmap.statusAt(frame.bytes(), SeatBitmap.HEADER_SIZE, SEATS)).isEqualTo(SeatStatus.OCCUPIED);
+    }
+}
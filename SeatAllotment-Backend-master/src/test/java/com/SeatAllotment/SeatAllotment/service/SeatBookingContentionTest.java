@@ -0,0 +1,152 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatClaimResult;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatBookingRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.BookingRequest;
+import com.SeatAllotment.SeatAllotment.exception.BookingConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatBookingContentionTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS = 64;
+    private static final LocalDate DAY = LocalDate.now().plusDays(7);
+
+    @Autowired
+    private SeatBookingService bookingService;
+
+    @Autowired
+    private SeatBookingIndex bookingIndex;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private SeatBookingRepository bookingRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void seed() {
+        bookingRepository.deleteAll();
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        seatRepository.save(new Seat("H1", SeatStatus.VACANT, null));
+        seatRepository.save(new Seat("H2", SeatStatus.VACANT, null));
+        seatRepository.save(new Seat("H3", SeatStatus.OCCUPIED, 1L));
+        for (long id = 1; id <= ATTEMPTS; id++) {
+            Employee employee = new Employee("Employee " + id, "Engineer", "Platform", "Unassigned");
+            employee.setId(id);
+            employeeRepository.save(employee);
+        }
+        bookingIndex.reload();
+        occupancyIndex.reload();
+    }
+
+    @Test
+    void concurrentOverlappingBookingsOfOneSeatAdmitExactlyOne() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < ATTEMPTS; i++) {
+                long employeeId = i + 1;
+                // Every window contains 12:00-13:00, so any two of them overlap
+                LocalDateTime from = at(8 + i % 4);
+                LocalDateTime to = at(13 + i % 5);
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.book(new BookingRequest("H1", employeeId, from, to));
+                        return true;
+                    } catch (BookingConflictException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int booked = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    booked++;
+                }
+            }
+            assertThat(booked).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(bookingRepository.count()).isEqualTo(1);
+        assertThat(bookingIndex.isSeatFree("H1", at(12), at(13))).isFalse();
+        assertThat(bookingService.getBookingAt("H1", at(12))).isPresent();
+    }
+
+    @Test
+    void adjacentBookingsAndFreeSeatQueries() {
+        bookingService.book(new BookingRequest("H1", 1L, at(9), at(12)));
+        bookingService.book(new BookingRequest("H1", 2L, at(12), at(17)));
+
+        assertThatThrownBy(() -> bookingService.book(new BookingRequest("H2", 1L, at(11), at(14))))
+                .isInstanceOf(BookingConflictException.class);
+        assertThatThrownBy(() -> bookingService.book(new BookingRequest("H3", 3L, at(9), at(10))))
+                .isInstanceOf(BookingConflictException.class);
+
+        assertThat(bookingService.getFreeSeats(at(9), at(17))).containsExactly("H2");
+        assertThat(bookingService.getFreeSeats(at(17), at(18))).containsExactly("H1", "H2");
+        assertThat(bookingService.getBookingAt("H1", at(12))).get()
+                .extracting(booking -> booking.getEmployeeId()).isEqualTo(2L);
+        assertThat(bookingService.getBookingAt("H1", at(8))).isEmpty();
+    }
+
+    @Test
+    void seatsWithBookingsThatHaveNotEndedCannotBeClaimedPermanently() {
+        bookingService.book(new BookingRequest("H1", 1L, at(9), at(12)));
+
+        assertThatThrownBy(() -> seatService.claimSeat("H1", 2L))
+                .isInstanceOf(BookingConflictException.class)
+                .hasMessageContaining("H1");
+        assertThat(seatRepository.findById("H1")).get().extracting(Seat::getStatus).isEqualTo(SeatStatus.VACANT);
+        assertThat(seatService.seatsWithUpcomingBookings(List.of("H1", "H2"))).containsExactly("H1");
+        assertThat(seatService.seatsWithUpcomingBookings()).containsExactly("H1");
+
+        // A seat without bookings is claimed as before, and then can no longer be booked
+        assertThat(seatService.claimSeat("H2", 2L)).isEqualTo(SeatClaimResult.CLAIMED);
+        assertThatThrownBy(() -> bookingService.book(new BookingRequest("H2", 3L, at(9), at(10))))
+                .isInstanceOf(BookingConflictException.class);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return LocalDateTime.of(DAY, LocalTime.of(hour, 0));
+    }
+}
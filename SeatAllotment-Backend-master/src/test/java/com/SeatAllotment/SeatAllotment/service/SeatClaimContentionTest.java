@@ -0,0 +1,115 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatClaimContentionTest {
+
+    private static final int SEATS = 8;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS = 400;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void seedSeats() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        for (int i = 1; i <= SEATS; i++) {
+            seatRepository.save(new Seat(String.valueOf(i), SeatStatus.VACANT, null));
+        }
+    }
+
+    @Test
+    void concurrentAddsNeverDoubleAssignASeat() throws Exception {
+        AtomicInteger lost = new AtomicInteger();
+        race(attempt -> {
+            try {
+                employeeService.addEmployee(employee(attempt));
+                return true;
+            } catch (SeatUnavailableException e) {
+                lost.incrementAndGet();
+                return false;
+            }
+        });
+
+        assertThat(lost.get()).isEqualTo(ATTEMPTS - SEATS);
+        assertOneOccupantPerSeat();
+    }
+
+    private void race(Function<Integer, Boolean> attempt) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < ATTEMPTS; i++) {
+                int n = i;
+                Callable<Boolean> task = () -> {
+                    start.await();
+                    return attempt.apply(n);
+                };
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+            int claimed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    claimed++;
+                }
+            }
+            assertThat(claimed).isEqualTo(SEATS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void assertOneOccupantPerSeat() {
+        Map<Long, Employee> employees = employeeRepository.findAll().stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        assertThat(employees).hasSize(SEATS);
+
+        for (Seat seat : seatRepository.findAll()) {
+            assertThat(seat.getStatus()).isEqualTo(SeatStatus.OCCUPIED);
+            assertThat(employees.get(seat.getEmployeeId()).getSeatId()).isEqualTo(seat.getId());
+        }
+    }
+
+    private static Employee employee(int attempt) {
+        Employee employee = new Employee("Employee " + attempt, "Engineer", "Platform",
+                String.valueOf(attempt % SEATS + 1));
+        employee.setId(1000L + attempt);
+        return employee;
+    }
+}
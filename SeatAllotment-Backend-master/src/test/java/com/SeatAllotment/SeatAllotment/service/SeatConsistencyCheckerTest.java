@@ -0,0 +1,102 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.ConsistencyIssueType;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.dto.ConsistencyIssue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SeatConsistencyCheckerTest {
+
+    private final Map<String, Seat> seats = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<Long, Employee> employees = new HashMap<>();
+
+    @Test
+    void consistentAssignmentsProduceNoIssues() {
+        seat("1", SeatStatus.OCCUPIED, 1L);
+        seat("2", SeatStatus.VACANT, null);
+        employee(1L, "1");
+        employee(2L, Employee.WORK_FROM_HOME);
+
+        assertThat(inspect(List.of("1", "2"), List.of(1L, 2L), false)).isEmpty();
+    }
+
+    @Test
+    void reportOnlyLeavesRowsUntouched() {
+        seat("1", SeatStatus.OCCUPIED, 99L);
+
+        List<ConsistencyIssue> issues = inspect(List.of("1"), List.of(99L), false);
+
+        assertThat(issues).extracting(ConsistencyIssue::type).containsExactly(ConsistencyIssueType.ORPHAN_SEAT);
+        assertThat(seats.get("1").getEmployeeId()).isEqualTo(99L);
+    }
+
+    @Test
+    void seatsTableWinsEveryDisagreement() {
+        seat("1", SeatStatus.OCCUPIED, 1L);
+        seat("2", SeatStatus.VACANT, 1L);        // double booking of employee 1, wrong status
+        seat("3", SeatStatus.OCCUPIED, null);    // occupied without an occupant
+        seat("4", SeatStatus.VACANT, null);
+        seat("5", SeatStatus.OCCUPIED, 3L);
+        employee(1L, "2");                       // keeps seat 2, the one its own pointer names
+        employee(2L, "4");                       // points at a vacant seat: claimed for it
+        employee(3L, Employee.UNASSIGNED);       // pointer disagrees with seat 5
+        employee(4L, "5");                       // points at someone else's seat
+        employee(5L, "404");                     // points at a seat that does not exist
+
+        List<Object> events = new ArrayList<>();
+        List<ConsistencyIssue> issues = SeatConsistencyChecker.inspect(List.of("1", "2", "3", "4", "5"), seats,
+                List.of(1L, 2L, 3L, 4L, 5L), employees, true, events);
+
+        assertThat(issues).extracting(ConsistencyIssue::type, ConsistencyIssue::seatId, ConsistencyIssue::employeeId)
+                .containsExactly(
+                        tuple(ConsistencyIssueType.STATUS_MISMATCH, "3", null),
+                        tuple(ConsistencyIssueType.DOUBLE_BOOKING, "1", 1L),
+                        tuple(ConsistencyIssueType.STATUS_MISMATCH, "2", 1L),
+                        tuple(ConsistencyIssueType.POINTER_MISMATCH, "4", 2L),
+                        tuple(ConsistencyIssueType.POINTER_MISMATCH, "5", 3L),
+                        tuple(ConsistencyIssueType.POINTER_MISMATCH, "5", 4L),
+                        tuple(ConsistencyIssueType.ORPHAN_EMPLOYEE_SEAT, "404", 5L));
+        assertThat(issues).allMatch(ConsistencyIssue::repaired);
+
+        assertHeld("1", null);
+        assertHeld("2", 1L);
+        assertHeld("3", null);
+        assertHeld("4", 2L);
+        assertHeld("5", 3L);
+        assertThat(employees.get(3L).getSeatId()).isEqualTo("5");
+        assertThat(employees.get(4L).getSeatId()).isEqualTo(Employee.UNASSIGNED);
+        assertThat(employees.get(5L).getSeatId()).isEqualTo(Employee.UNASSIGNED);
+        assertThat(events).isNotEmpty();
+    }
+
+    private List<ConsistencyIssue> inspect(List<String> seatIds, List<Long> employeeIds, boolean repair) {
+        return SeatConsistencyChecker.inspect(seatIds, seats, employeeIds, employees, repair, new ArrayList<>());
+    }
+
+    private void seat(String id, SeatStatus status, Long employeeId) {
+        seats.put(id, new Seat(id, status, employeeId));
+    }
+
+    private void employee(Long id, String seatId) {
+        Employee employee = new Employee("Employee " + id, "Engineer", "Platform", seatId);
+        employee.setId(id);
+        employees.put(id, employee);
+    }
+
+    private void assertHeld(String seatId, Long employeeId) {
+        Seat seat = seats.get(seatId);
+        assertThat(seat.getEmployeeId()).isEqualTo(employeeId);
+        assertThat(seat.getStatus()).isEqualTo(employeeId != null ? SeatStatus.OCCUPIED : SeatStatus.VACANT);
+    }
+}
@@ -0,0 +1,222 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Controller.SeatController;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.dto.SeatStreamEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Subscribes through {@code GET /seats/stream} on a standalone controller. The sender tasks are queued
+ * instead of run, so the test decides when (and whether) a subscriber's events are written.
+ */
+class SeatEventStreamTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int HISTORY_SIZE = 8;
+
+    private final Deque<Runnable> sends = new ArrayDeque<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SeatEventStream stream;
+    private MockMvc mockMvc;
+
+    record Received(String name, SeatStreamEvent event) {
+    }
+
+    @AfterEach
+    void stop() {
+        stream.shutdown();
+    }
+
+    @Test
+    void freshSubscribersGetChangesFromNowOnInOrder() throws Exception {
+        start(BUFFER_SIZE, HISTORY_SIZE);
+        long before = publish("A-1");
+
+        MockHttpServletResponse client = subscribe(null);
+        publish("A-2");
+        publish("A-3");
+        deliver();
+
+        assertThat(received(client)).extracting(Received::name).containsExactly("seat", "seat");
+        assertThat(changes(client)).extracting(SeatStreamEvent::seatId).containsExactly("A-2", "A-3");
+        assertThat(changes(client)).extracting(SeatStreamEvent::sequence).containsExactly(before + 1, before + 2);
+        assertThat(changes(client).get(0).status()).isEqualTo(SeatStatus.OCCUPIED);
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resumingReplaysTheMissedChangesBeforeNewOnes() throws Exception {
+        start(BUFFER_SIZE, HISTORY_SIZE);
+        long seen = publish("B-1");
+        publish("B-2");
+        long latest = publish("B-3");
+
+        MockHttpServletResponse resumed = subscribe(seen);
+        MockHttpServletResponse upToDate = subscribe(latest);
+        publish("B-4");
+        deliver();
+
+        assertThat(received(resumed)).extracting(Received::name).containsOnly("seat");
+        assertThat(changes(resumed)).extracting(SeatStreamEvent::seatId).containsExactly("B-2", "B-3", "B-4");
+        assertThat(changes(upToDate)).extracting(SeatStreamEvent::seatId).containsExactly("B-4");
+    }
+
+    @Test
+    void gapsTheStreamCannotReplayGetAReset() throws Exception {
+        start(BUFFER_SIZE, HISTORY_SIZE);
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 0; i < HISTORY_SIZE + 2; i++) {
+            sequences.add(publish("C-" + i));
+        }
+        long latest = sequences.get(sequences.size() - 1);
+
+        // Older than the history, more than fits the buffer, from an earlier run and from a later one
+        MockHttpServletResponse tooOld = subscribe(sequences.get(0));
+        MockHttpServletResponse tooMany = subscribe(latest - BUFFER_SIZE - 1);
+        MockHttpServletResponse earlierRun = subscribe(42L);
+        MockHttpServletResponse laterRun = subscribe(latest + 1);
+        MockHttpServletResponse withinBuffer = subscribe(latest - BUFFER_SIZE);
+        // The replay fills the buffer, so it has to be written before anything else is published
+        deliver();
+        long next = publish("C-next");
+        deliver();
+
+        for (MockHttpServletResponse client : List.of(tooOld, tooMany, earlierRun, laterRun)) {
+            assertThat(received(client)).extracting(Received::name).containsExactly("reset", "seat");
+            assertThat(changes(client)).extracting(SeatStreamEvent::sequence).containsExactly(next);
+        }
+        assertThat(received(withinBuffer)).extracting(Received::name).doesNotContain("reset");
+        assertThat(changes(withinBuffer)).extracting(SeatStreamEvent::sequence)
+                .containsExactly(latest - 3, latest - 2, latest - 1, latest, next);
+    }
+
+    @Test
+    void theHistoryRingKeepsTheNewestChanges() throws Exception {
+        start(4 * HISTORY_SIZE, HISTORY_SIZE);
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 0; i < 2 * HISTORY_SIZE + 3; i++) {
+            sequences.add(publish("D-" + i));
+        }
+        int last = sequences.size() - 1;
+
+        MockHttpServletResponse wholeHistory = subscribe(sequences.get(last - HISTORY_SIZE));
+        MockHttpServletResponse pastTheHistory = subscribe(sequences.get(last - HISTORY_SIZE - 1));
+        deliver();
+
+        assertThat(changes(wholeHistory)).extracting(SeatStreamEvent::seatId)
+                .containsExactlyElementsOf(seatIds("D-", last - HISTORY_SIZE + 1, last));
+        assertThat(received(pastTheHistory)).extracting(Received::name).containsExactly("reset");
+    }
+
+    @Test
+    void aSubscriberThatFallsBehindIsDroppedWithoutHoldingUpTheOthers() throws Exception {
+        start(BUFFER_SIZE, HISTORY_SIZE);
+        long subscribedAt = publish("E-start");
+        MockHttpServletResponse slow = subscribe(null);
+        sends.poll(); // its sender never runs
+        MockHttpServletResponse fast = subscribe(null);
+
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            publish("E-" + i);
+            deliver();
+        }
+        assertThat(stream.subscriberCount()).isEqualTo(2);
+
+        publish("E-" + BUFFER_SIZE);
+        deliver();
+
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+        assertThat(changes(fast)).hasSize(BUFFER_SIZE + 1);
+        assertThat(received(slow)).isEmpty();
+
+        // Coming back for everything it missed is more than the buffer holds
+        MockHttpServletResponse reconnected = subscribe(subscribedAt);
+        deliver();
+        assertThat(received(reconnected)).extracting(Received::name).containsExactly("reset");
+    }
+
+    private void start(int bufferSize, int historySize) {
+        stream = new SeatEventStream(bufferSize, historySize, 60_000, false);
+        ExecutorService senders = mock(ExecutorService.class);
+        doAnswer(invocation -> sends.add(invocation.getArgument(0))).when(senders).execute(any(Runnable.class));
+        ReflectionTestUtils.setField(stream, "senders", senders);
+        SeatController controller = new SeatController();
+        ReflectionTestUtils.setField(controller, "seatEventStream", stream);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    /** Publishes an occupied seat and returns the sequence it was given. */
+    private long publish(String seatId) {
+        stream.onSeatChanged(SeatChangedEvent.occupied(seatId, 1L));
+        return (long) ReflectionTestUtils.getField(stream, "sequence");
+    }
+
+    private MockHttpServletResponse subscribe(Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder subscription = get("/seats/stream");
+        if (lastEventId != null) {
+            subscription.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(subscription).andExpect(request().asyncStarted()).andReturn().getResponse();
+    }
+
+    private void deliver() {
+        Runnable send;
+        while ((send = sends.poll()) != null) {
+            send.run();
+        }
+    }
+
+    private List<Received> received(MockHttpServletResponse response) throws Exception {
+        List<Received> received = new ArrayList<>();
+        for (String block : response.getContentAsString().split("\n\n")) {
+            String name = null;
+            String data = null;
+            for (String line : block.split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("data:")) {
+                    data = line.substring("data:".length());
+                }
+            }
+            if (name != null) {
+                SeatStreamEvent event = "seat".equals(name) ? objectMapper.readValue(data, SeatStreamEvent.class) : null;
+                received.add(new Received(name, event));
+            }
+        }
+        return received;
+    }
+
+    private List<SeatStreamEvent> changes(MockHttpServletResponse response) throws Exception {
+        return received(response).stream().map(Received::event).filter(Objects::nonNull).toList();
+    }
+
+    private static List<String> seatIds(String prefix, int from, int to) {
+        List<String> ids = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            ids.add(prefix + i);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,108 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatClaimResult;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport;
+import com.SeatAllotment.SeatAllotment.dto.BulkImportReport.RowResult;
+import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatMetricsTest {
+
+    private MeterRegistry registry;
+    private SeatOccupancyIndex occupancyIndex;
+    private SeatMetrics metrics;
+
+    @BeforeEach
+    void register() {
+        registry = new SimpleMeterRegistry();
+        occupancyIndex = mock(SeatOccupancyIndex.class);
+        metrics = new SeatMetrics();
+        ReflectionTestUtils.setField(metrics, "registry", registry);
+        ReflectionTestUtils.setField(metrics, "occupancyIndex", occupancyIndex);
+        ReflectionTestUtils.setField(metrics, "dataSource", mock(DataSource.class));
+        metrics.register();
+    }
+
+    @Test
+    void claimsAreTimedPerResult() {
+        metrics.recordClaim(metrics.start(), SeatClaimResult.CLAIMED);
+        metrics.recordClaim(metrics.start(), SeatClaimResult.CLAIMED);
+        metrics.recordClaim(metrics.start(), SeatClaimResult.UNAVAILABLE);
+        metrics.recordClaim(metrics.start(), SeatClaimResult.NOT_FOUND);
+
+        assertThat(claims("claimed")).isEqualTo(2);
+        assertThat(claims("unavailable")).isEqualTo(1);
+        assertThat(claims("not_found")).isEqualTo(1);
+    }
+
+    @Test
+    void employeeWritesAreTaggedWithOperationAndOutcome() {
+        metrics.timeEmployeeWrite(SeatMetrics.ADD, () -> ResponseEntity.ok("created"));
+        metrics.timeEmployeeWrite(SeatMetrics.UPDATE, () -> ResponseEntity.notFound().build());
+        assertThatThrownBy(() -> metrics.timeEmployeeWrite(SeatMetrics.DELETE, () -> {
+            throw new SeatUnavailableException("Seat 1 is taken");
+        })).isInstanceOf(SeatUnavailableException.class);
+
+        assertThat(writes(SeatMetrics.ADD, "success")).isEqualTo(1);
+        assertThat(writes(SeatMetrics.UPDATE, "rejected")).isEqualTo(1);
+        assertThat(writes(SeatMetrics.DELETE, "SeatUnavailableException")).isEqualTo(1);
+        assertThat(registry.find("employee.write").timers()).hasSize(3);
+    }
+
+    @Test
+    void importRowsAreCountedPerStatus() {
+        metrics.recordImport(metrics.start(), BulkImportReport.of(List.of(
+                RowResult.created(1, 1L, "1"),
+                RowResult.created(2, 2L, "2"),
+                RowResult.failed(3, 3L, "2", "Seat 2 is already occupied"))));
+
+        assertThat(registry.get("employee.import.rows").tag("status", "created").counter().count()).isEqualTo(2);
+        assertThat(registry.get("employee.import.rows").tag("status", "failed").counter().count()).isEqualTo(1);
+        assertThat(registry.get("employee.import").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void seatGaugesReadTheIndexPerStatus() {
+        assertThat(seats(SeatStatus.VACANT)).isNaN();
+
+        when(occupancyIndex.isLoaded()).thenReturn(true);
+        when(occupancyIndex.count(SeatStatus.VACANT)).thenReturn(7);
+        when(occupancyIndex.count(SeatStatus.OCCUPIED)).thenReturn(3);
+
+        assertThat(seats(SeatStatus.VACANT)).isEqualTo(7);
+        assertThat(seats(SeatStatus.OCCUPIED)).isEqualTo(3);
+        assertThat(seats(SeatStatus.RESERVED)).isZero();
+        // Nothing routes reads or limits connections behind a plain data source
+        assertThat(registry.find("db.replica.lag").meter()).isNull();
+        assertThat(registry.find("db.admission.waiting").meter()).isNull();
+    }
+
+    private long claims(String result) {
+        Timer timer = registry.find("seat.claim").tag("result", result).timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private long writes(String operation, String outcome) {
+        Timer timer = registry.find("employee.write").tags("operation", operation, "outcome", outcome).timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private double seats(SeatStatus status) {
+        return registry.get("seats").tag("status", status.name().toLowerCase()).gauge().value();
+    }
+}
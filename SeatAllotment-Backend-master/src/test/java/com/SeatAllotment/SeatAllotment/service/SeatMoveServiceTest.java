@@ -0,0 +1,93 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveRequest;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveRequest.Move;
+import com.SeatAllotment.SeatAllotment.dto.SeatMoveResult;
+import com.SeatAllotment.SeatAllotment.exception.SeatUnavailableException;
+import com.SeatAllotment.SeatAllotment.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatMoveServiceTest {
+
+    @Autowired
+    private SeatMoveService seatMoveService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        for (long id = 1; id <= 4; id++) {
+            String seatId = "M" + id;
+            seatRepository.save(new Seat(seatId, SeatStatus.OCCUPIED, id));
+            Employee employee = new Employee("Employee " + id, "Engineer", "Platform", seatId);
+            employee.setId(id);
+            employeeRepository.save(employee);
+        }
+        seatRepository.save(new Seat("M5", SeatStatus.VACANT, null));
+    }
+
+    @Test
+    void cycleAndChainAreAppliedTogether() {
+        // 1 -> 2 -> 3 -> 1 is a cycle; 4 moves to the vacant M5 and leaves M4 empty
+        SeatMoveResult result = seatMoveService.move(new SeatMoveRequest(List.of(
+                new Move(1L, "M2"), new Move(2L, "M3"), new Move(3L, "M1"), new Move(4L, "M5"))));
+
+        assertThat(result.vacatedSeats()).containsExactly("M4");
+        assertHolds("M1", 3L);
+        assertHolds("M2", 1L);
+        assertHolds("M3", 2L);
+        assertHolds("M5", 4L);
+        assertThat(seatRepository.findById("M4").orElseThrow().getStatus()).isEqualTo(SeatStatus.VACANT);
+    }
+
+    @Test
+    void targetHeldByOutsiderRollsBackEveryMove() {
+        assertThatThrownBy(() -> seatMoveService.move(new SeatMoveRequest(List.of(
+                new Move(1L, "M5"), new Move(2L, "M3")))))
+                .isInstanceOf(SeatUnavailableException.class);
+
+        assertHolds("M1", 1L);
+        assertHolds("M2", 2L);
+        assertHolds("M3", 3L);
+        assertThat(seatRepository.findById("M5").orElseThrow().getStatus()).isEqualTo(SeatStatus.VACANT);
+    }
+
+    @Test
+    void duplicateTargetsAreRejected() {
+        assertThatThrownBy(() -> SeatMoveService.validate(new SeatMoveRequest(List.of(
+                new Move(1L, "M5"), new Move(2L, "M5")))))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> SeatMoveService.validate(new SeatMoveRequest(List.of(
+                new Move(1L, "M5"), new Move(1L, "M4")))))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private void assertHolds(String seatId, Long employeeId) {
+        Seat seat = seatRepository.findById(seatId).orElseThrow();
+        assertThat(seat.getStatus()).isEqualTo(SeatStatus.OCCUPIED);
+        assertThat(seat.getEmployeeId()).isEqualTo(employeeId);
+        assertThat(employeeRepository.findById(employeeId).orElseThrow().getSeatId()).isEqualTo(seatId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.dto.SeatPartitionSummary;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatOccupancyIndexTest {
+
+    private SeatRepository repository;
+    private SeatOccupancyIndex index;
+
+    @BeforeEach
+    void load() {
+        repository = mock(SeatRepository.class);
+        index = new SeatOccupancyIndex();
+        ReflectionTestUtils.setField(index, "seatRepository", repository);
+        when(repository.findAll()).thenReturn(List.of(
+                new Seat("F2-10", SeatStatus.VACANT, null, "HQ", "2", "B"),
+                new Seat("F1-2", SeatStatus.RESERVED, null, "HQ", "1", "A"),
+                new Seat("F2-9", SeatStatus.OCCUPIED, 3L, "HQ", "2", "A"),
+                new Seat("F1-10", SeatStatus.VACANT, null, "HQ", "1", "B"),
+                new Seat("F1-1", SeatStatus.OCCUPIED, 7L, "HQ", "1", "A")));
+        index.reload();
+    }
+
+    @Test
+    void loadKeepsSeatsPerFloorInIdOrder() {
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.allSeats()).extracting(Seat::getId).containsExactly("F1-1", "F1-2", "F1-10", "F2-9", "F2-10");
+        assertThat(index.count(SeatStatus.OCCUPIED)).isEqualTo(2);
+        assertThat(index.seatIdsWithStatus(SeatStatus.VACANT)).containsExactly("F1-10", "F2-10");
+        assertThat(index.seatsWithStatus(SeatStatus.OCCUPIED, SeatLocationFilter.of("HQ", "2", null)))
+                .extracting(Seat::getId).containsExactly("F2-9");
+        assertThat(index.seats(SeatLocationFilter.of(null, null, "A"))).extracting(Seat::getId)
+                .containsExactly("F1-1", "F1-2", "F2-9");
+
+        List<SeatPartitionSummary> partitions = index.partitions();
+        assertThat(partitions).extracting(SeatPartitionSummary::floor).containsExactly("1", "2");
+        assertThat(partitions.get(0).zones()).containsExactly("A", "B");
+        assertThat(partitions.get(0).byStatus()).containsEntry(SeatStatus.RESERVED, 1);
+
+        Seat seat = index.getSeat("F2-9").orElseThrow();
+        assertThat(seat.getEmployeeId()).isEqualTo(3L);
+        assertThat(seat.getZone()).isEqualTo("A");
+        assertThat(index.employeeAt("F1-1")).isEqualTo(OptionalLong.of(7L));
+        assertThat(index.employeeAt("F1-2")).isEmpty();
+        assertThat(index.seatOf(7L)).contains("F1-1");
+        assertThat(index.seatOf(3L)).contains("F2-9");
+        assertThat(index.seatOf(99L)).isEmpty();
+    }
+
+    @Test
+    void movesAcrossFloorsKeepTheOccupantMapCurrentInEitherOrder() {
+        index.onSeatChanged(SeatChangedEvent.occupied("F2-10", 7L));
+        index.onSeatChanged(SeatChangedEvent.vacated("F1-1", 7L));
+        assertThat(index.seatOf(7L)).contains("F2-10");
+        assertThat(index.employeeAt("F1-1")).isEmpty();
+        assertThat(index.count(SeatStatus.OCCUPIED)).isEqualTo(2);
+
+        // The release of the old seat can be applied first
+        index.onSeatChanged(SeatChangedEvent.vacated("F2-9", 3L));
+        assertThat(index.seatOf(3L)).isEmpty();
+        index.onSeatChanged(SeatChangedEvent.occupied("F1-10", 3L));
+        assertThat(index.seatOf(3L)).contains("F1-10");
+
+        // A new occupant replaces the old one on the same seat
+        index.onSeatChanged(SeatChangedEvent.occupied("F1-10", 4L));
+        assertThat(index.seatOf(4L)).contains("F1-10");
+        assertThat(index.seatOf(3L)).isEmpty();
+    }
+
+    @Test
+    void unknownSeatsJoinTheDefaultPartition() {
+        index.onSeatChanged(SeatChangedEvent.occupied("X-1", 11L));
+
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.seatOf(11L)).contains("X-1");
+        Seat seat = index.getSeat("X-1").orElseThrow();
+        assertThat(seat.getBuilding()).isEqualTo(Seat.DEFAULT_BUILDING);
+        assertThat(seat.getFloor()).isEqualTo(Seat.DEFAULT_FLOOR);
+        assertThat(seat.getStatus()).isEqualTo(SeatStatus.OCCUPIED);
+    }
+
+    @Test
+    void changesCommittedDuringAReloadAreReplayedOnTheSnapshot() {
+        List<Seat> seats = List.of(
+                new Seat("F1-1", SeatStatus.OCCUPIED, 7L, "HQ", "1", "A"),
+                new Seat("F1-2", SeatStatus.VACANT, null, "HQ", "1", "A"));
+        when(repository.findAll()).thenAnswer(invocation -> {
+            assertThat(index.isLoaded()).isFalse();
+            // Committed after the rows below were read
+            index.onSeatChanged(SeatChangedEvent.occupied("F1-2", 7L));
+            index.onSeatChanged(SeatChangedEvent.vacated("F1-1", 7L));
+            return seats;
+        });
+
+        index.reload();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.seatOf(7L)).contains("F1-2");
+        assertThat(index.seatIdsWithStatus(SeatStatus.VACANT)).containsExactly("F1-1");
+        // The reload dropped the seats and occupants it no longer found
+        assertThat(index.seatOf(3L)).isEmpty();
+        assertThat(index.getSeat("F2-9")).isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatClaimResult;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.SeatLocationFilter;
+import com.SeatAllotment.SeatAllotment.dto.SeatPartitionSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatPartitionTest {
+
+    private static final int SEATS_PER_FLOOR = 20;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private SeatBookingService bookingService;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedFloors() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        for (int i = 1; i <= SEATS_PER_FLOOR; i++) {
+            String zone = i <= SEATS_PER_FLOOR / 2 ? "A" : "B";
+            seatRepository.save(new Seat("F1-" + i, SeatStatus.VACANT, null, "HQ", "1", zone));
+            seatRepository.save(new Seat("F2-" + i, SeatStatus.VACANT, null, "HQ", "2", zone));
+            seatRepository.save(new Seat("N-" + i, SeatStatus.VACANT, null, "North", "10", null));
+        }
+        occupancyIndex.reload();
+    }
+
+    @Test
+    void readsAreScopedToTheRequestedLocation() {
+        assertThat(seatService.getAllSeats()).hasSize(3 * SEATS_PER_FLOOR);
+        assertThat(seatService.getAllSeats(SeatLocationFilter.of("HQ", "2", null)))
+                .hasSize(SEATS_PER_FLOOR)
+                .allSatisfy(seat -> assertThat(seat.getFloor()).isEqualTo("2"));
+        assertThat(seatService.getAllSeats(SeatLocationFilter.of("HQ", " ", "A")))
+                .hasSize(SEATS_PER_FLOOR)
+                .allSatisfy(seat -> assertThat(seat.getZone()).isEqualTo("A"));
+        assertThat(seatService.getVacantSeats(SeatLocationFilter.of("North", null, null)))
+                .extracting(Seat::getBuilding)
+                .containsOnly("North")
+                .hasSize(SEATS_PER_FLOOR);
+        assertThat(seatService.getLayout(SeatLocationFilter.of("HQ", "1", "B")))
+                .hasSize(SEATS_PER_FLOOR / 2);
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        assertThat(bookingService.getFreeSeats(from, from.plusHours(8), SeatLocationFilter.of("HQ", "2", "B")))
+                .hasSize(SEATS_PER_FLOOR / 2)
+                .allSatisfy(seatId -> assertThat(seatId).startsWith("F2-"));
+
+        List<SeatPartitionSummary> partitions = seatService.getPartitions();
+        assertThat(partitions).extracting(p -> p.building() + "/" + p.floor())
+                .containsExactly("HQ/1", "HQ/2", "North/10");
+        assertThat(partitions.get(0).zones()).containsExactly("A", "B");
+        assertThat(partitions.get(2).zones()).isEmpty();
+    }
+
+    @Test
+    void unfilteredVacantSeatsComeFromTheIndex() {
+        // Changed behind the index's back, so only a database read would see it
+        jdbcTemplate.update("UPDATE seats SET status = 'OCCUPIED', employee_id = 1 WHERE id = 'N-1'");
+
+        assertThat(seatService.getVacantSeats()).hasSize(3 * SEATS_PER_FLOOR)
+                .extracting(Seat::getId).contains("N-1");
+        occupancyIndex.reload();
+        assertThat(seatService.getVacantSeats()).hasSize(3 * SEATS_PER_FLOOR - 1)
+                .extracting(Seat::getId).doesNotContain("N-1");
+    }
+
+    @Test
+    void rowsInsertedWithoutALocationLandInTheDefaultOne() {
+        jdbcTemplate.update("INSERT INTO seats (id, status) VALUES ('RAW-1', 'VACANT')");
+        occupancyIndex.reload();
+
+        Seat seat = seatRepository.findById("RAW-1").orElseThrow();
+        assertThat(seat.getBuilding()).isEqualTo(Seat.DEFAULT_BUILDING);
+        assertThat(seat.getFloor()).isEqualTo(Seat.DEFAULT_FLOOR);
+        assertThat(seatService.getAllSeats(SeatLocationFilter.of(Seat.DEFAULT_BUILDING, Seat.DEFAULT_FLOOR, null)))
+                .extracting(Seat::getId).contains("RAW-1");
+    }
+
+    @Test
+    void concurrentClaimsOnDifferentFloorsAllLandInTheirPartition() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SeatClaimResult>> results = new ArrayList<>();
+        try {
+            for (int i = 1; i <= SEATS_PER_FLOOR; i++) {
+                for (String prefix : List.of("F1-", "F2-", "N-")) {
+                    String seatId = prefix + i;
+                    long employeeId = results.size() + 1;
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        return seatService.claimSeat(seatId, employeeId);
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<SeatClaimResult> result : results) {
+                assertThat(result.get()).isEqualTo(SeatClaimResult.CLAIMED);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(occupancyIndex.count(SeatStatus.OCCUPIED)).isEqualTo(3 * SEATS_PER_FLOOR);
+        assertThat(occupancyIndex.seats(SeatLocationFilter.of("HQ", "2", null)))
+                .allSatisfy(seat -> assertThat(seat.getStatus()).isEqualTo(SeatStatus.OCCUPIED));
+        assertThat(seatService.getPartitions())
+                .allSatisfy(p -> assertThat(p.byStatus().get(SeatStatus.OCCUPIED)).isEqualTo(SEATS_PER_FLOOR));
+    }
+}
@@ -0,0 +1,197 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Enum.SeatAssignment;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import com.SeatAllotment.SeatAllotment.dto.EmployeeSummary;
+import com.SeatAllotment.SeatAllotment.dto.SeatStats;
+import com.SeatAllotment.SeatAllotment.event.EmployeeChangedEvent;
+import com.SeatAllotment.SeatAllotment.event.SeatChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatStatsIndexTest {
+
+    private SeatRepository seatRepository;
+    private EmployeeRepository employeeRepository;
+    private SeatMetrics seatMetrics;
+    private SeatStatsIndex index;
+
+    @BeforeEach
+    void load() {
+        seatRepository = mock(SeatRepository.class);
+        employeeRepository = mock(EmployeeRepository.class);
+        seatMetrics = mock(SeatMetrics.class);
+        index = new SeatStatsIndex();
+        ReflectionTestUtils.setField(index, "seatRepository", seatRepository);
+        ReflectionTestUtils.setField(index, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(index, "seatMetrics", seatMetrics);
+
+        database(List.of(
+                        new Seat("A-1", SeatStatus.VACANT, null),
+                        new Seat("A-2", SeatStatus.OCCUPIED, 1L),
+                        new Seat("B-1", SeatStatus.RESERVED, null),
+                        new Seat("7", SeatStatus.VACANT, null)),
+                List.of(
+                        new EmployeeSummary(1L, "One", "Engineer", "Platform", "A-2"),
+                        new EmployeeSummary(2L, "Two", "Analyst", "Data", Employee.WORK_FROM_HOME),
+                        new EmployeeSummary(3L, "Three", "Intern", "  ", Employee.UNASSIGNED)));
+        index.reconcile();
+    }
+
+    @Test
+    void firstReconcileLoadsTheDatabase() {
+        SeatStats stats = index.snapshot();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(stats.totalSeats()).isEqualTo(4);
+        assertThat(stats.totalEmployees()).isEqualTo(3);
+        assertThat(stats.byStatus()).containsOnly(entry(SeatStatus.VACANT, 2L), entry(SeatStatus.OCCUPIED, 1L),
+                entry(SeatStatus.RESERVED, 1L));
+        assertThat(stats.byPrefix()).containsOnlyKeys("A", "B", "(none)");
+        assertThat(stats.byPrefix().get("A")).containsEntry(SeatStatus.VACANT, 1L).containsEntry(SeatStatus.OCCUPIED, 1L);
+        assertThat(stats.byPrefix().get("(none)")).containsEntry(SeatStatus.VACANT, 1L);
+        assertThat(stats.byFloor()).containsOnlyKeys(Seat.DEFAULT_BUILDING);
+        assertThat(stats.byFloor().get(Seat.DEFAULT_BUILDING).get(Seat.DEFAULT_FLOOR))
+                .containsEntry(SeatStatus.VACANT, 2L).containsEntry(SeatStatus.RESERVED, 1L);
+        assertThat(stats.byDepartment()).containsOnlyKeys("Data", "Platform", "(none)");
+        assertThat(stats.byDepartment().get("Platform")).containsEntry(SeatAssignment.ASSIGNED, 1L);
+        assertThat(stats.byDepartment().get("Data")).containsEntry(SeatAssignment.WORK_FROM_HOME, 1L);
+        assertThat(stats.byDepartment().get("(none)")).containsEntry(SeatAssignment.UNASSIGNED, 1L);
+        assertThat(stats.lastDrift()).isZero();
+        verify(seatMetrics, never()).recordStatsDrift(anyLong());
+    }
+
+    @Test
+    void eventsMoveTheCountersByOne() {
+        applyMoveAndDelete();
+
+        SeatStats stats = index.snapshot();
+        assertThat(stats.totalSeats()).isEqualTo(4);
+        assertThat(stats.totalEmployees()).isEqualTo(2);
+        assertThat(stats.byStatus()).containsOnly(entry(SeatStatus.VACANT, 2L), entry(SeatStatus.OCCUPIED, 1L),
+                entry(SeatStatus.RESERVED, 1L));
+        assertThat(stats.byPrefix().get("A")).containsEntry(SeatStatus.VACANT, 1L).containsEntry(SeatStatus.OCCUPIED, 1L);
+        assertThat(stats.byDepartment()).containsOnlyKeys("Platform", "(none)");
+        assertThat(stats.byDepartment().get("Platform")).containsOnly(entry(SeatAssignment.ASSIGNED, 1L),
+                entry(SeatAssignment.UNASSIGNED, 0L), entry(SeatAssignment.WORK_FROM_HOME, 0L));
+
+        // Replaying an event is harmless
+        index.onSeatChanged(SeatChangedEvent.occupied("A-1", 2L));
+        assertThat(index.snapshot()).isEqualTo(stats);
+    }
+
+    @Test
+    void reconcileReportsHowFarTheCountersDriftedFromTheDatabase() {
+        applyMoveAndDelete();
+        // The database missed the move: A-1 is still vacant and employee 2 still works from home for Data
+        database(List.of(
+                        new Seat("A-1", SeatStatus.VACANT, null),
+                        new Seat("A-2", SeatStatus.VACANT, null),
+                        new Seat("B-1", SeatStatus.RESERVED, null),
+                        new Seat("7", SeatStatus.VACANT, null)),
+                List.of(
+                        new EmployeeSummary(2L, "Two", "Analyst", "Data", Employee.WORK_FROM_HOME),
+                        new EmployeeSummary(3L, "Three", "Intern", null, Employee.UNASSIGNED)));
+
+        index.reconcile();
+
+        // VACANT 2 vs 3, OCCUPIED 1 vs 0, Platform ASSIGNED 1 vs 0, Data WORK_FROM_HOME 0 vs 1
+        SeatStats stats = index.snapshot();
+        assertThat(stats.lastDrift()).isEqualTo(4);
+        verify(seatMetrics).recordStatsDrift(4);
+        assertThat(stats.byStatus()).containsEntry(SeatStatus.VACANT, 3L).containsEntry(SeatStatus.OCCUPIED, 0L);
+        assertThat(stats.byDepartment()).containsOnlyKeys("Data", "(none)");
+
+        index.reconcile();
+        assertThat(index.snapshot().lastDrift()).isZero();
+        verify(seatMetrics).recordStatsDrift(0);
+    }
+
+    @Test
+    void eventsCommittedWhileReadingTheDatabaseAreReplayedOnTheSnapshot() {
+        List<Seat> seats = List.of(
+                new Seat("A-1", SeatStatus.VACANT, null),
+                new Seat("A-2", SeatStatus.OCCUPIED, 1L),
+                new Seat("B-1", SeatStatus.RESERVED, null),
+                new Seat("7", SeatStatus.VACANT, null));
+        when(seatRepository.findAll()).thenAnswer(invocation -> {
+            // Committed after the seats were read, so the rows below do not include it
+            index.onSeatChanged(SeatChangedEvent.occupied("7", 3L));
+            Employee three = new Employee("Three", "Intern", "Data", "7");
+            three.setId(3L);
+            index.onEmployeeChanged(EmployeeChangedEvent.updated(Employee.UNASSIGNED, three));
+            return seats;
+        });
+
+        index.reconcile();
+
+        SeatStats stats = index.snapshot();
+        assertThat(stats.byStatus()).containsEntry(SeatStatus.OCCUPIED, 2L).containsEntry(SeatStatus.VACANT, 1L);
+        assertThat(stats.byPrefix().get("(none)")).containsEntry(SeatStatus.OCCUPIED, 1L);
+        assertThat(stats.byDepartment()).containsOnlyKeys("Data", "Platform");
+        assertThat(stats.byDepartment().get("Data")).containsEntry(SeatAssignment.ASSIGNED, 1L)
+                .containsEntry(SeatAssignment.WORK_FROM_HOME, 1L);
+        // The live counters saw the same events, so nothing drifted
+        assertThat(stats.lastDrift()).isZero();
+        verify(seatMetrics).recordStatsDrift(0);
+    }
+
+    @Test
+    void seatsAreCountedPerBuildingAndFloor() {
+        database(List.of(
+                        new Seat("F1-1", SeatStatus.OCCUPIED, 1L, "HQ", "1", "A"),
+                        new Seat("F2-1", SeatStatus.VACANT, null, "HQ", "2", "A"),
+                        new Seat("F2-2", SeatStatus.VACANT, null, "HQ", "2", null),
+                        new Seat("N-1", SeatStatus.RESERVED, null, "North", "10", null)),
+                List.of(new EmployeeSummary(1L, "One", "Engineer", "Platform", "F1-1")));
+        index.reconcile();
+
+        index.onSeatChanged(SeatChangedEvent.occupied("F2-2", 2L));
+        // A seat the index has not loaded yet counts on the default floor
+        index.onSeatChanged(SeatChangedEvent.occupied("X-1", 3L));
+
+        SeatStats stats = index.snapshot();
+        assertThat(stats.byFloor()).containsOnlyKeys("HQ", "North");
+        assertThat(stats.byFloor().get("HQ")).containsOnlyKeys("1", "2");
+        assertThat(stats.byFloor().get("HQ").get("1")).containsEntry(SeatStatus.OCCUPIED, 2L);
+        assertThat(stats.byFloor().get("HQ").get("2")).containsEntry(SeatStatus.VACANT, 1L)
+                .containsEntry(SeatStatus.OCCUPIED, 1L);
+        assertThat(stats.byFloor().get("North").get("10")).containsEntry(SeatStatus.RESERVED, 1L);
+    }
+
+    /**
+     * Employee 2 moves from working at home to seat A-1 and changes department; employee 1 leaves and
+     * frees A-2.
+     */
+    private void applyMoveAndDelete() {
+        index.onSeatChanged(SeatChangedEvent.occupied("A-1", 2L));
+        Employee two = new Employee("Two", "Analyst", "Platform", "A-1");
+        two.setId(2L);
+        index.onEmployeeChanged(EmployeeChangedEvent.updated(Employee.WORK_FROM_HOME, two));
+        Employee one = new Employee("One", "Engineer", "Platform", "A-2");
+        one.setId(1L);
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(one));
+        index.onSeatChanged(SeatChangedEvent.vacated("A-2", 1L));
+    }
+
+    private void database(List<Seat> seats, List<EmployeeSummary> employees) {
+        when(seatRepository.findAll()).thenReturn(seats);
+        when(employeeRepository.findPageAfter(any(), any(), any(), any(), any())).thenReturn(employees);
+    }
+}
@@ -0,0 +1,124 @@
+package com.SeatAllotment.SeatAllotment.service;
+
+import com.SeatAllotment.SeatAllotment.Configuration.CacheConfig;
+import com.SeatAllotment.SeatAllotment.Enum.SeatStatus;
+import com.SeatAllotment.SeatAllotment.Model.Employee;
+import com.SeatAllotment.SeatAllotment.Model.Seat;
+import com.SeatAllotment.SeatAllotment.Repository.EmployeeRepository;
+import com.SeatAllotment.SeatAllotment.Repository.SeatRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private SeatOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @MockitoSpyBean
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        seatRepository.deleteAll();
+        seatRepository.save(new Seat("S1", SeatStatus.OCCUPIED, 1L));
+        Employee employee = new Employee("Ada", "Engineer", "Platform", "S1");
+        employee.setId(1L);
+        employeeRepository.save(employee);
+        occupancyIndex.reload();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        clearInvocations(employeeRepository);
+    }
+
+    @Test
+    void simultaneousLookupsOfOneSeatRunOneQuery() throws Exception {
+        // A spy of a repository interface has no real method to call, so the held load goes to a plain repository
+        EmployeeRepository real = new JpaRepositoryFactory(entityManager).getRepository(EmployeeRepository.class);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            // Hold the first load open until every other caller has joined it
+            release.await(10, TimeUnit.SECONDS);
+            return AdditionalAnswers.delegatesTo(real).answer(invocation);
+        }).when(employeeRepository).findById(any());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long coalescedBefore = singleFlight.coalescedCount(CacheConfig.SEAT_OCCUPANTS);
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<Employee>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return seatService.getEmployeeBySeat("S1");
+                }));
+            }
+            start.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (singleFlight.coalescedCount(CacheConfig.SEAT_OCCUPANTS) - coalescedBefore < CALLERS - 1
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<Optional<Employee>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).get().extracting(Employee::getId).isEqualTo(1L);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(employeeRepository, times(1)).findById(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(singleFlight.coalescedCount(CacheConfig.SEAT_OCCUPANTS) - coalescedBefore).isEqualTo(CALLERS - 1);
+    }
+}
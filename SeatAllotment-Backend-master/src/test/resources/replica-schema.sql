@@ -0,0 +1,24 @@
+-- Tables the read-replica test reads from its second embedded database
+CREATE TABLE IF NOT EXISTS seats (
+    id VARCHAR(20) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    employee_id BIGINT,
+    building VARCHAR(50) NOT NULL DEFAULT 'HQ',
+    floor VARCHAR(20) NOT NULL DEFAULT '1',
+    zone VARCHAR(50),
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS employees (
+    employeeid BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    department VARCHAR(50) NOT NULL,
+    seat_id VARCHAR(20),
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
@@ -1,4 +1,4 @@
-import { ChangeDetectorRef, Component, OnInit } from '@angular/core';
+import { ChangeDetectorRef, Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { SeatComponent } from "../seat/seat.component";
 import { SeatService } from '../../services/seat.service';
@@ -15,7 +15,7 @@ import { NavbarComponent } from '../navbar/navbar.component';
   templateUrl: './Layout.component.html',
   styleUrl: './Layout.component.css'
 })
-export class LayoutComponent implements OnInit {
+export class LayoutComponent implements OnInit, OnDestroy {
   SeatStatus = SeatStatus;
   selectedEmployee: Employee | null = null;
   showPopup = false;
@@ -23,12 +23,69 @@ export class LayoutComponent implements OnInit {
   vacantSeatInfo: any = null;
   seats: Record<string, Seat> = {};  // ✅ Store seats as an object for quick access
   employees: Record<string, Employee> = {}; 
+  private seatChanges?: EventSource;
 
   constructor(private seatService: SeatService, private employeeService: EmployeeService, private cdr: ChangeDetectorRef) {}
 
   ngOnInit(): void {
-    this.loadSeats();
-    this.loadEmployees();
+    this.loadLayout();
+    this.listenForSeatChanges();
+  }
+
+  ngOnDestroy(): void {
+    this.seatChanges?.close();
+  }
+
+  // Apply pushed seat changes instead of reloading the whole floor after every edit
+  listenForSeatChanges(): void {
+    this.seatChanges = this.seatService.openSeatChangeStream();
+    this.seatChanges.addEventListener('seat', (event: MessageEvent) => {
+      const change = JSON.parse(event.data);
+      const seat = this.seats[change.seatId];
+      if (!seat || (change.employeeId != null && !this.employees[change.employeeId])) {
+        this.loadLayout(); // New seat or occupant we have no details for
+        return;
+      }
+      this.seats = {
+        ...this.seats,
+        [change.seatId]: { ...seat, status: this.mapSeatStatus(change.status), employee_id: change.employeeId }
+      };
+      if (change.employeeId != null) {
+        this.employees[change.employeeId].seat_id = change.seatId;
+      }
+      this.cdr.detectChanges();
+    });
+    this.seatChanges.addEventListener('reset', () => this.loadLayout());
+  }
+
+  // One request returns every seat with its occupant, so no client-side join is needed
+  loadLayout(): void {
+    this.seatService.getSeatLayout().subscribe(
+      (layout) => {
+        const seats: Record<string, Seat> = {};
+        const employees: Record<string, Employee> = {};
+        for (const entry of layout) {
+          seats[entry.seatId] = {
+            id: entry.seatId,
+            status: this.mapSeatStatus(entry.status),
+            employee_id: entry.employeeId as number
+          };
+          if (entry.employeeId != null) {
+            employees[entry.employeeId] = {
+              employeeid: entry.employeeId,
+              name: entry.employeeName || '',
+              role: entry.role || '',
+              department: entry.department || '',
+              seat_id: entry.seatId
+            };
+          }
+        }
+        this.seats = seats;
+        this.employees = employees;
+        this.cdr.detectChanges();
+      },
+      (error) => console.error('Error fetching seat layout:', error)
+    );
   }
 
   loadEmployees(): void {
@@ -12,6 +12,7 @@ import * as XLSX from "xlsx";
 import { saveAs } from "file-saver";
 import { SeatService } from '../../services/seat.service';
 import { Seat } from '../../interfaces/seat';
+import { firstValueFrom } from 'rxjs';
 
 @Component({
   selector: 'app-employee',
@@ -146,38 +147,15 @@ fetchVacantSeats() {
   }
   
 
+  // The backend streams the report row by row, so this works the same for ten employees or a million
   generateReportExcel(): void {
-    if (!this.employees || this.employees.length === 0) {
-        this.showError("No employee data available for generating the report.");
-        return;
-    }
-
-    const currentDate = new Date().toISOString().slice(0, 10);
-    const fileName = `Seating_Report_${currentDate}.xlsx`;
-
-    // Define Excel headers
-    const headers = [["Employee ID", "Name", "Department", "Role", "Seat No"]];
-
-    // Convert employee data to Excel format
-    const data = this.employees.map(emp => [
-        emp.employeeid, emp.name, emp.department, emp.role, emp.seat_id
-    ]);
-
-    // Create worksheet and add headers & data
-    const ws = XLSX.utils.aoa_to_sheet([...headers, ...data]);
-
-    // Adjust column width
-    ws["!cols"] = headers[0].map(() => ({ wch: 20 }));
-
-    // Create workbook and append worksheet
-    const wb = XLSX.utils.book_new();
-    XLSX.utils.book_append_sheet(wb, ws, "Seating Report");
-
-    // Generate Excel file and trigger download
-    const excelBuffer = XLSX.write(wb, { bookType: "xlsx", type: "array" });
-    const excelFile = new Blob([excelBuffer], { type: "application/octet-stream" });
-    saveAs(excelFile, fileName);
-}
+    const link = document.createElement('a');
+    link.href = this.employeeService.getExportUrl('xlsx');
+    link.download = '';
+    document.body.appendChild(link);
+    link.click();
+    document.body.removeChild(link);
+  }
 
 
   generateReport(): void {
@@ -594,84 +572,25 @@ private async parseExcelFile(file: File): Promise<any[]> {
 }
 
 private async uploadEmployeesToBackend(employees: any[]): Promise<{successCount: number, failedEmployees: any[]}> {
-  const failedEmployees: any[] = [];
-  let successCount = 0;
-  
-  for (const employee of employees) {
-    try {
-      await this.employeeService.addEmployee(employee).toPromise();
-      successCount++;
-    } catch (error: any) {
-      console.error('Failed to upload employee:', employee, error);
-      
-      // Extract detailed error reason with comprehensive logging
-      console.log('Full error object:', error);
-      console.log('Error status:', error.status);
-      console.log('Error error:', error.error);
-      console.log('Error message:', error.message);
-      
-      let errorReason = 'Unknown error';
-      
-      // Try multiple ways to extract error message
-      if (error.error?.message) {
-        errorReason = error.error.message;
-      } else if (error.error?.error) {
-        errorReason = error.error.error;
-      } else if (error.error?.details) {
-        errorReason = error.error.details;
-      } else if (error.message) {
-        errorReason = error.message;
-      } else if (error.status === 400) {
-        errorReason = 'Bad request - Invalid data format';
-      } else if (error.status === 409) {
-        errorReason = 'Conflict - Employee ID or seat already exists';
-      } else if (error.status === 404) {
-        errorReason = 'Seat not found - Invalid seat number';
-      } else if (error.status === 500) {
-        errorReason = 'Server error - Please try again later';
-      } else if (error.status === 422) {
-        errorReason = 'Validation error - Invalid employee data';
-      } else if (error.status === 0) {
-        errorReason = 'Network error - Unable to connect to server';
-      }
-      
-      // Add specific validation for common issues
-      if (errorReason.toLowerCase().includes('seat') && errorReason.toLowerCase().includes('occupied')) {
-        errorReason = `Seat ${employee.seat_id} is already occupied`;
-      } else if (errorReason.toLowerCase().includes('employee') && errorReason.toLowerCase().includes('exists')) {
-        errorReason = `Employee ID ${employee.employeeid} already exists`;
-      } else if (errorReason.toLowerCase().includes('seat') && errorReason.toLowerCase().includes('not found')) {
-        errorReason = `Seat ${employee.seat_id} does not exist`;
-      } else if (errorReason.toLowerCase().includes('invalid')) {
-        errorReason = `Invalid data format for employee ${employee.name}`;
-      } else if (errorReason.toLowerCase().includes('duplicate')) {
-        errorReason = `Duplicate entry for employee ${employee.name} (ID: ${employee.employeeid})`;
-      } else if (errorReason.toLowerCase().includes('constraint')) {
-        errorReason = `Database constraint violation for employee ${employee.name}`;
-      } else if (errorReason.toLowerCase().includes('validation')) {
-        errorReason = `Validation failed for employee ${employee.name}`;
-      }
-      
-      // If still unknown, provide more context
-      if (errorReason === 'Unknown error') {
-        errorReason = `Unknown error for employee ${employee.name} (ID: ${employee.employeeid}, Seat: ${employee.seat_id})`;
-        if (error.status) {
-          errorReason += ` - Status: ${error.status}`;
-        }
-        if (error.error && typeof error.error === 'object') {
-          errorReason += ` - Details: ${JSON.stringify(error.error)}`;
-        }
-      }
-      
-      failedEmployees.push({
-        ...employee,
-        error: errorReason,
-        statusCode: error.status || 'Unknown'
-      });
-    }
+  // One request for the whole sheet; the backend validates every row and reports each one
+  try {
+    const report = await firstValueFrom(this.employeeService.addEmployeesBulk(employees));
+    const failedEmployees = report.rows
+      .filter((row: any) => row.status === 'FAILED')
+      .map((row: any) => ({
+        ...employees[row.row - 1],
+        error: row.message,
+        statusCode: 400
+      }));
+    return { successCount: report.succeeded, failedEmployees };
+  } catch (error: any) {
+    console.error('Bulk upload request failed:', error);
+    const errorReason = error?.message || 'Network error - Unable to connect to server';
+    return {
+      successCount: 0,
+      failedEmployees: employees.map(employee => ({ ...employee, error: errorReason, statusCode: error?.status || 'Unknown' }))
+    };
   }
-  
-  return { successCount, failedEmployees };
 }
 
 private generateFailureReport(failedEmployees: any[]): void {
@@ -0,0 +1,8 @@
+export interface SeatLayoutEntry {
+  seatId: string;
+  status: string;
+  employeeId: number | null;
+  employeeName: string | null;
+  role: string | null;
+  department: string | null;
+}
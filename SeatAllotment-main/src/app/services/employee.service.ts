@@ -1,8 +1,8 @@
-import { HttpClient, HttpErrorResponse } from '@angular/common/http';
+import { HttpClient, HttpErrorResponse, HttpHeaders, HttpParams } from '@angular/common/http';
 import { Injectable } from '@angular/core';
-import { Observable, throwError } from 'rxjs';
+import { Observable, of, throwError, timer } from 'rxjs';
 import { Employee } from '../interfaces/employee';
-import { catchError, map } from 'rxjs/operators';
+import { catchError, map, retry } from 'rxjs/operators';
 
 @Injectable({
   providedIn: 'root'
@@ -12,6 +12,21 @@ export class EmployeeService {
 
   constructor(private http: HttpClient) {}
 
+  // One key per logical write: retries below resend the same request object, so the backend
+  // answers a repeat with the first response instead of running the write twice.
+  private idempotencyHeaders(): HttpHeaders {
+    return new HttpHeaders({ 'Idempotency-Key': crypto.randomUUID() });
+  }
+
+  // Retry only when the response never arrived (network error, gateway timeout, busy backend)
+  private retryLostResponses<T>() {
+    return retry<T>({
+      count: 2,
+      delay: (error: HttpErrorResponse, attempt: number) =>
+        [0, 502, 503, 504].includes(error.status) ? timer(500 * attempt) : throwError(() => error)
+    });
+  }
+
   getEmployees(): Observable<Employee[]> {
     return this.http.get<Employee[]>(`${this.apiUrl}/list`).pipe(
       map((employees: Employee[]) =>
@@ -25,6 +40,38 @@ export class EmployeeService {
   }
   
 
+  // Keyset page of lightweight employee rows; pass the returned nextAfter to fetch the next page
+  getEmployeePage(options: { after?: number; limit?: number; department?: string; role?: string;
+                             assignment?: 'ASSIGNED' | 'UNASSIGNED' | 'WORK_FROM_HOME' } = {}):
+      Observable<{ items: any[]; nextAfter: number | null; total: number | null }> {
+    let params = new HttpParams();
+    Object.entries(options).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== '') {
+        params = params.set(key, String(value));
+      }
+    });
+    return this.http.get<any>(`${this.apiUrl}/page`, { params, observe: 'response' }).pipe(
+      map(response => ({
+        items: response.body.items,
+        nextAfter: response.body.nextAfter,
+        total: response.headers.has('X-Total-Count') ? Number(response.headers.get('X-Total-Count')) : null
+      })),
+      catchError(this.handleError)
+    );
+  }
+
+  searchEmployees(query: string, limit = 10): Observable<any[]> {
+    const params = new HttpParams().set('q', query).set('limit', limit);
+    return this.http.get<any[]>(`${this.apiUrl}/search`, { params }).pipe(
+      catchError(this.handleError)
+    );
+  }
+
+  // Download URL for the streamed employee report; open it directly instead of going through HttpClient
+  getExportUrl(format: 'csv' | 'xlsx'): string {
+    return `${this.apiUrl}/export?format=${format}`;
+  }
+
   getEmployeeById(id: number): Observable<Employee> {
     return this.http.get<Employee>(`${this.apiUrl}/${id}`).pipe(
       catchError(this.handleError)
@@ -32,15 +79,17 @@ export class EmployeeService {
   }
 
   getEmployeeBySeat(seatId: string): Observable<Employee | null> {
-    return this.http.get<Employee[]>(`${this.apiUrl}/list`).pipe(
-      map((employees: Employee[]) => employees.find(emp => emp.seat_id === seatId) || null),
-      catchError(this.handleError)
+    return this.http.get<Employee>(`${this.apiUrl}/by-seat/${encodeURIComponent(seatId)}`).pipe(
+      catchError((error: HttpErrorResponse) =>
+        error.status === 404 ? of(null) : this.handleError(error)
+      )
     );
   }
 
 
 addEmployee(employee: any): Observable<any> {
-  return this.http.post<any>(`${this.apiUrl}/create`, employee).pipe(
+  return this.http.post<any>(`${this.apiUrl}/create`, employee, { headers: this.idempotencyHeaders() }).pipe(
+      this.retryLostResponses(),
       catchError((error: HttpErrorResponse) => {
           console.error("❌ API Error:", error);
           console.error("❌ Error Status:", error.status);
@@ -62,8 +111,15 @@ addEmployee(employee: any): Observable<any> {
 
 
 
+  addEmployeesBulk(employees: any[]): Observable<any> {
+    return this.http.post<any>(`${this.apiUrl}/bulk`, employees).pipe(
+      catchError(this.handleError)
+    );
+  }
+
   updateEmployee(id: number, employee: Employee): Observable<any> { 
-    return this.http.put<any>(`${this.apiUrl}/update/${id}`, employee).pipe(
+    return this.http.put<any>(`${this.apiUrl}/update/${id}`, employee, { headers: this.idempotencyHeaders() }).pipe(
+      this.retryLostResponses(),
       map((response) => response.employee), // Extract the actual employee object
       catchError((error: HttpErrorResponse) => {
         console.error("API Error:", error);
@@ -73,7 +129,8 @@ addEmployee(employee: any): Observable<any> {
 }
 
   deleteEmployee(id: number): Observable<any> {
-    return this.http.delete(`${this.apiUrl}/delete/${id}`).pipe(
+    return this.http.delete(`${this.apiUrl}/delete/${id}`, { headers: this.idempotencyHeaders() }).pipe(
+      this.retryLostResponses(),
       map(response => response), // Map response directly
       catchError(this.handleError)
     );
@@ -4,6 +4,7 @@ import { Injectable } from '@angular/core';
 import { Observable, of } from 'rxjs';  // ✅ Import 'of' from 'rxjs'
 import { Seat } from '../interfaces/seat';
 import { Employee } from '../interfaces/employee';
+import { SeatLayoutEntry } from '../interfaces/seat-layout-entry';
 
 
   @Injectable({
@@ -23,6 +24,16 @@ import { Employee } from '../interfaces/employee';
       return this.http.get<Seat[]>(this.apiUrl);
     }
 
+    // Seats joined with their occupants; the browser revalidates it with the ETag
+    getSeatLayout(): Observable<SeatLayoutEntry[]> {
+      return this.http.get<SeatLayoutEntry[]>(`${this.apiUrl}/layout`);
+    }
+
+    // Server-sent seat changes; EventSource resumes with Last-Event-ID after a reconnect
+    openSeatChangeStream(): EventSource {
+      return new EventSource(`${this.apiUrl}/stream`);
+    }
+
     getEmployeeBySeat(seatId: string): Observable<Employee | { seatId: string; status: string; message: string } | null> {
       return this.http.get<Employee | any>(`${this.apiUrl}/${encodeURIComponent(seatId)}/employee-details`).pipe(
         map((response: any) => {
@@ -10,10 +10,15 @@ CREATE TABLE IF NOT EXISTS seats (
     id VARCHAR(10) PRIMARY KEY,
     status ENUM('OCCUPIED', 'VACANT', 'RESERVED') NOT NULL DEFAULT 'VACANT',
     employee_id BIGINT NULL,
+    building VARCHAR(50) NOT NULL DEFAULT 'HQ',
+    floor VARCHAR(20) NOT NULL DEFAULT '1',
+    zone VARCHAR(50) NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_status (status),
-    INDEX idx_employee_id (employee_id)
+    INDEX idx_employee_id (employee_id),
+    INDEX idx_seats_updated (updated_at, id),
+    INDEX idx_seats_location (building, floor, zone)
 );
 
 -- Create employees table
@@ -28,9 +33,78 @@ CREATE TABLE IF NOT EXISTS employees (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_employeeid (employeeid),
     INDEX idx_seat_id (seat_id),
-    INDEX idx_department (department)
+    INDEX idx_department (department),
+    INDEX idx_employees_updated (updated_at, employeeid)
 );
 
+-- Create hot-desk bookings table ([start_time, end_time) per seat, never overlapping)
+CREATE TABLE IF NOT EXISTS seat_bookings (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    seat_id VARCHAR(20) NOT NULL,
+    employee_id BIGINT NOT NULL,
+    start_time DATETIME(6) NOT NULL,
+    end_time DATETIME(6) NOT NULL,
+    INDEX idx_booking_seat_start (seat_id, start_time),
+    INDEX idx_booking_employee_start (employee_id, start_time)
+);
+
+-- Create append-only seat history (claims, releases and moves, written in batches by the app)
+CREATE TABLE IF NOT EXISTS seat_audit (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    seat_id VARCHAR(20) NOT NULL,
+    employee_id BIGINT NULL,
+    action VARCHAR(10) NOT NULL,
+    previous_seat_id VARCHAR(20) NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    INDEX idx_audit_seat (seat_id, id),
+    INDEX idx_audit_employee (employee_id, id)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    status INT NULL,
+    body LONGTEXT NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_idempotency_created (created_at)
+);
+
+-- Stamped on the primary and read back from a read replica to measure its lag
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+-- Bring tables created by an older version of this script up to date. CREATE TABLE IF NOT EXISTS leaves
+-- an existing table alone, and the production profile validates the schema instead of updating it, so
+-- columns added since are added here. MySQL 8.0 has no ADD COLUMN IF NOT EXISTS, hence the procedure.
+DROP PROCEDURE IF EXISTS add_column_if_missing;
+DELIMITER //
+CREATE PROCEDURE add_column_if_missing(IN table_name_in VARCHAR(64), IN column_name_in VARCHAR(64),
+                                       IN definition_in VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = DATABASE() AND table_name = table_name_in
+                     AND column_name = column_name_in) THEN
+        SET @ddl = CONCAT('ALTER TABLE ', table_name_in, ' ADD COLUMN ', column_name_in, ' ', definition_in);
+        PREPARE add_column FROM @ddl;
+        EXECUTE add_column;
+        DEALLOCATE PREPARE add_column;
+    END IF;
+END //
+DELIMITER ;
+
+-- Existing seats land in the default location
+CALL add_column_if_missing('seats', 'building', 'VARCHAR(50) NOT NULL DEFAULT ''HQ''');
+CALL add_column_if_missing('seats', 'floor', 'VARCHAR(20) NOT NULL DEFAULT ''1''');
+CALL add_column_if_missing('seats', 'zone', 'VARCHAR(50) NULL');
+-- Read by the consistency checker; absent from tables Hibernate created before the entities mapped it
+CALL add_column_if_missing('seats', 'updated_at',
+                           'TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP');
+CALL add_column_if_missing('employees', 'updated_at',
+                           'TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP');
+DROP PROCEDURE add_column_if_missing;
+
 -- Insert sample seats data
 INSERT IGNORE INTO seats (id, status) VALUES
 ('1', 'VACANT'),
@@ -144,6 +218,12 @@ INSERT IGNORE INTO seats (id, status) VALUES
 ('P1', 'VACANT'),
 ('P2', 'VACANT');
 
+-- Place the sample seats: numbered desks split over two floors, cabins and pods in their own zones
+UPDATE seats SET zone = 'Open' WHERE id REGEXP '^[0-9]+$';
+UPDATE seats SET floor = '2' WHERE id REGEXP '^[0-9]+$' AND CAST(id AS UNSIGNED) > 45;
+UPDATE seats SET floor = '2', zone = 'Cabins' WHERE id LIKE 'C%';
+UPDATE seats SET zone = 'Pods' WHERE id LIKE 'P%';
+
 -- Insert sample employees data
 INSERT IGNORE INTO employees (employeeid, name, department, role, seat_id) VALUES
 ('EMP001', 'John Doe', 'IT', 'Developer', '1'),
@@ -159,9 +239,36 @@ UPDATE seats SET status = 'OCCUPIED', employee_id = 3 WHERE id = '3';
 UPDATE seats SET status = 'OCCUPIED', employee_id = 4 WHERE id = '4';
 UPDATE seats SET status = 'OCCUPIED', employee_id = 5 WHERE id = '5';
 
--- Create indexes for better performance
-CREATE INDEX IF NOT EXISTS idx_seats_status_employee ON seats(status, employee_id);
-CREATE INDEX IF NOT EXISTS idx_employees_department_role ON employees(department, role);
+-- Create indexes for better performance. The production profile runs with ddl-auto=validate, so the
+-- @Index declarations on the entities are never applied; tables created by an older version of this
+-- script only get them here. MySQL 8.0 has no CREATE INDEX IF NOT EXISTS, hence the procedure, which
+-- makes this block safe to run again against an existing database.
+DROP PROCEDURE IF EXISTS create_index_if_missing;
+DELIMITER //
+CREATE PROCEDURE create_index_if_missing(IN table_name_in VARCHAR(64), IN index_name_in VARCHAR(64),
+                                         IN columns_in VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = table_name_in
+                     AND index_name = index_name_in) THEN
+        SET @ddl = CONCAT('CREATE INDEX ', index_name_in, ' ON ', table_name_in, ' (', columns_in, ')');
+        PREPARE create_index FROM @ddl;
+        EXECUTE create_index;
+        DEALLOCATE PREPARE create_index;
+    END IF;
+END //
+DELIMITER ;
+
+CALL create_index_if_missing('seats', 'idx_seats_status_employee', 'status, employee_id');
+CALL create_index_if_missing('employees', 'idx_employees_department_role', 'department, role');
+-- Declared on Employee: listing filters (GET /employees/page) and the consistency checker's watermark
+CALL create_index_if_missing('employees', 'idx_department', 'department');
+CALL create_index_if_missing('employees', 'idx_seat_id', 'seat_id');
+CALL create_index_if_missing('employees', 'idx_employees_updated', 'updated_at, employeeid');
+-- Declared on Seat: the consistency checker's watermark and location filters (GET /seats?floor=...)
+CALL create_index_if_missing('seats', 'idx_seats_updated', 'updated_at, id');
+CALL create_index_if_missing('seats', 'idx_seats_location', 'building, floor, zone');
+DROP PROCEDURE create_index_if_missing;
 
 -- Create a view for seat allocation summary
 CREATE OR REPLACE VIEW seat_allocation_summary AS